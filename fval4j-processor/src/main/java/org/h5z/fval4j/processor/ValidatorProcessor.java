@@ -0,0 +1,274 @@
+package org.h5z.fval4j.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.RecordComponentElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.PrimitiveType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+
+import org.h5z.fval4j.annotations.Contains;
+import org.h5z.fval4j.annotations.Gt;
+import org.h5z.fval4j.annotations.LengthBetween;
+import org.h5z.fval4j.annotations.Matches;
+import org.h5z.fval4j.annotations.Required;
+import org.h5z.fval4j.annotations.Valid;
+import org.h5z.fval4j.annotations.Validated;
+
+/**
+ * Generates a validator for each record annotated with {@link Validated}.
+ *
+ * The generated validator calls the accessors of the record directly and reports the errors of each component at
+ * the name of the component, exactly like <code>all(required(name, Record::name, ...), optional(...), ...)</code>
+ * built by hand with the default errors would. Constraints are applied in their declaration order.
+ */
+@SupportedAnnotationTypes("org.h5z.fval4j.annotations.Validated")
+public final class ValidatorProcessor extends AbstractProcessor {
+
+    private static final String SUFFIX = "Validator";
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (Element element : roundEnv.getElementsAnnotatedWith(Validated.class)) {
+            if (element.getKind() != ElementKind.RECORD) {
+                error(element, "@Validated can only be applied to records");
+                continue;
+            }
+            TypeElement record = (TypeElement) element;
+            if (record.getModifiers().contains(Modifier.PRIVATE) || !record.getTypeParameters().isEmpty()) {
+                error(element, "@Validated records must not be private nor generic");
+                continue;
+            }
+            try {
+                this.generate(record);
+            } catch (IOException e) {
+                error(element, "Cannot generate the validator: " + e.getMessage());
+            }
+        }
+        return true;
+    }
+
+    private void generate(TypeElement record) throws IOException {
+        String packageName = this.processingEnv.getElementUtils().getPackageOf(record).getQualifiedName().toString();
+        String simpleName = generatedName(record);
+        String recordName = record.getQualifiedName().toString();
+
+        List<Component> components = new ArrayList<>();
+        for (RecordComponentElement component : record.getRecordComponents()) {
+            String validator = this.validatorOf(component);
+            if (validator == null) {
+                return;
+            }
+            if (validator.isEmpty()) {
+                continue;
+            }
+            components.add(new Component(
+                component.getSimpleName().toString(),
+                this.boxed(component.asType()).toString(),
+                validator));
+        }
+
+        StringBuilder source = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+        source.append("import static org.organicdesign.fp.StaticImports.map;\n")
+              .append("import static org.organicdesign.fp.StaticImports.tup;\n")
+              .append("import static org.organicdesign.fp.StaticImports.vec;\n\n")
+              .append("import org.h5z.fval4j.Core;\n")
+              .append("import org.h5z.fval4j.Core.Validator;\n")
+              .append("import org.h5z.fval4j.DefaultErrors;\n")
+              .append("import org.h5z.fval4j.DefaultErrors.ValidationError;\n")
+              .append("import org.h5z.fval4j.Descriptor;\n")
+              .append("import org.h5z.fval4j.Trie;\n")
+              .append("import org.h5z.fval4j.data.ValidationResult;\n\n")
+              .append("@javax.annotation.processing.Generated(\"").append(ValidatorProcessor.class.getName()).append("\")\n")
+              .append("public final class ").append(simpleName)
+              .append(" implements Validator<").append(recordName).append(", ").append(recordName).append(", ValidationError> {\n\n");
+
+        for (Component component : components) {
+            source.append("    private static final Validator<").append(component.type).append(", ").append(component.type)
+                  .append(", ValidationError> ").append(component.constant()).append(" = ")
+                  .append(component.validator).append(";\n\n");
+        }
+
+        source.append("    public static final ").append(simpleName).append(" INSTANCE = new ").append(simpleName).append("();\n\n")
+              .append("    private ").append(simpleName).append("() {\n    }\n\n")
+              .append("    @Override\n")
+              .append("    public ValidationResult<ValidationError, ").append(recordName).append(", ").append(recordName)
+              .append("> apply(").append(recordName).append(" value) {\n")
+              .append("        Trie<ValidationError> trie = Trie.trie(vec(), map(");
+        for (int i = 0; i < components.size(); i++) {
+            Component component = components.get(i);
+            source.append(i == 0 ? "\n" : ",\n")
+                  .append("            tup(\"").append(component.name).append("\", ")
+                  .append(component.constant()).append(".apply(value.").append(component.name).append("())._1())");
+        }
+        source.append("));\n")
+              .append("        return new ValidationResult<>(trie, value, trie.isValid() ? value : null);\n")
+              .append("    }\n\n")
+              .append("    @Override\n")
+              .append("    public Descriptor descriptor() {\n")
+              .append("        return Descriptor.descriptor(Descriptor.ALL, vec(), vec(");
+        for (int i = 0; i < components.size(); i++) {
+            Component component = components.get(i);
+            source.append(i == 0 ? "\n" : ",\n")
+                  .append("            Descriptor.keyed(\"").append(component.name).append("\", ")
+                  .append(component.constant()).append(".descriptor(), this)");
+        }
+        source.append("), this);\n")
+              .append("    }\n\n")
+              .append("}\n");
+
+        String qualifiedName = packageName.isEmpty() ? simpleName : packageName + "." + simpleName;
+        try (Writer writer = this.processingEnv.getFiler().createSourceFile(qualifiedName, record).openWriter()) {
+            writer.write(source.toString());
+        }
+    }
+
+    /**
+     * @return the expression creating the validator of the given component, an empty string if the component is
+     *         not constrained or <code>null</code> if the constraints are invalid.
+     */
+    private String validatorOf(RecordComponentElement component) {
+        TypeMirror type = this.boxed(component.asType());
+        boolean required = false;
+        List<String> constraints = new ArrayList<>();
+
+        for (AnnotationMirror mirror : component.getAnnotationMirrors()) {
+            String annotation = ((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().toString();
+            if (annotation.equals(Required.class.getName())) {
+                required = true;
+            } else if (annotation.equals(LengthBetween.class.getName())) {
+                if (!this.isString(type)) {
+                    error(component, "@LengthBetween can only be applied to strings");
+                    return null;
+                }
+                LengthBetween lengthBetween = component.getAnnotation(LengthBetween.class);
+                constraints.add("DefaultErrors.lengthBetween(%d, %d)".formatted(lengthBetween.min(), lengthBetween.max()));
+            } else if (annotation.equals(Matches.class.getName())) {
+                if (!this.isString(type)) {
+                    error(component, "@Matches can only be applied to strings");
+                    return null;
+                }
+                constraints.add("DefaultErrors.matches(%s)".formatted(this.literal(component.getAnnotation(Matches.class).value())));
+            } else if (annotation.equals(Contains.class.getName())) {
+                if (!this.isString(type)) {
+                    error(component, "@Contains can only be applied to strings");
+                    return null;
+                }
+                constraints.add("DefaultErrors.contains(%s)".formatted(this.literal(component.getAnnotation(Contains.class).value())));
+            } else if (annotation.equals(Gt.class.getName())) {
+                long value = component.getAnnotation(Gt.class).value();
+                if (this.is(type, Integer.class)) {
+                    if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+                        error(component, "@Gt(%d) does not fit in an int".formatted(value));
+                        return null;
+                    }
+                    constraints.add("DefaultErrors.gt(%d)".formatted((int) value));
+                } else if (this.is(type, Long.class)) {
+                    constraints.add("DefaultErrors.gt(%dL)".formatted(value));
+                } else {
+                    error(component, "@Gt can only be applied to int and long");
+                    return null;
+                }
+            } else if (annotation.equals(Valid.class.getName())) {
+                if (type.getKind() != TypeKind.DECLARED
+                        || ((DeclaredType) type).asElement().getKind() != ElementKind.RECORD) {
+                    error(component, "@Valid can only be applied to records");
+                    return null;
+                }
+                TypeElement nested = (TypeElement) ((DeclaredType) type).asElement();
+                if (nested.getAnnotation(Validated.class) == null) {
+                    error(component, "@Valid can only be applied to records annotated with @Validated");
+                    return null;
+                }
+                PackageElement nestedPackage = this.processingEnv.getElementUtils().getPackageOf(nested);
+                String prefix = nestedPackage.isUnnamed() ? "" : nestedPackage.getQualifiedName() + ".";
+                constraints.add(prefix + generatedName(nested) + ".INSTANCE");
+            }
+        }
+
+        if (!required && constraints.isEmpty()) {
+            return "";
+        }
+
+        String validator = switch (constraints.size()) {
+            case 0 -> "org.h5z.fval4j.Validators.identity()";
+            case 1 -> constraints.get(0);
+            default -> "Core.all(java.util.List.of(%s))".formatted(String.join(", ", constraints));
+        };
+        return required
+                ? "DefaultErrors.required(%s)".formatted(validator)
+                : "Core.optional(%s)".formatted(validator);
+    }
+
+    private TypeMirror boxed(TypeMirror type) {
+        if (type.getKind().isPrimitive()) {
+            return this.processingEnv.getTypeUtils().boxedClass((PrimitiveType) type).asType();
+        }
+        return type;
+    }
+
+    private boolean isString(TypeMirror type) {
+        return this.is(type, String.class);
+    }
+
+    private boolean is(TypeMirror type, Class<?> clazz) {
+        TypeElement element = this.processingEnv.getElementUtils().getTypeElement(clazz.getName());
+        return this.processingEnv.getTypeUtils().isSameType(type, element.asType());
+    }
+
+    private String literal(String value) {
+        return this.processingEnv.getElementUtils().getConstantExpression(value);
+    }
+
+    private void error(Element element, String message) {
+        this.processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+
+    /**
+     * @return the simple name of the validator generated for the given record. The names of the enclosing types of
+     *         nested records are prepended, separated by '_'.
+     */
+    private static String generatedName(TypeElement record) {
+        StringBuilder name = new StringBuilder(record.getSimpleName());
+        Element enclosing = record.getEnclosingElement();
+        while (enclosing instanceof TypeElement type) {
+            name.insert(0, type.getSimpleName() + "_");
+            enclosing = type.getEnclosingElement();
+        }
+        return name.append(SUFFIX).toString();
+    }
+
+    private record Component(String name, String type, String validator) {
+
+        String constant() {
+            return this.name.replaceAll("([a-z0-9])([A-Z])", "$1_$2").toUpperCase(Locale.ROOT) + "_VALIDATOR";
+        }
+
+    }
+
+}
@@ -0,0 +1,127 @@
+package org.h5z.fval4j.processor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.h5z.fval4j.Core.all;
+import static org.h5z.fval4j.Core.optional;
+import static org.h5z.fval4j.DefaultErrors.gt;
+import static org.h5z.fval4j.DefaultErrors.lengthBetween;
+import static org.h5z.fval4j.DefaultErrors.matches;
+import static org.h5z.fval4j.DefaultErrors.required;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.util.List;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+
+import org.h5z.fval4j.Core.Validator;
+import org.h5z.fval4j.DefaultErrors.ValidationError;
+import org.h5z.fval4j.annotations.Gt;
+import org.h5z.fval4j.annotations.LengthBetween;
+import org.h5z.fval4j.annotations.Matches;
+import org.h5z.fval4j.annotations.Required;
+import org.h5z.fval4j.annotations.Valid;
+import org.h5z.fval4j.annotations.Validated;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class ValidatorProcessorUnitTest {
+
+    @TempDir
+    Path dir;
+
+    @Validated
+    record Address(@Required @LengthBetween(min = 3, max = 42) String street,
+                   @Gt(0) int number) {}
+
+    @Validated
+    record User(@Required @Matches("^[\\w]+$") @LengthBetween(min = 3, max = 16) String userName,
+                @LengthBetween(min = 3, max = 42) String firstName,
+                @Valid Address address,
+                String comment) {}
+
+    // the validator generated for a User is equivalent to this one
+    static final Validator<Address, Address, ValidationError> ADDRESS = all(
+        required("street", Address::street, all(lengthBetween(3, 42))),
+        optional("number", Address::number, gt(0)));
+
+    static final Validator<User, User, ValidationError> USER = all(
+        required("userName", User::userName, all(matches("^[\\w]+$"), lengthBetween(3, 16))),
+        optional("firstName", User::firstName, lengthBetween(3, 42)),
+        optional("address", User::address, ADDRESS));
+
+    @Test
+    @DisplayName("Generates a validator reporting errors at the same paths as the hand-built one")
+    void t0() {
+        User invalid = new User(null, "Jo", new Address(null, 0), "no constraint");
+        User valid = new User("john_doe", "John", new Address("Main street", 1), null);
+
+        assertAll(
+            () -> assertThat(ValidatorProcessorUnitTest_UserValidator.INSTANCE.validate(invalid))
+                    .isEqualTo(USER.validate(invalid)),
+            () -> assertThat(ValidatorProcessorUnitTest_UserValidator.INSTANCE.validate(invalid).getErrors("address", "street"))
+                    .isNotEmpty(),
+            () -> assertThat(ValidatorProcessorUnitTest_UserValidator.INSTANCE.validate(valid))
+                    .isEqualTo(USER.validate(valid)));
+    }
+
+    @Test
+    @DisplayName("Generates a validator for nested records")
+    void t1() {
+        Address address = new Address("St", -1);
+
+        assertThat(ValidatorProcessorUnitTest_AddressValidator.INSTANCE.validate(address))
+            .isEqualTo(ADDRESS.validate(address));
+    }
+
+    @Test
+    @DisplayName("Reports an error for an int bound which does not fit in an int")
+    void t2() {
+        assertThat(errors("""
+                @org.h5z.fval4j.annotations.Validated
+                record Counter(@org.h5z.fval4j.annotations.Gt(3_000_000_000L) int count) {}
+                """)).containsExactly("@Gt(3000000000) does not fit in an int");
+    }
+
+    @Test
+    @DisplayName("Reports an error for a nested record without generated validator")
+    void t3() {
+        assertThat(errors("""
+                record Address(String street) {}
+
+                @org.h5z.fval4j.annotations.Validated
+                record User(@org.h5z.fval4j.annotations.Valid Address address) {}
+                """)).containsExactly("@Valid can only be applied to records annotated with @Validated");
+    }
+
+    /**
+     * @return the errors reported by the processor when compiling the given source.
+     */
+    List<String> errors(String source) {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        JavaFileObject file = new SimpleJavaFileObject(URI.create("string:///Source.java"), JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                return source;
+            }
+        };
+        compiler.getTask(null, null, diagnostics,
+                List.of("-proc:only", "-processor", ValidatorProcessor.class.getName(),
+                        "-classpath", System.getProperty("java.class.path"),
+                        "-s", this.dir.toString()),
+                null, List.of(file)).call();
+        return diagnostics.getDiagnostics().stream()
+                .filter(d -> d.getKind() == Diagnostic.Kind.ERROR)
+                .map(d -> d.getMessage(null))
+                .toList();
+    }
+
+}
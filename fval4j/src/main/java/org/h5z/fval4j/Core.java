@@ -0,0 +1,1487 @@
+package org.h5z.fval4j;
+
+import static org.h5z.fval4j.Trie.*;
+import static org.organicdesign.fp.StaticImports.map;
+import static org.organicdesign.fp.StaticImports.tup;
+import static org.organicdesign.fp.StaticImports.vec;
+import static org.organicdesign.fp.StaticImports.xform;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+import org.h5z.fval4j.data.BloomFilter;
+import org.h5z.fval4j.data.ValidationResult;
+import org.h5z.fval4j.data.Prelude.Fn0;
+import org.h5z.fval4j.data.Prelude.Fn1;
+import org.h5z.fval4j.data.Prelude.Fn2;
+import org.h5z.fval4j.data.Prelude.F3;
+import org.h5z.fval4j.data.Prelude.Fn4;
+import org.h5z.fval4j.data.Prelude.Fn5;
+import org.h5z.fval4j.data.Prelude.Fn6;
+import org.h5z.fval4j.data.Prelude.Fn7;
+import org.h5z.fval4j.data.Prelude.Fn8;
+import org.organicdesign.fp.collections.ImList;
+import org.organicdesign.fp.collections.ImMap;
+import org.organicdesign.fp.collections.ImSet;
+import org.organicdesign.fp.collections.ImSortedMap;
+import org.organicdesign.fp.collections.ImSortedSet;
+
+public final class Core {
+
+    private Core() {
+        throw new IllegalAccessError("Cannot be instanciated");
+    }
+
+    @FunctionalInterface
+    public interface Validator<T, U, E> extends Fn1<T, ValidationResult<E, T, U>> {
+
+        /**
+         * Alias for {@link Function#apply(Object)}
+         */
+        default ValidationResult<E, T, U> validate(T t) {
+            return this.apply(t);
+        }
+
+        /**
+         * @return the {@link Descriptor} of this validator. Validators that were not created through a factory of
+         *         this library are described as {@link Descriptor#OPAQUE}.
+         */
+        default Descriptor descriptor() {
+            return Descriptor.opaque(this);
+        }
+
+        /**
+         * Validates a value which differs from a previously validated one at the given paths only. The combinators
+         * of this library rerun the validators keyed on a changed path and reuse the subtries of the previous result
+         * for the others; other validators validate the value again.
+         * 
+         * Errors of a validator which are not reported at the keys of the values it reads, like errors of
+         * validators reading several keys, must be reported at a path which changes with those values for the
+         * result to be the same as the one of {@link #validate(Object)}.
+         * 
+         * @param previous     the result of this validator for the previous value
+         * @param t            the value to validate
+         * @param changedPaths the paths, in the trie of results, of the parts of the value which changed. An empty
+         *                     path means that the whole value changed.
+         * 
+         * @return the same result as {@link #validate(Object)}.
+         */
+        default ValidationResult<E, T, U> revalidate(ValidationResult<E, T, U> previous, T t, Collection<List<String>> changedPaths) {
+            return this.apply(t);
+        }
+
+    }
+
+    /**
+     * @return the given changed paths under the given key without the key, <code>null</code> if none of them is
+     *         under the key.
+     */
+    public static Collection<List<String>> changedUnder(String key, Collection<List<String>> changedPaths) {
+        List<List<String>> changed = null;
+        for (List<String> path : changedPaths) {
+            if (path.isEmpty()) {
+                return vec(path);
+            }
+            if (key.equals(path.get(0))) {
+                if (changed == null) {
+                    changed = new ArrayList<>();
+                }
+                changed.add(path.subList(1, path.size()));
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * Base class of the validators created by the factories of this library that are not composed with the nodes of
+     * this class. It holds the {@link Descriptor} of the validator so that it is introspectable; subclasses implement
+     * {@link Validator#apply(Object)} directly.
+     *
+     * @param <T> the type of values validated
+     * @param <U> the type of the value of the result
+     * @param <E> the type of errors returned by the validator
+     */
+    public abstract static class Described<T, U, E> implements Validator<T, U, E> {
+
+        private final String kind;
+        private final List<?> params;
+        private final List<?> functions;
+        private final List<? extends Validator<?, ?, ?>> children;
+
+        /**
+         * @param kind     the kind of validator, usually the name of the factory
+         * @param params   the parameters the validator was created with
+         * @param children the validators the validator is composed of
+         */
+        protected Described(String kind, List<?> params, List<? extends Validator<?, ?, ?>> children) {
+            this(kind, params, vec(), children);
+        }
+
+        /**
+         * @param kind      the kind of validator, usually the name of the factory
+         * @param params    the parameters the validator was created with
+         * @param functions the functions the behaviour of the validator depends on, see {@link Descriptor}
+         * @param children  the validators the validator is composed of
+         */
+        protected Described(String kind, List<?> params, List<?> functions, List<? extends Validator<?, ?, ?>> children) {
+            this.kind = kind;
+            this.params = params;
+            this.functions = functions;
+            this.children = children;
+        }
+
+        @Override
+        public Descriptor descriptor() {
+            return Descriptor.descriptor(
+                this.kind,
+                this.params,
+                this.functions,
+                xform(this.children).map(c -> c.descriptor()).toImList(),
+                this);
+        }
+
+        /**
+         * @return the validator this validator applies to a part of its value, reporting its errors at the same
+         *         paths and revalidating it with the same changed paths, <code>null</code> if there is none.
+         *         {@link Core#all(List)} only reruns such a validator if the key its child is keyed on changed.
+         */
+        protected Validator<?, ?, ?> delegate() {
+            return null;
+        }
+
+    }
+
+    /**
+     * @return the key under which the given validator reports all of its errors, <code>null</code> if there is none
+     *         or if it is the root key.
+     */
+    static String keyOf(Validator<?, ?, ?> validator) {
+        while (true) {
+            if (validator instanceof Keyed<?, ?, ?> keyed) {
+                return ROOT_KEY.equals(keyed.key) ? null : keyed.key;
+            } else if (validator instanceof Generator.Path<?, ?, ?> path) {
+                return ROOT_KEY.equals(path.keys[0]) ? null : path.keys[0];
+            } else if (validator instanceof Prop<?, ?, ?, ?> prop) {
+                validator = prop.validator;
+            } else if (validator instanceof Described<?, ?, ?> described && described.delegate() != null) {
+                validator = described.delegate();
+            } else {
+                return null;
+            }
+        }
+    }
+
+    /**
+     * Creates a {@link Validator} given a key and another {@link Validator}.
+     * The given key will be used to access the result of the given valitors in the
+     * resulting trie.
+     * 
+     * Example: If the result of given {@link Validator} is keyed on a key 'x'
+     * and the given key is 'y' then the result of new validator will be accessible
+     * with the key at `x -> y` in the resulting trie.
+     * 
+     * @param <T>       the type of values validated
+     * @param <E>       the type of errors returned by the validator
+     * @param key       the key to index the result of the validator
+     * @param validator the validator to apply
+     * 
+     * @return
+     */
+    public static <T, U, E> Validator<T, U, E> keyed(String key, Validator<T, U, E> validator) {
+        return new Keyed<>(key, validator);
+    }
+
+    /**
+     * Creates a {@link Validator} reporting the errors of the supplied {@link Validator} at the root of the trie.
+     * 
+     * 
+     * @param <T>   the type of value being validated
+     * @param <E>   type type of error returned by the validator
+     * @param validator the validator to execute
+     * @return          a keyed validator.
+     */
+    public static <T, U, E> Validator<T, U, E> globally(Validator<T, U, E> validator) { 
+        return keyed(Trie.ROOT_KEY, validator);
+    }
+
+    public static <T, U, E> Validator<T, U, E> and(List<Validator<T, U, E>> validators) {
+        return new And<>(validators);
+    }
+
+    /**
+     * <b>Combinator</b> - Creates a validator that will execute sequentially the
+     * given validators and return the errors of the first failed validator. The
+     * execution of the validators stops at the first failed validators (fail-fast).
+     * 
+     * @param <T>        the type of values validated
+     * @param <E>        the type of errors returned by the validator
+     * @param validators the sequence of validator to evaluate.
+     * 
+     * @return a valid trie if all validators succeed. A trie with only the errors
+     *         of the first failed validator otherwise.
+     */
+    @SafeVarargs
+    public static <T, U, E> Validator<T, U, E> and(Validator<T, U, E>... validators) {
+        return and(Arrays.asList(validators));
+    }
+
+    /**
+     * <b>Combinator</b> - Creates a validator that will execute all the
+     * given validators and returns the aggregated results. This validator does not
+     * stop at the first failed validator.
+     * 
+     * @param <T>        the type of values validated
+     * @param <E>        the type of errors returned by the validator
+     * @param validators the sequence of validator to evaluate
+     * 
+     * @return a valid trie if all validators succeeded. A trie with the errors of
+     *         all failed validators otherwise.
+     */
+    @SafeVarargs
+    public static <T, U, E> Validator<T, U, E> all(Validator<T, U, E>... validators) {
+        return all(vec(validators));
+    }
+
+    /**
+     * @see {@link Core#all(Validator...)}
+     */
+    public static <T, U, E> Validator<T, U, E> all(List<Validator<T, U, E>> validators) {
+        return new All<>(validators);
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T, U1, U2, E, X> Validator<T, X, E> all(Validator<T, U1, E> v0, Validator<T, U2, E> v1, Fn2<U1, U2, X> fn) {
+        return new Combine<>(vec(v0, v1), xs -> fn.apply((U1) xs[0], (U2) xs[1]));
+    }
+
+    public static <T, U1, U2, E> Validator<T, T, E> all(Validator<T, U1, E> v0, Validator<T, U2, E> v1) {
+        return new All<>(vec(v0, v1), true);
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T, U1, U2, U3, E, X> Validator<T, X, E> all(Validator<T, U1, E> v0, Validator<T, U2, E> v1, Validator<T, U3, E> v2, F3<U1, U2, U3, X> fn) {
+        return new Combine<>(vec(v0, v1, v2), xs -> fn.apply((U1) xs[0], (U2) xs[1], (U3) xs[2]));
+    }
+
+    public static <T, U1, U2, U3, E> Validator<T, T, E> all(Validator<T, U1, E> v0, Validator<T, U2, E> v1, Validator<T, U3, E> v2) {
+        return new All<>(vec(v0, v1, v2), true);
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T, U1, U2, U3, U4, E, X> Validator<T, X, E> all(Validator<T, U1, E> v0, Validator<T, U2, E> v1, Validator<T, U3, E> v2, Validator<T, U4, E> v3, Fn4<U1, U2, U3, U4, X> fn) {
+        return new Combine<>(vec(v0, v1, v2, v3), xs -> fn.apply((U1) xs[0], (U2) xs[1], (U3) xs[2], (U4) xs[3]));
+    }
+
+    public static <T, U1, U2, U3, U4, E> Validator<T, T, E> all(Validator<T, U1, E> v0, Validator<T, U2, E> v1, Validator<T, U3, E> v2, Validator<T, U4, E> v3) {
+        return new All<>(vec(v0, v1, v2, v3), true);
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T, U1, U2, U3, U4, U5, E, X> Validator<T, X, E> all(Validator<T, U1, E> v0, Validator<T, U2, E> v1, Validator<T, U3, E> v2, Validator<T, U4, E> v3, Validator<T, U5, E> v4, Fn5<U1, U2, U3, U4, U5, X> fn) {
+        return new Combine<>(vec(v0, v1, v2, v3, v4), xs -> fn.apply((U1) xs[0], (U2) xs[1], (U3) xs[2], (U4) xs[3], (U5) xs[4]));
+    }
+
+    public static <T, U1, U2, U3, U4, U5, E> Validator<T, T, E> all(Validator<T, U1, E> v0, Validator<T, U2, E> v1, Validator<T, U3, E> v2, Validator<T, U4, E> v3, Validator<T, U5, E> v4) {
+        return new All<>(vec(v0, v1, v2, v3, v4), true);
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T, U1, U2, U3, U4, U5, U6, E, X> Validator<T, X, E> every(Validator<T, U1, E> v0, Validator<T, U2, E> v1, Validator<T, U3, E> v2, Validator<T, U4, E> v3, Validator<T, U5, E> v4, Validator<T, U6, E> v5, Fn6<U1, U2, U3, U4, U5, U6, X> fn) {
+        return new Combine<>(vec(v0, v1, v2, v3, v4, v5), xs -> fn.apply((U1) xs[0], (U2) xs[1], (U3) xs[2], (U4) xs[3], (U5) xs[4], (U6) xs[5]));
+    }
+
+    public static <T, U1, U2, U3, U4, U5, U6, E> Validator<T, T, E> all(Validator<T, U1, E> v0, Validator<T, U2, E> v1, Validator<T, U3, E> v2, Validator<T, U4, E> v3, Validator<T, U5, E> v4, Validator<T, U6, E> v5) {
+        return new All<>(vec(v0, v1, v2, v3, v4, v5), true);
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T, U1, U2, U3, U4, U5, U6, U7, E, X> Validator<T, X, E> every(Validator<T, U1, E> v0, Validator<T, U2, E> v1, Validator<T, U3, E> v2, Validator<T, U4, E> v3, Validator<T, U5, E> v4, Validator<T, U6, E> v5, Validator<T, U7, E> v6, Fn7<U1, U2, U3, U4, U5, U6, U7, X> fn) {
+        return new Combine<>(vec(v0, v1, v2, v3, v4, v5, v6), xs -> fn.apply((U1) xs[0], (U2) xs[1], (U3) xs[2], (U4) xs[3], (U5) xs[4], (U6) xs[5], (U7) xs[6]));
+    }
+
+    public static <T, U1, U2, U3, U4, U5, U6, U7, E> Validator<T, T, E> all(Validator<T, U1, E> v0, Validator<T, U2, E> v1, Validator<T, U3, E> v2, Validator<T, U4, E> v3, Validator<T, U5, E> v4, Validator<T, U6, E> v5, Validator<T, U7, E> v6) {
+        return new All<>(vec(v0, v1, v2, v3, v4, v5, v6), true);
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T, U1, U2, U3, U4, U5, U6, U7, U8, E, X> Validator<T, X, E> all(Validator<T, U1, E> v0, Validator<T, U2, E> v1, Validator<T, U3, E> v2, Validator<T, U4, E> v3, Validator<T, U5, E> v4, Validator<T, U6, E> v5, Validator<T, U7, E> v6, Validator<T, U8, E> v7 ,Fn8<U1, U2, U3, U4, U5, U6, U7, U8, X> fn) {
+        return new Combine<>(vec(v0, v1, v2, v3, v4, v5, v6, v7), xs -> fn.apply((U1) xs[0], (U2) xs[1], (U3) xs[2], (U4) xs[3], (U5) xs[4], (U6) xs[5], (U7) xs[6], (U8) xs[7]));
+    }
+
+    public static <T, U1, U2, U3, U4, U5, U6, U7, U8, E> Validator<T, T, E> all(Validator<T, U1, E> v0, Validator<T, U2, E> v1, Validator<T, U3, E> v2, Validator<T, U4, E> v3, Validator<T, U5, E> v4, Validator<T, U6, E> v5, Validator<T, U7, E> v6, Validator<T, U8, E> v7) {
+        return new All<>(vec(v0, v1, v2, v3, v4, v5, v6, v7), true);
+    }
+
+    public static <T, U, E> Validator<T, U, E> any(List<Validator<T, U, E>> validators) {
+        return new Any<>(validators);
+    }
+
+    @SafeVarargs
+    public static <T, U, E> Validator<T, U, E> any(Validator<T, U, E>... validators) {
+        return any(Arrays.asList(validators));
+    }
+
+    public static <T, U, E> Validator<T, U, E> not(Validator<T, U, E> validator, Function<T, E> errorFn) {
+        return new Not<>(validator, errorFn);
+    }
+
+    public static <T, U, E> Validator<T, U, E> not(Validator<T, U, E> validator, Supplier<E> lazyE) {
+        return not(validator, _v -> lazyE.get());
+    }
+
+    /**
+     * <b>Combinator</b> - Creates a validator that will first extract the value to
+     * validate by calling the given fn on the provided value and then pass it to
+     * the
+     * given validator.
+     * 
+     * @param <O>       the type of object accepted by the given fn
+     * @param <T>       the type of values validated
+     * @param <E>       the type of errors returned by the validator
+     * @param fn        a function returning an instance of type T given an instance
+     *                  of type O
+     * @param validator the validator to apply on the extracted value
+     * 
+     * @return a valid trie if the given validator succeeded. A trie containing the
+     *         collected errors otherwise.
+     */
+    public static <O, T, U, E> Validator<O, U, E> prop(Function<O, T> fn, Validator<T, U, E> validator) {
+        return new Prop<>(fn, validator);
+    }
+
+    /**
+     * <b>Combinator</b> - Creates a validator that will validate all the elements
+     * of a list with the given validator. The validator will validates all the
+     * elements of the list and return the collected errors.
+     * It has the same behavior than {@link Core#all(Validator...)}
+     * 
+     * @see {@link Core#all(Validator...)}
+     * 
+     * @param <V>       the type of the values in the list to validate
+     * @param <T>       the type of the list
+     * @param <E>       the type of errors returned by the validator
+     * @param validator the validator to apply to all elements of a list
+     * @param reducer   a function reducing a List<KeyedValidator<T, U, E>> to a
+     *                  KeyedValidator<T, U, E>
+     * 
+     * @return a valid trie if the given validator succeeded. A trie containing the
+     *         collected errors otherwise.
+     */
+    public static <V, T extends List<V>, U, E> Validator<T, List<U>, E> list(
+            Validator<V, U, E> validator,
+            Fn1<List<Validator<T, U, E>>, Validator<T, List<U>, E>> reducer) {
+        return new Elements<>(validator, reducer);
+    }
+
+    public static <V, T extends List<V>, U, E> Validator<T, List<U>, E> everyEl(List<Validator<T, U, E>> validators) {
+        return new EveryEl<>(validators);
+    }
+
+    public static <T, U, V, E> Validator<T, U, E> mapValue(Validator<T, V, E> validator, Fn1<V, U> fn) {
+        return new MapValue<>(validator, fn);
+    }
+
+    public static <T, U, V, E> Validator<T, U, E> mapInput(Validator<T, V, E> validator, Fn1<T, U> fn) {
+        return new MapInput<>(validator, fn);
+    }
+
+    /**
+     * Creates a validator that will apply the given validator only if the validated
+     * value is not null. If the validated value is null it returns a given error.
+     * Otherwise it executes the validator and returns its result.
+     * 
+     * @param <T>       the type of values validated
+     * @param <E>       the type of errors returned by the validator
+     * @param validator the validator to apply if the validated value is not null
+     * @param lazyE     the error to return in an trie if the validated value is
+     *                  null
+     * 
+     * @return Returns an invalid trie with the given error if the validated value
+     *         is null.
+     *         Returns an invalid trie with the errors of the validators if the
+     *         validated value is not null and invalid.
+     *         Returns an valid trie if the validated value is not null and valid
+     */
+    public static <T, U, E> Validator<T, U, E> required(Validator<T, U, E> validator, Supplier<E> lazyE) {
+        return new Required<>(validator, lazyE);
+    }
+
+    public static <O, T, U, E> Validator<O, U, E> required(Function<O, T> fn, Validator<T, U, E> validator, Supplier<E> lazyE) {
+        return prop(fn, required(validator, lazyE));
+    }
+
+    /**
+     * Creates a {@link Validator} by composing the given validator with 
+     * {@link Core#required(Function, Supplier)}.
+     * 
+     * @param <O>       the type of object accepted by the given fn
+     * @param <T>       the type of values validated
+     * @param <E>       the type of errors returned by the validator
+     * @param key       the key to index the result of the validator
+     * @param fn        the function extracting the value to validate from an instance of `O`
+     * @param validator the validator to apply on the extracted value
+     * @param lazyE     the error to return if the value is <code>null</code>
+     * @return          a {@link Validator} that returns the given error if the extracted value <code>T</code>
+     *                  from <code>O</code> is null. Returns the result of the given validator otherwise.
+     */
+    public static <O, T, U, E> Validator<O, U, E> required(String key, 
+                                                     Function<O, T> fn, 
+                                                     Validator<T, U, E> validator, 
+                                                     Supplier<E> lazyE) {
+        return keyed(key, required(fn, validator, lazyE));
+    }
+
+    public static <O, T, U, E> Validator<O, U, E> optional(Function<O, T> fn, Validator<T, U, E> validator) {
+        return prop(fn, optional(validator));
+    }
+
+    public static <O, T, U, E> Validator<O, U, E> optional(Function<O, T> fn, Validator<T, U, E> validator, Fn0<T> defaultValue) {
+        return prop(fn, optional(validator, defaultValue));
+    }
+
+    /**
+     * Creates a {@link Validator} by composing the given validator with 
+     * {@link Core#optional(Function, Supplier)}.
+     * 
+     * @param <O>       the type of object accepted by the given fn
+     * @param <T>       the type of values validated
+     * @param <E>       the type of errors returned by the validator
+     * @param key       the key to index the result of the validator
+     * @param fn        the function extracting the value to validate from an instance of `O`
+     * @param validator the validator to apply on the extracted value
+     * @param lazyE     the error to return if the value is <code>null</code>
+     * @return          a {@link Validator} that returns the given a valid result if the extracted 
+     *                  value <code>T</code> from <code>O</code> is null.
+     *                  Returns the result of the given validator otherwise.
+     */
+    public static <O, T, U, E> Validator<O, U, E> optional(String key, 
+                                                          Function<O, T> fn, 
+                                                          Validator<T, U, E> validator) {
+        return keyed(key, optional(fn, validator));
+
+    }
+
+    public static <O, T, U, E> Validator<O, U, E> optional(String key, 
+                                                          Function<O, T> fn, 
+                                                          Validator<T, U, E> validator,
+                                                          Fn0<T> defaultValue) {
+        return keyed(key, optional(fn, validator, defaultValue));
+
+    }
+
+    /**
+     * Creates a validator that will apply the given validator only if the validated
+     * value is not null. If the validated value is null it returns a valid trie.
+     * Otherwise it executes the validator and returns its result.
+     * 
+     * @param <T>       the type of values validated
+     * @param <E>       the type of errors returned by the validator
+     * @param validator the validator to apply if the validated value is not null
+     * 
+     * @return           Returns a valid trie if the validated value is null.
+     */
+    public static <T, U, E> Validator<T, U, E> optional(Validator<T, U, E> validator) {
+        return new Optional<>(validator, null);
+    }
+
+    // F0<T> or F0<U> ???
+    public static <T, U, E> Validator<T, U, E> optional(Validator<T, U, E> validator, Fn0<T> defaultValue) {
+        return new Optional<>(validator, defaultValue);
+    }
+
+    /**
+     * <b>Combinator</b> - Creates a validator applying the validator of the case selected by the discriminator of
+     * the validated value. The cases are looked up in a hash table so the cost of the dispatch does not depend on
+     * the number of cases.
+     * 
+     * @param <T>             the type of values validated
+     * @param <K>             the type of the discriminators
+     * @param <E>             the type of errors returned by the validator
+     * @param discriminatorFn a function returning the discriminator of a value
+     * @param cases           the validators by discriminator
+     * @param key             the path of the error returned for unknown discriminators. The error is returned at
+     *                        the root if the key is empty.
+     * @param errorFn         the function returning the error for an unknown discriminator
+     * 
+     * @return the result of the validator of the discriminator of the value. An invalid result with the error of
+     *         the discriminator at the given key if there is no validator for it.
+     */
+    public static <T, K, U, E> Validator<T, U, E> switchOn(Function<T, K> discriminatorFn, 
+                                                           Map<K, ? extends Validator<T, U, E>> cases,
+                                                           String key,
+                                                           Function<K, E> errorFn) {
+        return new SwitchOn<>(discriminatorFn, cases, key, errorFn);
+    }
+
+    public static <T, K, U, E> Validator<T, U, E> switchOn(Function<T, K> discriminatorFn, 
+                                                           Map<K, ? extends Validator<T, U, E>> cases,
+                                                           String key,
+                                                           Supplier<E> lazyE) {
+        return switchOn(discriminatorFn, cases, key, _k -> lazyE.get());
+    }
+
+    /**
+     * <b>Combinator</b> - Creates a validator applying the validator returned by the given supplier, which is
+     * called once, on first use. It allows a validator to refer to itself to validate recursive structures:
+     * 
+     * <pre>
+     * Validator&lt;Category, Category, String&gt; category = lazy(() -&gt; all(
+     *     keyed("name", prop(Category::name, lengthBetween(3, 16, () -&gt; "length"))),
+     *     keyed("children", prop(Category::children, list(this.category, Core::everyEl)))));
+     * </pre>
+     * 
+     * While a value is validated by a lazy validator, the results of the lazy validators are memoized by identity
+     * of the validated objects: an object reachable through several paths is validated once. An object reached again while it is
+     * being validated is a cycle and is valid, its errors being reported where it is first reached.
+     * 
+     * @param <T>      the type of values validated
+     * @param <E>      the type of errors returned by the validator
+     * @param supplier the supplier of the validator
+     */
+    public static <T, U, E> Validator<T, U, E> lazy(Supplier<Validator<T, U, E>> supplier) {
+        return new Lazy<>(supplier, null);
+    }
+
+    /**
+     * <b>Combinator</b> - Creates a lazy validator rejecting cycles.
+     * 
+     * @param errorFn the function returning the error of an object reached again while it is being validated
+     * 
+     * @see Core#lazy(Supplier)
+     */
+    public static <T, U, E> Validator<T, U, E> lazy(Supplier<Validator<T, U, E>> supplier, Function<T, E> errorFn) {
+        return new Lazy<>(supplier, errorFn);
+    }
+
+    /**
+     * <b>Combinator</b> - Creates a validator caching the results of the given validator by identity of the
+     * validated values. The values which are Paguro persistent collections ({@link ImList}, {@link ImMap},
+     * {@link ImSet}, {@link ImSortedMap} and {@link ImSortedSet}) are validated once: when a new version of a
+     * document shares one of them with the previous version, its result is reused. The other values are validated
+     * each time.
+     * 
+     * The cache holds the validated collections, and the values returned for them, weakly: it does not prevent them
+     * from being garbage collected. A result whose value was collected is computed again. The errors are held
+     * strongly: an error referencing the validated collection keeps it, and its result, in the cache.
+     * 
+     * <pre>
+     * Validator&lt;ImMap&lt;String, Object&gt;, ImMap&lt;String, Object&gt;, String&gt; address = structurallyCached(all(...));
+     * </pre>
+     * 
+     * @param <T>       the type of values validated
+     * @param <E>       the type of errors returned by the validator
+     * @param validator the validator, which must return the same result for the same persistent collection
+     */
+    public static <T, U, E> Validator<T, U, E> structurallyCached(Validator<T, U, E> validator) {
+        return new StructurallyCached<>(validator);
+    }
+
+    /**
+     * <b>Combinator</b> - Creates a validator calling the given validator only for the values which might be in
+     * the given Bloom filter. It guards the validators checking that a value does not exist in a slow store, for
+     * instance a username: the values definitely absent from the filter, the usual case, are valid without calling
+     * the validator.
+     * 
+     * The filter is read from the supplier for each value so that it can be rebuilt and swapped at runtime:
+     * 
+     * <pre>
+     * AtomicReference&lt;BloomFilter&lt;CharSequence&gt;&gt; usernames = new AtomicReference&lt;&gt;(BloomFilter.of(Hasher.strings(), store.usernames(), 0.01));
+     * Validator&lt;String, String, String&gt; available = bloomGuarded(usernames::get, notInStore);
+     * </pre>
+     * 
+     * @param <T>       the type of values validated
+     * @param <E>       the type of errors returned by the validator
+     * @param filter    the supplier of the filter of the values which might be present
+     * @param validator the validator of the values which might be present
+     */
+    public static <T, E> Validator<T, T, E> bloomGuarded(Supplier<? extends BloomFilter<? super T>> filter, Validator<T, T, E> validator) {
+        return new BloomGuarded<>(filter, validator, v -> ValidationResult.valid(v, v));
+    }
+
+    public static <T, E> Validator<T, T, E> bloomGuarded(BloomFilter<? super T> filter, Validator<T, T, E> validator) {
+        return bloomGuarded(() -> filter, validator);
+    }
+
+    /**
+     * <b>Combinator</b> - Creates a validator calling the given validator only for the values which might be in
+     * the given Bloom filter, the values definitely absent from the filter being invalid. It guards the validators
+     * checking that a value exists in a slow store.
+     * 
+     * @see #bloomGuarded(Supplier, Validator)
+     * 
+     * @param errorFn the function returning the error of a value definitely absent from the filter
+     */
+    public static <T, U, E> Validator<T, U, E> bloomGuarded(Supplier<? extends BloomFilter<? super T>> filter, 
+                                                            Validator<T, U, E> validator, 
+                                                            Function<T, E> errorFn) {
+        return new BloomGuarded<>(filter, validator, v -> ValidationResult.invalid(v, errorFn.apply(v)));
+    }
+
+    public static <T, U, E> Validator<T, U, E> bloomGuarded(Supplier<? extends BloomFilter<? super T>> filter, 
+                                                            Validator<T, U, E> validator, 
+                                                            Supplier<E> lazyE) {
+        return bloomGuarded(filter, validator, _v -> lazyE.get());
+    }
+
+    /**
+     * <b>Combinator</b> - Creates a builder of a validator of the given sealed type. The builder checks that every
+     * permitted subclass of the type has a validator and the validator dispatches each value to the validator of
+     * its class. The validator of a class is resolved once per class. A <code>null</code> value is invalid. The
+     * sealed types which are concrete classes need a validator for their own instances.
+     * 
+     * <pre>
+     * Validator&lt;Shape, Object, String&gt; shape = Core.&lt;Shape, Object, String&gt;sealed(Shape.class, () -&gt; "required")
+     *     .on(Circle.class, prop(Circle::radius, gt(0, () -&gt; "radius")))
+     *     .on(Square.class, prop(Square::side, gt(0, () -&gt; "side")))
+     *     .build();
+     * </pre>
+     * 
+     * @param <S>   the sealed type of values validated
+     * @param <U>   the type of the validated values
+     * @param <E>   the type of errors returned by the validator
+     * @param clazz the sealed type
+     * @param lazyE the supplier of the error of a <code>null</code> value
+     * 
+     * @throws IllegalArgumentException if the given type is not sealed.
+     */
+    public static <S, U, E> SealedBuilder<S, U, E> sealed(Class<S> clazz, Supplier<E> lazyE) {
+        if (!clazz.isSealed()) {
+            throw new IllegalArgumentException(clazz.getName() + " is not sealed");
+        }
+        return new SealedBuilder<>(clazz, lazyE);
+    }
+
+    /**
+     * Creates a validator equivalent to the given one with its graph of combinators specialized: nested keys are
+     * fused into a single path, nested {@link Core#and(List)}, {@link Core#all(List)} and {@link Core#any(List)}
+     * are flattened and chained {@link Core#prop(Function, Validator)} extractors are composed.
+     * 
+     * The given validator is not modified. Validators that are not combinators of this class are kept as is.
+     * 
+     * @param <T>       the type of values validated
+     * @param <E>       the type of errors returned by the validator
+     * @param validator the validator to specialize
+     * 
+     * @return a validator returning the same results than the given one
+     */
+    public static <T, U, E> Validator<T, U, E> generate(Validator<T, U, E> validator) {
+        return Generator.generate(validator);
+    }
+
+    // implement alwaysValid()
+
+    static final class Keyed<T, U, E> implements Validator<T, U, E> {
+
+        final String key;
+        final Validator<T, U, E> validator;
+
+        Keyed(String key, Validator<T, U, E> validator) {
+            this.key = key;
+            this.validator = validator;
+        }
+
+        @Override
+        public ValidationResult<E, T, U> apply(T v) {
+            ValidationResult<E, T, U> apply = this.validator.apply(v);
+            return new ValidationResult<E, T, U>(
+                trie(vec(), map(tup(this.key, apply._1()))),
+                apply._2(),
+                apply._3()); 
+        }
+
+        @Override
+        public ValidationResult<E, T, U> revalidate(ValidationResult<E, T, U> previous, T v, Collection<List<String>> changedPaths) {
+            Collection<List<String>> changed = ROOT_KEY.equals(this.key) ? changedPaths : changedUnder(this.key, changedPaths);
+            if (changed == null) {
+                return new ValidationResult<>(previous._1(), v, previous._3());
+            }
+            Trie<E> child = previous._1().getChildren().getOrDefault(this.key, Trie.identity());
+            ValidationResult<E, T, U> result = this.validator.revalidate(new ValidationResult<>(child, v, previous._3()), v, changed);
+            return new ValidationResult<E, T, U>(
+                trie(vec(), map(tup(this.key, result._1()))),
+                result._2(),
+                result._3());
+        }
+
+        @Override
+        public Descriptor descriptor() {
+            return Descriptor.keyed(this.key, this.validator.descriptor(), this);
+        }
+
+    }
+
+    static final class And<T, U, E> implements Validator<T, U, E> {
+
+        final Validator<T, U, E>[] validators;
+
+        @SuppressWarnings({ "unchecked", "rawtypes" })
+        And(List<Validator<T, U, E>> validators) {
+            this.validators = validators.toArray(new Validator[0]);
+        }
+
+        @Override
+        public ValidationResult<E, T, U> apply(T v) {
+            ValidationResult<E, T, U> acc = ValidationResult.identity();
+            for (Validator<T, U, E> validator : this.validators) {
+                ValidationResult<E, T, U> validated = validator.apply(v);
+                acc = new ValidationResult<>(
+                    acc._1().merge(validated._1()),
+                    validated._2(),
+                    validated._3());
+
+                if (validated.isInvalid()) {
+                    return acc;
+                }
+            }
+            return acc;
+        }
+
+        @Override
+        public Descriptor descriptor() {
+            return Descriptor.descriptor(Descriptor.AND, vec(), vec(this.validators).map(Validator::descriptor).toImList(), this);
+        }
+
+    }
+
+    static final class All<T, U, E> implements Validator<T, U, E> {
+
+        final Validator<T, U, E>[] validators;
+
+        /** Key under which each validator reports its errors, see {@link Core#keyOf(Validator)}. */
+        final String[] keys;
+
+        /** <code>true</code> if the validators are keyed with distinct keys: each of them owns a subtrie. */
+        final boolean keyed;
+
+        /** <code>true</code> if the validated value is the input when valid, instead of the value of the last validator. */
+        final boolean self;
+
+        All(List<Validator<T, U, E>> validators) {
+            this(validators, false);
+        }
+
+        @SuppressWarnings({ "unchecked", "rawtypes" })
+        All(List<? extends Validator<T, ?, E>> validators, boolean self) {
+            this.validators = validators.toArray(new Validator[0]);
+            this.self = self;
+            this.keys = new String[this.validators.length];
+            Set<String> distinct = new HashSet<>();
+            boolean keyed = this.validators.length > 0;
+            for (int i = 0; i < this.validators.length; i++) {
+                this.keys[i] = keyOf(this.validators[i]);
+                keyed &= this.keys[i] != null && distinct.add(this.keys[i]);
+            }
+            this.keyed = keyed;
+        }
+
+        @Override
+        public ValidationResult<E, T, U> apply(T v) {
+            ValidationResult<E, T, U> acc = ValidationResult.identity();
+            for (Validator<T, U, E> validator : this.validators) {
+                ValidationResult<E, T, U> validated = validator.apply(v);
+                acc = new ValidationResult<>(
+                    acc._1().merge(validated._1()),
+                    validated._2(),
+                    validated._3());
+            }
+            return this.self ? this.self(acc._1(), v) : acc;
+        }
+
+        /**
+         * Reruns the validators keyed on a changed path only if the validators are keyed with distinct keys.
+         */
+        @Override
+        public ValidationResult<E, T, U> revalidate(ValidationResult<E, T, U> previous, T v, Collection<List<String>> changedPaths) {
+            if (!this.keyed) {
+                return this.apply(v);
+            }
+            Trie<E> trie = previous._1();
+            U value = previous._3();
+            int last = this.validators.length - 1;
+            for (int i = 0; i <= last; i++) {
+                String key = this.keys[i];
+                if (changedUnder(key, changedPaths) == null) {
+                    continue;
+                }
+                Trie<E> child = trie.getChildren().getOrDefault(key, Trie.identity());
+                ValidationResult<E, T, U> result = this.validators[i].revalidate(
+                    new ValidationResult<>(trie(vec(), map(tup(key, child))), v, i == last ? value : null), v, changedPaths);
+                trie = trie.assoc(key, result._1().getChildren().getOrDefault(key, Trie.identity()));
+                if (i == last) {
+                    value = result._3();
+                }
+            }
+            return this.self ? this.self(trie, v) : new ValidationResult<>(trie, v, value);
+        }
+
+        @SuppressWarnings("unchecked")
+        private ValidationResult<E, T, U> self(Trie<E> trie, T v) {
+            return new ValidationResult<>(trie, v, trie.isValid() ? (U) v : null);
+        }
+
+        @Override
+        public Descriptor descriptor() {
+            return Descriptor.descriptor(Descriptor.ALL, vec(this.self ? "self" : "last"), vec(this.validators).map(Validator::descriptor).toImList(), this);
+        }
+
+    }
+
+    /**
+     * Applies all the validators and combines their values if all of them are valid.
+     */
+    static final class Combine<T, X, E> implements Validator<T, X, E> {
+
+        final Validator<T, ?, E>[] validators;
+        final Function<Object[], X> fn;
+
+        @SuppressWarnings({ "unchecked", "rawtypes" })
+        Combine(List<? extends Validator<T, ?, E>> validators, Function<Object[], X> fn) {
+            this.validators = validators.toArray(new Validator[0]);
+            this.fn = fn;
+        }
+
+        @Override
+        public ValidationResult<E, T, X> apply(T t) {
+            Trie<E> trie = Trie.identity();
+            Object[] values = new Object[this.validators.length];
+            for (int i = 0; i < this.validators.length; i++) {
+                ValidationResult<E, T, ?> result = this.validators[i].apply(t);
+                trie = trie.merge(result._1());
+                values[i] = result._3();
+            }
+            return new ValidationResult<>(trie, t, trie.isValid() ? this.fn.apply(values) : null);
+        }
+
+        @Override
+        public Descriptor descriptor() {
+            return Descriptor.descriptor(Descriptor.ALL, vec("combine"), vec(this.fn), vec(this.validators).map(Validator::descriptor).toImList(), this);
+        }
+
+    }
+
+    static final class Any<T, U, E> implements Validator<T, U, E> {
+
+        final List<Validator<T, U, E>> validators;
+
+        Any(List<Validator<T, U, E>> validators) {
+            this.validators = validators;
+        }
+
+        @Override
+        public ValidationResult<E, T, U> apply(T v) {
+            ValidationResult<E, T, U> result = ValidationResult.identity();
+            for (Validator<T, U, E> validator : this.validators) {
+                result = validator.apply(v);
+                if (result.isInvalid()) {
+                    return result;
+                }
+            }
+            return result;
+        }
+
+        @Override
+        public Descriptor descriptor() {
+            return Descriptor.descriptor(Descriptor.ANY, vec(), xform(this.validators).map(Validator::descriptor).toImList(), this);
+        }
+
+    }
+
+    static final class Not<T, U, E> implements Validator<T, U, E> {
+
+        final Validator<T, U, E> validator;
+        final Function<T, E> errorFn;
+
+        Not(Validator<T, U, E> validator, Function<T, E> errorFn) {
+            this.validator = validator;
+            this.errorFn = errorFn;
+        }
+
+        @Override
+        public ValidationResult<E, T, U> apply(T v) {
+            ValidationResult<E, T, U> result = this.validator.apply(v);
+            return result.isValid() 
+                ? ValidationResult.invalid(result._2(), this.errorFn.apply(v)) 
+                : ValidationResult.<E, T, U> valid(result._3(), result._2());
+        }
+
+        @Override
+        public Descriptor descriptor() {
+            return Descriptor.descriptor(Descriptor.NOT, vec(), vec(this.errorFn), vec(this.validator.descriptor()), this);
+        }
+
+    }
+
+    static final class Prop<O, T, U, E> implements Validator<O, U, E> {
+
+        final Function<O, T> fn;
+        final Validator<T, U, E> validator;
+
+        Prop(Function<O, T> fn, Validator<T, U, E> validator) {
+            this.fn = fn;
+            this.validator = validator;
+        }
+
+        @Override
+        public ValidationResult<E, O, U> apply(O x) {
+            ValidationResult<E, T, U> result = this.validator.apply(this.fn.apply(x));
+            return new ValidationResult<E, O, U>(result._1(), x, result._3());
+        }
+
+        @Override
+        public ValidationResult<E, O, U> revalidate(ValidationResult<E, O, U> previous, O x, Collection<List<String>> changedPaths) {
+            T t = this.fn.apply(x);
+            ValidationResult<E, T, U> result = this.validator.revalidate(new ValidationResult<>(previous._1(), t, previous._3()), t, changedPaths);
+            return new ValidationResult<E, O, U>(result._1(), x, result._3());
+        }
+
+        @Override
+        public Descriptor descriptor() {
+            return Descriptor.descriptor(Descriptor.PROP, vec(), vec(this.fn), vec(this.validator.descriptor()), this);
+        }
+
+    }
+
+    static final class Elements<V, T extends List<V>, U, E> implements Validator<T, List<U>, E> {
+
+        final Validator<V, U, E> validator;
+        final Fn1<List<Validator<T, U, E>>, Validator<T, List<U>, E>> reducer;
+
+        Elements(Validator<V, U, E> validator, Fn1<List<Validator<T, U, E>>, Validator<T, List<U>, E>> reducer) {
+            this.validator = validator;
+            this.reducer = reducer;
+        }
+
+        @Override
+        public ValidationResult<E, T, List<U>> apply(T t) {
+            List<Validator<T, U, E>> validators = IntStream
+                    .range(0, t.size())
+                    .mapToObj(i -> keyed(String.valueOf(i), (T xs) -> {
+                        ValidationResult<E, V, U> result = this.validator.apply(xs.get(i));
+                        return new ValidationResult<>(
+                            result._1(),
+                            xs,
+                            result._3());
+                    }))
+                    .toList();
+            return this.reducer.apply(validators).apply(t);
+        }
+
+        @Override
+        public Descriptor descriptor() {
+            return Descriptor.descriptor(Descriptor.LIST, vec(), vec(this.reducer), vec(this.validator.descriptor()), this);
+        }
+
+    }
+
+    static final class EveryEl<V, T extends List<V>, U, E> implements Validator<T, List<U>, E> {
+
+        final List<Validator<T, U, E>> validators;
+
+        EveryEl(List<Validator<T, U, E>> validators) {
+            this.validators = validators;
+        }
+
+        @Override
+        public ValidationResult<E, T, List<U>> apply(T xs) {
+            return this.validators.stream()
+                .map(v -> v.apply(xs))
+                .map(r -> r.mapValue(v -> vec(v)))
+                .reduce(new ValidationResult<>(Trie.identity(), xs, vec()), (a, b) -> {
+                    return new ValidationResult<>(
+                        a._1().merge(b._1()),
+                        a._2(),
+                        a._3().concat(b._3())
+                    );
+                }).mapValue(v -> new ArrayList<>(v));
+        }
+
+        @Override
+        public Descriptor descriptor() {
+            return Descriptor.descriptor(Descriptor.EVERY_EL, vec(), xform(this.validators).map(Validator::descriptor).toImList(), this);
+        }
+
+    }
+
+    static final class MapValue<T, U, V, E> implements Validator<T, U, E> {
+
+        final Validator<T, V, E> validator;
+        final Fn1<V, U> fn;
+
+        MapValue(Validator<T, V, E> validator, Fn1<V, U> fn) {
+            this.validator = validator;
+            this.fn = fn;
+        }
+
+        @Override
+        public ValidationResult<E, T, U> apply(T t) {
+            return this.validator.apply(t).mapValue(this.fn);
+        }
+
+        @Override
+        public Descriptor descriptor() {
+            return Descriptor.descriptor(Descriptor.MAP_VALUE, vec(), vec(this.fn), vec(this.validator.descriptor()), this);
+        }
+
+    }
+
+    static final class MapInput<T, U, V, E> implements Validator<T, U, E> {
+
+        final Validator<T, V, E> validator;
+        final Fn1<T, U> fn;
+
+        MapInput(Validator<T, V, E> validator, Fn1<T, U> fn) {
+            this.validator = validator;
+            this.fn = fn;
+        }
+
+        @Override
+        public ValidationResult<E, T, U> apply(T t) {
+            return this.validator.apply(t).mapValue(_v -> this.fn.apply(t));
+        }
+
+        @Override
+        public Descriptor descriptor() {
+            return Descriptor.descriptor(Descriptor.MAP_INPUT, vec(), vec(this.fn), vec(this.validator.descriptor()), this);
+        }
+
+    }
+
+    static final class Required<T, U, E> implements Validator<T, U, E> {
+
+        final Validator<T, U, E> validator;
+        final Supplier<E> lazyE;
+
+        Required(Validator<T, U, E> validator, Supplier<E> lazyE) {
+            this.validator = validator;
+            this.lazyE = lazyE;
+        }
+
+        @Override
+        public ValidationResult<E, T, U> apply(T x) {
+            if (null == x) {
+                return new ValidationResult<>(trie(vec(this.lazyE.get()), map()), x, null);
+            }
+            return this.validator.apply(x);
+        }
+
+        @Override
+        public Descriptor descriptor() {
+            return Descriptor.descriptor(Descriptor.REQUIRED, vec(), vec(this.lazyE), vec(this.validator.descriptor()), this);
+        }
+
+    }
+
+    /**
+     * Applies the validator if the value is not null. If it is null, the validator is applied on the default value
+     * if there is one, otherwise the result is valid.
+     */
+    static final class Optional<T, U, E> implements Validator<T, U, E> {
+
+        final Validator<T, U, E> validator;
+        final Fn0<T> defaultValue;
+
+        Optional(Validator<T, U, E> validator, Fn0<T> defaultValue) {
+            this.validator = validator;
+            this.defaultValue = defaultValue;
+        }
+
+        @Override
+        public ValidationResult<E, T, U> apply(T x) {
+            if (x != null) {
+                return this.validator.apply(x);
+            }
+            if (this.defaultValue != null) {
+                return this.validator.apply(this.defaultValue.apply());
+            }
+            return ValidationResult.validationResult(Trie.valid(x), x, null);
+        }
+
+        @Override
+        public Descriptor descriptor() {
+            return Descriptor.descriptor(Descriptor.OPTIONAL, vec(), vec(this.defaultValue), vec(this.validator.descriptor()), this);
+        }
+
+    }
+
+    static final class SwitchOn<T, K, U, E> implements Validator<T, U, E> {
+
+        final Function<T, K> discriminatorFn;
+        final Map<K, Validator<T, U, E>> cases;
+        final String key;
+        final Function<K, E> errorFn;
+
+        SwitchOn(Function<T, K> discriminatorFn, 
+                 Map<K, ? extends Validator<T, U, E>> cases, 
+                 String key, 
+                 Function<K, E> errorFn) {
+            this.discriminatorFn = discriminatorFn;
+            this.cases = new LinkedHashMap<>(cases);
+            this.key = key;
+            this.errorFn = errorFn;
+        }
+
+        @Override
+        public ValidationResult<E, T, U> apply(T v) {
+            K discriminator = this.discriminatorFn.apply(v);
+            Validator<T, U, E> validator = this.cases.get(discriminator);
+            if (validator == null) {
+                return new ValidationResult<>(Trie.invalid(this.key, vec(this.errorFn.apply(discriminator))), v, null);
+            }
+            return validator.apply(v);
+        }
+
+        @Override
+        public Descriptor descriptor() {
+            List<Object> params = new ArrayList<>(this.cases.size() + 1);
+            params.add(this.key);
+            params.addAll(this.cases.keySet());
+            return Descriptor.descriptor(
+                Descriptor.SWITCH_ON, 
+                params, 
+                vec(this.discriminatorFn, this.errorFn),
+                xform(this.cases.values()).map(Validator::descriptor).toImList(), 
+                this);
+        }
+
+    }
+
+    public static final class SealedBuilder<S, U, E> {
+
+        private final Class<S> clazz;
+        private final Supplier<E> lazyE;
+        private final Map<Class<?>, Validator<S, U, E>> cases = new LinkedHashMap<>();
+
+        private SealedBuilder(Class<S> clazz, Supplier<E> lazyE) {
+            this.clazz = clazz;
+            this.lazyE = lazyE;
+        }
+
+        /**
+         * Declares the validator of the values of the given subclass. The validator of the most specific declared
+         * class is applied to each value.
+         *
+         * @throws IllegalArgumentException if a validator is already declared for the class.
+         */
+        @SuppressWarnings("unchecked")
+        public <V extends S> SealedBuilder<S, U, E> on(Class<V> clazz, Validator<V, ? extends U, E> validator) {
+            if (this.cases.containsKey(clazz)) {
+                throw new IllegalArgumentException("Duplicate case " + clazz.getName());
+            }
+            this.cases.put(clazz, (Validator<S, U, E>) validator);
+            return this;
+        }
+
+        /**
+         * @throws IllegalArgumentException if a permitted subclass of the sealed type, or a sealed type which is a
+         *                                  concrete class, has no validator.
+         */
+        public Validator<S, U, E> build() {
+            this.checkExhaustive(this.clazz);
+            return new Sealed<>(this.clazz, this.cases, this.lazyE);
+        }
+
+        private void checkExhaustive(Class<?> type) {
+            if (this.cases.containsKey(type)) {
+                return;
+            }
+            if (!type.isSealed() || !type.isInterface() && !Modifier.isAbstract(type.getModifiers())) {
+                throw new IllegalArgumentException("No validator for " + type.getName());
+            }
+            for (Class<?> permitted : type.getPermittedSubclasses()) {
+                this.checkExhaustive(permitted);
+            }
+        }
+
+    }
+
+    static final class Sealed<S, U, E> implements Validator<S, U, E> {
+
+        final Class<S> clazz;
+        final Map<Class<?>, Validator<S, U, E>> cases;
+        final Supplier<E> lazyE;
+        final ClassValue<Validator<S, U, E>> dispatch;
+
+        Sealed(Class<S> clazz, Map<Class<?>, Validator<S, U, E>> cases, Supplier<E> lazyE) {
+            this.clazz = clazz;
+            this.cases = new LinkedHashMap<>(cases);
+            this.lazyE = lazyE;
+            this.dispatch = new ClassValue<>() {
+                @Override
+                protected Validator<S, U, E> computeValue(Class<?> type) {
+                    Class<?> match = null;
+                    for (Class<?> candidate : Sealed.this.cases.keySet()) {
+                        if (candidate.isAssignableFrom(type) && (match == null || match.isAssignableFrom(candidate))) {
+                            match = candidate;
+                        }
+                    }
+                    return Sealed.this.cases.get(match);
+                }
+            };
+        }
+
+        @Override
+        public ValidationResult<E, S, U> apply(S v) {
+            Validator<S, U, E> validator = v == null ? null : this.dispatch.get(v.getClass());
+            if (validator == null) {
+                return ValidationResult.invalid(v, this.lazyE.get());
+            }
+            return validator.apply(v);
+        }
+
+        @Override
+        public Descriptor descriptor() {
+            List<Object> params = new ArrayList<>(this.cases.size() + 1);
+            params.add(this.clazz);
+            params.addAll(this.cases.keySet());
+            return Descriptor.descriptor(
+                Descriptor.SEALED, 
+                params, 
+                vec(this.lazyE),
+                xform(this.cases.values()).map(Validator::descriptor).toImList(), 
+                this);
+        }
+
+    }
+
+    static final class BloomGuarded<T, U, E> implements Validator<T, U, E> {
+
+        final Supplier<? extends BloomFilter<? super T>> filter;
+        final Validator<T, U, E> validator;
+        final Function<T, ValidationResult<E, T, U>> absent;
+
+        BloomGuarded(Supplier<? extends BloomFilter<? super T>> filter, 
+                     Validator<T, U, E> validator, 
+                     Function<T, ValidationResult<E, T, U>> absent) {
+            this.filter = filter;
+            this.validator = validator;
+            this.absent = absent;
+        }
+
+        @Override
+        public ValidationResult<E, T, U> apply(T v) {
+            if (v != null && !this.filter.get().mightContain(v)) {
+                return this.absent.apply(v);
+            }
+            return this.validator.apply(v);
+        }
+
+        @Override
+        public Descriptor descriptor() {
+            return Descriptor.descriptor(Descriptor.BLOOM_GUARDED, vec(), vec(this.filter, this.absent), vec(this.validator.descriptor()), this);
+        }
+
+    }
+
+    static final class Lazy<T, U, E> implements Validator<T, U, E> {
+
+        /** Results of the lazy validators by validated object, for the validation in progress on each thread. */
+        private static final ThreadLocal<Map<Lazy<?, ?, ?>, Map<Object, ValidationResult<?, ?, ?>>>> VISITS = new ThreadLocal<>();
+        private static final ValidationResult<?, ?, ?> IN_PROGRESS = ValidationResult.identity();
+
+        final Supplier<Validator<T, U, E>> supplier;
+        final Function<T, E> errorFn;
+        private volatile Validator<T, U, E> validator;
+
+        Lazy(Supplier<Validator<T, U, E>> supplier, Function<T, E> errorFn) {
+            this.supplier = supplier;
+            this.errorFn = errorFn;
+        }
+
+        Validator<T, U, E> validator() {
+            Validator<T, U, E> validator = this.validator;
+            if (validator == null) {
+                validator = this.supplier.get();
+                this.validator = validator;
+            }
+            return validator;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public ValidationResult<E, T, U> apply(T v) {
+            if (v == null) {
+                return this.validator().apply(v);
+            }
+            Map<Lazy<?, ?, ?>, Map<Object, ValidationResult<?, ?, ?>>> visits = VISITS.get();
+            boolean outermost = visits == null;
+            if (outermost) {
+                visits = new IdentityHashMap<>();
+                VISITS.set(visits);
+            }
+            try {
+                Map<Object, ValidationResult<?, ?, ?>> results = visits.computeIfAbsent(this, _k -> new IdentityHashMap<>());
+                ValidationResult<?, ?, ?> known = results.get(v);
+                if (known == IN_PROGRESS) {
+                    return this.errorFn == null
+                        ? new ValidationResult<>(Trie.identity(), v, null)
+                        : ValidationResult.invalid(v, this.errorFn.apply(v));
+                }
+                if (known != null) {
+                    return (ValidationResult<E, T, U>) known;
+                }
+                results.put(v, IN_PROGRESS);
+                ValidationResult<E, T, U> result = this.validator().apply(v);
+                results.put(v, result);
+                return result;
+            } finally {
+                if (outermost) {
+                    VISITS.remove();
+                }
+            }
+        }
+
+        /**
+         * The validator is not described: it may contain this one. It is identified by its supplier.
+         */
+        @Override
+        public Descriptor descriptor() {
+            return Descriptor.descriptor(Descriptor.LAZY, vec(), vec(this.supplier, this.errorFn), vec(), this);
+        }
+
+    }
+
+    static final class StructurallyCached<T, U, E> implements Validator<T, U, E> {
+
+        final Validator<T, U, E> validator;
+        private final Map<IdentityKey, Cached<E, U>> results = new ConcurrentHashMap<>();
+        private final ReferenceQueue<Object> queue = new ReferenceQueue<>();
+        private final ThreadLocal<Lookup> lookup = ThreadLocal.withInitial(Lookup::new);
+
+        StructurallyCached(Validator<T, U, E> validator) {
+            this.validator = validator;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public ValidationResult<E, T, U> apply(T v) {
+            if (!(v instanceof ImList || v instanceof ImMap || v instanceof ImSet 
+                    || v instanceof ImSortedMap || v instanceof ImSortedSet)) {
+                return this.validator.apply(v);
+            }
+            for (Object key; (key = this.queue.poll()) != null; ) {
+                this.results.remove(key);
+            }
+            Lookup lookup = this.lookup.get();
+            Cached<E, U> cached = this.results.get(lookup.of(v));
+            lookup.clear();
+            if (cached != null) {
+                if (cached.self) {
+                    return new ValidationResult<>(cached.trie, v, (U) v);
+                }
+                U value = cached.value == null ? null : cached.value.get();
+                if (value != null || cached.value == null) {
+                    return new ValidationResult<>(cached.trie, v, value);
+                }
+            }
+            ValidationResult<E, T, U> result = this.validator.apply(v);
+            // neither the validated value nor the value returned for it are held by the cache: they would never be
+            // collected if the value references the validated one
+            boolean self = result._3() == v;
+            WeakReference<U> value = self || result._3() == null ? null : new WeakReference<>(result._3());
+            this.results.put(new IdentityKey(v, this.queue), new Cached<>(result._1(), value, self));
+            return result;
+        }
+
+        @Override
+        public Descriptor descriptor() {
+            return Descriptor.descriptor(Descriptor.STRUCTURALLY_CACHED, vec(), vec(this.validator.descriptor()), this);
+        }
+
+        private static final class Cached<E, U> {
+
+            final Trie<E> trie;
+            final WeakReference<U> value;
+            final boolean self;
+
+            /**
+             * @param value the value of the result, null if the value is null or the validated value itself
+             */
+            Cached(Trie<E> trie, WeakReference<U> value, boolean self) {
+                this.trie = trie;
+                this.value = value;
+                this.self = self;
+            }
+
+        }
+
+        /**
+         * Weak reference compared by identity of its referent.
+         */
+        private static final class IdentityKey extends WeakReference<Object> {
+
+            private final int hash;
+
+            IdentityKey(Object referent, ReferenceQueue<Object> queue) {
+                super(referent, queue);
+                this.hash = System.identityHashCode(referent);
+            }
+
+            @Override
+            public int hashCode() {
+                return this.hash;
+            }
+
+            @Override
+            public boolean equals(Object o) {
+                if (this == o) {
+                    return true;
+                }
+                if (!(o instanceof IdentityKey)) {
+                    return false;
+                }
+                Object referent = this.get();
+                return referent != null && referent == ((IdentityKey) o).get();
+            }
+
+        }
+
+        /**
+         * Key looking up the {@link IdentityKey} of a value without allocating one. Each thread reuses its own.
+         */
+        private static final class Lookup {
+
+            private Object referent;
+            private int hash;
+
+            Lookup of(Object referent) {
+                this.referent = referent;
+                this.hash = System.identityHashCode(referent);
+                return this;
+            }
+
+            /**
+             * Releases the looked up value so that the thread does not keep it.
+             */
+            void clear() {
+                this.referent = null;
+            }
+
+            @Override
+            public int hashCode() {
+                return this.hash;
+            }
+
+            @Override
+            public boolean equals(Object o) {
+                return o instanceof IdentityKey key && key.get() == this.referent;
+            }
+
+        }
+
+    }
+
+}
@@ -8,6 +8,8 @@ import java.util.Set;
 import java.util.function.Function;
 
 import org.h5z.fval4j.Core.Validator;
+import org.h5z.fval4j.io.MappedLongSet;
+import org.h5z.fval4j.io.MappedStringSet;
 
 import lombok.Value;
 
@@ -67,6 +69,14 @@ public final class DefaultErrors {
         return Validators.in(xs, v -> error(VAULE_NOT_IN_SET, xs, v));
      }
 
+    public static Validator<Long, Long, ValidationError> in(MappedLongSet xs) {
+        return Validators.in(xs, v -> error(VAULE_NOT_IN_SET, xs, v));
+     }
+
+    public static Validator<String, String, ValidationError> in(MappedStringSet xs) {
+        return Validators.in(xs, v -> error(VAULE_NOT_IN_SET, xs, v));
+     }
+
     public static <T, E> Validator<T, T, ValidationError> equalsTo(T b) { 
         return Validators.equals(b, v -> error(VALUE_NOT_EQUAL_TO, b, v));
     }
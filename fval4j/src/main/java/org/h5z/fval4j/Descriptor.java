@@ -0,0 +1,262 @@
+package org.h5z.fval4j;
+
+import static org.organicdesign.fp.StaticImports.vec;
+import static org.organicdesign.fp.StaticImports.xform;
+
+import java.util.List;
+import java.util.Objects;
+
+import org.h5z.fval4j.Core.Validator;
+import org.organicdesign.fp.collections.ImList;
+import org.organicdesign.fp.oneOf.Option;
+
+/**
+ * A structured description of a {@link Validator}.
+ *
+ * A descriptor holds the kind of the validator (the name of the factory that created it), its parameters, the
+ * functions it depends on, the key it reports its result at (if any) and the descriptors of the validators it is
+ * composed of. Two validators created with the same factory, equal parameters and the same functions have equal
+ * descriptors: functions (error functions, extractors, reducers, ...) are compared by identity.
+ *
+ * Validators that were not created through a factory of this library are described as {@link #OPAQUE}: their
+ * descriptors are equal only if they describe the same validator.
+ */
+public final class Descriptor {
+
+    public static final String OPAQUE = "opaque";
+
+    // Core
+    public static final String KEYED = "keyed";
+    public static final String AND = "and";
+    public static final String ALL = "all";
+    public static final String ANY = "any";
+    public static final String NOT = "not";
+    public static final String PROP = "prop";
+    public static final String LIST = "list";
+    public static final String EVERY_EL = "everyEl";
+    public static final String MAP_VALUE = "mapValue";
+    public static final String MAP_INPUT = "mapInput";
+    public static final String REQUIRED = "required";
+    public static final String OPTIONAL = "optional";
+    public static final String SWITCH_ON = "switchOn";
+    public static final String SEALED = "sealed";
+    public static final String LAZY = "lazy";
+    public static final String STRUCTURALLY_CACHED = "structurallyCached";
+    public static final String BLOOM_GUARDED = "bloomGuarded";
+
+    // Validators
+    public static final String GT = "gt";
+    public static final String EQ = "eq";
+    public static final String GTE = "gte";
+    public static final String LT = "lt";
+    public static final String LTE = "lte";
+    public static final String BETWEEN = "between";
+    public static final String MATCHES = "matches";
+    public static final String LENGTH_BETWEEN = "lengthBetween";
+    public static final String CONTAINS = "contains";
+    public static final String NOT_BLANK = "notBlank";
+    public static final String IN = "in";
+    public static final String COND = "cond";
+    public static final String EQUALS = "equals";
+    public static final String SIZE_BETWEEN = "sizeBetween";
+    public static final String IDENTITY = "identity";
+
+    // MapValidators
+    public static final String KEY = "key";
+    public static final String HAS_KEY = "hasKey";
+    public static final String MAP_SCHEMA = "mapSchema";
+    public static final String ENTRIES = "entries";
+
+    // SetValidators
+    public static final String SET = "set";
+    public static final String UNIQUE_BY = "uniqueBy";
+
+    // ListValidators
+    public static final String DISTINCT = "distinct";
+
+    // ObjectValidators
+    public static final String A = "a";
+    public static final String TYPE_SWITCH = "typeSwitch";
+
+    // RecordValidators
+    public static final String RECORD = "record";
+
+    // JsonValidators
+    public static final String JSON = "json";
+
+    // CsvValidators
+    public static final String INTEGER = "integer";
+    public static final String LONG_INTEGER = "longInteger";
+    public static final String DECIMAL = "decimal";
+
+    private final String kind;
+    private final String key;
+    private final ImList<Object> params;
+    private final ImList<Object> functions;
+    private final ImList<Descriptor> children;
+    private final Validator<?, ?, ?> validator;
+
+    private Descriptor(String kind,
+                       String key,
+                       List<?> params,
+                       List<?> functions,
+                       List<Descriptor> children,
+                       Validator<?, ?, ?> validator) {
+        this.kind = kind;
+        this.key = key;
+        this.params = xform(params).map(p -> (Object) p).toImList();
+        this.functions = xform(functions).filter(Objects::nonNull).map(f -> (Object) f).toImList();
+        this.children = xform(children).toImList();
+        this.validator = validator;
+    }
+
+    /**
+     * @return the kind of the described validator.
+     */
+    public String getKind() {
+        return this.kind;
+    }
+
+    /**
+     * @return the key the described validator reports its result at. {@link Option#none()} if the validator is not
+     *         keyed.
+     */
+    public Option<String> getKey() {
+        return this.key == null
+                ? Option.none()
+                : Option.some(this.key);
+    }
+
+    /**
+     * @return the parameters the described validator was created with. Functions (error functions, extractors,
+     *         ...) are not part of the parameters.
+     */
+    public List<Object> getParams() {
+        return this.params;
+    }
+
+    /**
+     * @return the functions the described validator was created with, compared by identity. The described validator
+     *         itself if it is opaque.
+     */
+    public List<Object> getFunctions() {
+        return this.functions;
+    }
+
+    /**
+     * @return the descriptors of the validators the described validator is composed of.
+     */
+    public List<Descriptor> getChildren() {
+        return this.children;
+    }
+
+    /**
+     * @return the described validator.
+     */
+    public Validator<?, ?, ?> getValidator() {
+        return this.validator;
+    }
+
+    public boolean isOpaque() {
+        return OPAQUE.equals(this.kind);
+    }
+
+    /**
+     * Folds this descriptor bottom-up: the visitor is called for each node once the results of its children are
+     * known.
+     *
+     * @param <R>     the type of result
+     * @param visitor the visitor to apply on each node
+     * @return the result of the visitor for this node
+     */
+    public <R> R accept(Visitor<R> visitor) {
+        return visitor.visit(this, this.children.map(c -> c.accept(visitor)).toImList());
+    }
+
+    @FunctionalInterface
+    public interface Visitor<R> {
+
+        R visit(Descriptor descriptor, List<R> children);
+
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (!(o instanceof Descriptor))
+            return false;
+
+        Descriptor that = (Descriptor) o;
+
+        return this.kind.equals(that.kind)
+                && (this.key == null ? that.key == null : this.key.equals(that.key))
+                && this.params.equals(that.params)
+                && this.sameFunctions(that)
+                && this.children.equals(that.children);
+    }
+
+    private boolean sameFunctions(Descriptor that) {
+        if (this.functions.size() != that.functions.size()) {
+            return false;
+        }
+        for (int i = 0; i < this.functions.size(); i++) {
+            if (this.functions.get(i) != that.functions.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = this.kind.hashCode();
+        result = 31 * result + (this.key == null ? 0 : this.key.hashCode());
+        result = 31 * result + this.params.hashCode();
+        for (Object function : this.functions) {
+            result = 31 * result + System.identityHashCode(function);
+        }
+        result = 31 * result + this.children.hashCode();
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "{ kind: %s, key: %s, params: [%s], children: [%s] }"
+                .formatted(
+                    this.kind,
+                    this.key,
+                    String.join(", ", this.params.map(String::valueOf)),
+                    String.join(", ", this.children.map(Descriptor::toString)));
+    }
+
+    /**
+     * @return the descriptor of a validator which does not depend on any function.
+     */
+    public static Descriptor descriptor(String kind,
+                                        List<?> params,
+                                        List<Descriptor> children,
+                                        Validator<?, ?, ?> validator) {
+        return new Descriptor(kind, null, params, vec(), children, validator);
+    }
+
+    /**
+     * @param functions the functions the behaviour of the validator depends on, <code>null</code> ones are ignored
+     */
+    public static Descriptor descriptor(String kind,
+                                        List<?> params,
+                                        List<?> functions,
+                                        List<Descriptor> children,
+                                        Validator<?, ?, ?> validator) {
+        return new Descriptor(kind, null, params, functions, children, validator);
+    }
+
+    public static Descriptor keyed(String key, Descriptor child, Validator<?, ?, ?> validator) {
+        return new Descriptor(KEYED, key, vec(), vec(), vec(child), validator);
+    }
+
+    public static Descriptor opaque(Validator<?, ?, ?> validator) {
+        return new Descriptor(OPAQUE, null, vec(), vec(validator), vec(), validator);
+    }
+
+}
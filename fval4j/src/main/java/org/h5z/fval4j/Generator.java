@@ -0,0 +1,220 @@
+package org.h5z.fval4j;
+
+import static org.h5z.fval4j.Trie.ROOT_KEY;
+import static org.h5z.fval4j.Trie.trie;
+import static org.organicdesign.fp.StaticImports.map;
+import static org.organicdesign.fp.StaticImports.tup;
+import static org.organicdesign.fp.StaticImports.vec;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.h5z.fval4j.Core.All;
+import org.h5z.fval4j.Core.And;
+import org.h5z.fval4j.Core.Any;
+import org.h5z.fval4j.Core.BloomGuarded;
+import org.h5z.fval4j.Core.Combine;
+import org.h5z.fval4j.Core.Elements;
+import org.h5z.fval4j.Core.EveryEl;
+import org.h5z.fval4j.Core.Keyed;
+import org.h5z.fval4j.Core.MapInput;
+import org.h5z.fval4j.Core.MapValue;
+import org.h5z.fval4j.Core.Not;
+import org.h5z.fval4j.Core.Optional;
+import org.h5z.fval4j.Core.Prop;
+import org.h5z.fval4j.Core.Required;
+import org.h5z.fval4j.Core.Sealed;
+import org.h5z.fval4j.Core.StructurallyCached;
+import org.h5z.fval4j.Core.SwitchOn;
+import org.h5z.fval4j.Core.Validator;
+import org.h5z.fval4j.data.ValidationResult;
+
+/**
+ * Specializes a graph of combinators.
+ *
+ * @see {@link Core#generate(Validator)}
+ */
+@SuppressWarnings({ "unchecked", "rawtypes" })
+final class Generator {
+
+    private Generator() {
+        throw new IllegalAccessError("Cannot be instanciated");
+    }
+
+    static <T, U, E> Validator<T, U, E> generate(Validator<T, U, E> validator) {
+        return (Validator<T, U, E>) gen(validator);
+    }
+
+    private static Validator gen(Validator validator) {
+        if (validator instanceof Keyed keyed) {
+            Validator child = gen(keyed.validator);
+            if (child instanceof Path path) {
+                String[] keys = new String[path.keys.length + 1];
+                keys[0] = keyed.key;
+                System.arraycopy(path.keys, 0, keys, 1, path.keys.length);
+                return new Path(keys, path.validator);
+            }
+            return new Path(new String[] { keyed.key }, child);
+        }
+        if (validator instanceof And and) {
+            return new And(flatten(Arrays.asList(and.validators), and));
+        }
+        if (validator instanceof All all) {
+            return new All(flatten(Arrays.asList(all.validators), all), all.self);
+        }
+        if (validator instanceof Any any) {
+            return new Any(flatten(any.validators, any));
+        }
+        if (validator instanceof Combine combine) {
+            List<Validator> children = new ArrayList<>(combine.validators.length);
+            for (Validator child : combine.validators) {
+                children.add(gen(child));
+            }
+            return new Combine(children, combine.fn);
+        }
+        if (validator instanceof Prop prop) {
+            Validator child = gen(prop.validator);
+            if (child instanceof Prop inner) {
+                return new Prop(prop.fn.andThen(inner.fn), inner.validator);
+            }
+            return new Prop(prop.fn, child);
+        }
+        if (validator instanceof Elements elements) {
+            return new Elements(gen(elements.validator), elements.reducer);
+        }
+        if (validator instanceof EveryEl everyEl) {
+            List<Validator> children = new ArrayList<>(everyEl.validators.size());
+            for (Object child : everyEl.validators) {
+                children.add(gen((Validator) child));
+            }
+            return new EveryEl(children);
+        }
+        if (validator instanceof MapValue mapValue) {
+            return new MapValue(gen(mapValue.validator), mapValue.fn);
+        }
+        if (validator instanceof MapInput mapInput) {
+            return new MapInput(gen(mapInput.validator), mapInput.fn);
+        }
+        if (validator instanceof Not not) {
+            return new Not(gen(not.validator), not.errorFn);
+        }
+        if (validator instanceof Required required) {
+            return new Required(gen(required.validator), required.lazyE);
+        }
+        if (validator instanceof Optional optional) {
+            return new Optional(gen(optional.validator), optional.defaultValue);
+        }
+        if (validator instanceof SwitchOn switchOn) {
+            Map cases = new LinkedHashMap();
+            switchOn.cases.forEach((k, v) -> cases.put(k, gen((Validator) v)));
+            return new SwitchOn(switchOn.discriminatorFn, cases, switchOn.key, switchOn.errorFn);
+        }
+        if (validator instanceof Sealed sealed) {
+            Map cases = new LinkedHashMap();
+            sealed.cases.forEach((k, v) -> cases.put(k, gen((Validator) v)));
+            return new Sealed(sealed.clazz, cases, sealed.lazyE);
+        }
+        if (validator instanceof StructurallyCached cached) {
+            return new StructurallyCached(gen(cached.validator));
+        }
+        if (validator instanceof BloomGuarded guarded) {
+            return new BloomGuarded(guarded.filter, gen(guarded.validator), guarded.absent);
+        }
+        return validator;
+    }
+
+    /**
+     * Generates the given validators and inlines the children of the non-empty ones of the class of the given
+     * parent.
+     */
+    private static List<Validator> flatten(List<Validator> validators, Validator parent) {
+        List<Validator> flattened = new ArrayList<>(validators.size());
+        for (Validator validator : validators) {
+            Validator generated = gen(validator);
+            List<Validator> children = children(generated, parent);
+            if (children != null && !children.isEmpty()) {
+                flattened.addAll(children);
+            } else {
+                flattened.add(generated);
+            }
+        }
+        return flattened;
+    }
+
+    /**
+     * @return the children of the given validator if it can be inlined in the given parent, null otherwise. An
+     *         {@link All} returning its input can only be inlined in another one: its value is not the one of its
+     *         last child.
+     */
+    private static List<Validator> children(Validator validator, Validator parent) {
+        if (validator.getClass() != parent.getClass()) {
+            return null;
+        }
+        if (validator instanceof And and) {
+            return Arrays.asList(and.validators);
+        }
+        if (validator instanceof All all) {
+            return all.self && !((All) parent).self ? null : Arrays.asList(all.validators);
+        }
+        return ((Any) validator).validators;
+    }
+
+    /**
+     * A chain of {@link Keyed} validators fused into a single node.
+     */
+    static final class Path<T, U, E> implements Validator<T, U, E> {
+
+        final String[] keys;
+        final Validator<T, U, E> validator;
+
+        Path(String[] keys, Validator<T, U, E> validator) {
+            this.keys = keys;
+            this.validator = validator;
+        }
+
+        @Override
+        public ValidationResult<E, T, U> apply(T v) {
+            return this.nest(this.validator.apply(v));
+        }
+
+        /**
+         * Peels the keys of the path off the changed paths and the previous trie, as nested {@link Keyed} would.
+         */
+        @Override
+        public ValidationResult<E, T, U> revalidate(ValidationResult<E, T, U> previous, T v, Collection<List<String>> changedPaths) {
+            Collection<List<String>> changed = changedPaths;
+            Trie<E> child = previous._1();
+            for (String key : this.keys) {
+                changed = ROOT_KEY.equals(key) ? changed : Core.changedUnder(key, changed);
+                if (changed == null) {
+                    return new ValidationResult<>(previous._1(), v, previous._3());
+                }
+                child = child.getChildren().getOrDefault(key, Trie.identity());
+            }
+            return this.nest(this.validator.revalidate(new ValidationResult<>(child, v, previous._3()), v, changed));
+        }
+
+        private ValidationResult<E, T, U> nest(ValidationResult<E, T, U> result) {
+            Trie<E> acc = result._1();
+            for (int i = this.keys.length - 1; i >= 0; i--) {
+                acc = trie(vec(), map(tup(this.keys[i], acc)));
+            }
+            return new ValidationResult<>(acc, result._2(), result._3());
+        }
+
+        @Override
+        public Descriptor descriptor() {
+            Descriptor acc = this.validator.descriptor();
+            for (int i = this.keys.length - 1; i >= 0; i--) {
+                acc = Descriptor.keyed(this.keys[i], acc, this);
+            }
+            return acc;
+        }
+
+    }
+
+}
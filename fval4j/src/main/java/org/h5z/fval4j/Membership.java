@@ -0,0 +1,256 @@
+package org.h5z.fval4j;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.organicdesign.fp.collections.Equator;
+import org.organicdesign.fp.collections.PersistentHashSet;
+
+/**
+ * Membership tests specialized for the content of a set, used by {@link Validators#in(Set, java.util.function.Function)}.
+ *
+ * Only the standard sets, whose membership is the equality of their elements, are specialized: {@link HashSet},
+ * {@link LinkedHashSet}, {@link EnumSet}, the sets of {@link Set#of()} and the {@link PersistentHashSet} of the
+ * default equator. They are answered without hashing nor boxing the tested values:
+ * <ul>
+ *  <li>the enums by a mask of their ordinals;</li>
+ *  <li>the integers of a dense domain by a bitset;</li>
+ *  <li>the strings by a perfect hash table, see {@link Strings}.</li>
+ * </ul>
+ * The other sets, sorted, identity or custom ones, are tested with their own {@link Set#contains(Object)}.
+ */
+final class Membership {
+
+    private static final Set<Class<?>> IMMUTABLE = Set.of(Set.of(1).getClass(), Set.of(1, 2, 3).getClass());
+
+    private Membership() {
+        throw new IllegalAccessError("Cannot be instanciated");
+    }
+
+    /**
+     * @return an immutable copy of the mutable standard sets, which are specialized once and for all, the given set
+     *         otherwise.
+     */
+    static <T> Set<T> snapshot(Set<T> xs) {
+        Class<?> clazz = xs.getClass();
+        return (clazz == HashSet.class || clazz == LinkedHashSet.class || xs instanceof EnumSet) && !xs.contains(null)
+                ? Set.copyOf(xs)
+                : xs;
+    }
+
+    static Predicate<Object> of(Set<?> xs) {
+        if (!standard(xs)) {
+            return xs::contains;
+        }
+        if (xs.isEmpty()) {
+            return v -> false;
+        }
+        Object first = xs.iterator().next();
+        Predicate<Object> specialized = null;
+        if (first instanceof Enum<?> e) {
+            specialized = enums(xs, e.getDeclaringClass());
+        } else if (first instanceof Integer) {
+            specialized = integers(xs);
+        } else if (first instanceof String) {
+            specialized = Strings.of(xs);
+        }
+        return specialized == null ? xs::contains : specialized;
+    }
+
+    private static boolean standard(Set<?> xs) {
+        Class<?> clazz = xs.getClass();
+        return IMMUTABLE.contains(clazz)
+                || clazz == HashSet.class
+                || clazz == LinkedHashSet.class
+                || xs instanceof EnumSet
+                || xs instanceof PersistentHashSet<?> p && p.equator() == Equator.defaultEquator();
+    }
+
+    private static Predicate<Object> enums(Set<?> xs, Class<?> clazz) {
+        long[] bits = new long[(clazz.getEnumConstants().length + 63) >>> 6];
+        for (Object x : xs) {
+            if (!(x instanceof Enum<?> e) || e.getDeclaringClass() != clazz) {
+                return null;
+            }
+            bits[e.ordinal() >>> 6] |= 1L << e.ordinal();
+        }
+        if (bits.length == 1) {
+            long mask = bits[0];
+            return v -> v instanceof Enum<?> e && e.getDeclaringClass() == clazz && (mask & (1L << e.ordinal())) != 0;
+        }
+        return v -> v instanceof Enum<?> e && e.getDeclaringClass() == clazz
+                && (bits[e.ordinal() >>> 6] & (1L << e.ordinal())) != 0;
+    }
+
+    /**
+     * @return a bitset of the integers if their range is at most 64 bits per integer, null otherwise.
+     */
+    private static Predicate<Object> integers(Set<?> xs) {
+        int min = Integer.MAX_VALUE;
+        int max = Integer.MIN_VALUE;
+        for (Object x : xs) {
+            if (!(x instanceof Integer i)) {
+                return null;
+            }
+            min = Math.min(min, i);
+            max = Math.max(max, i);
+        }
+        long range = (long) max - min + 1;
+        if (range > Math.max(64, 64L * xs.size()) || range > Integer.MAX_VALUE) {
+            return null;
+        }
+        int offset = min;
+        long[] bits = new long[(int) ((range + 63) >>> 6)];
+        for (Object x : xs) {
+            int i = (Integer) x - offset;
+            bits[i >>> 6] |= 1L << i;
+        }
+        return v -> {
+            if (!(v instanceof Integer i)) {
+                return false;
+            }
+            long k = (long) i - offset;
+            return k >= 0 && k < range && (bits[(int) (k >>> 6)] & (1L << k)) != 0;
+        };
+    }
+
+    /**
+     * A perfect hash table of strings built with the hash and displace method: the strings are distributed in
+     * buckets of about {@value #BUCKET_SIZE} strings, then, from the largest bucket, the slots of the strings of a
+     * bucket are displaced until none of them is taken. A lookup hashes the string once and compares it with the
+     * string of its single candidate slot.
+     */
+    static final class Strings implements Predicate<Object> {
+
+        private static final int BUCKET_SIZE = 4;
+        private static final int MAX_DISPLACEMENT = 1 << 16;
+
+        private final String[] table;
+        private final int[] displacements;
+
+        private Strings(String[] table, int[] displacements) {
+            this.table = table;
+            this.displacements = displacements;
+        }
+
+        /**
+         * @return the table of the given strings, or null if the set holds another type or two strings with the same
+         *         hash code: they cannot be told apart by their slots.
+         */
+        static Strings of(Set<?> xs) {
+            int n = xs.size();
+            int[] hashes = new int[n];
+            String[] strings = new String[n];
+            int k = 0;
+            for (Object x : xs) {
+                if (!(x instanceof String s)) {
+                    return null;
+                }
+                strings[k] = s;
+                hashes[k++] = s.hashCode();
+            }
+            int[] sorted = hashes.clone();
+            Arrays.sort(sorted);
+            for (int i = 1; i < n; i++) {
+                if (sorted[i] == sorted[i - 1]) {
+                    return null;
+                }
+            }
+
+            int buckets = Math.max(1, n / BUCKET_SIZE);
+            String[] table = new String[Integer.highestOneBit(Math.max(1, n + n / 4)) << 1];
+            int mask = table.length - 1;
+
+            // the strings of each bucket, grouped by a counting sort
+            int[] starts = new int[buckets + 1];
+            for (int hash : hashes) {
+                starts[bucket(hash, buckets) + 1]++;
+            }
+            for (int b = 0; b < buckets; b++) {
+                starts[b + 1] += starts[b];
+            }
+            int[] members = new int[n];
+            int[] next = Arrays.copyOf(starts, buckets);
+            for (int i = 0; i < n; i++) {
+                members[next[bucket(hashes[i], buckets)]++] = i;
+            }
+            Integer[] order = new Integer[buckets];
+            for (int b = 0; b < buckets; b++) {
+                order[b] = b;
+            }
+            Arrays.sort(order, (x, y) -> (starts[y + 1] - starts[y]) - (starts[x + 1] - starts[x]));
+
+            int[] displacements = new int[buckets];
+            int[] slots = new int[n];
+            for (int b : order) {
+                int from = starts[b];
+                int to = starts[b + 1];
+                int d = 0;
+                while (!place(hashes, members, from, to, d, mask, table, slots)) {
+                    if (++d == MAX_DISPLACEMENT) {
+                        return null;
+                    }
+                }
+                for (int j = from; j < to; j++) {
+                    table[slots[j - from]] = strings[members[j]];
+                }
+                displacements[b] = d;
+            }
+            return new Strings(table, displacements);
+        }
+
+        /**
+         * @return <code>true</code> if the strings of a bucket, displaced by <code>d</code>, fall in free and distinct
+         *         slots, which are then written to <code>slots</code>.
+         */
+        private static boolean place(int[] hashes, int[] members, int from, int to, int d, int mask, String[] table, int[] slots) {
+            for (int j = from; j < to; j++) {
+                int slot = slot(hashes[members[j]], d, mask);
+                if (table[slot] != null) {
+                    return false;
+                }
+                for (int l = from; l < j; l++) {
+                    if (slots[l - from] == slot) {
+                        return false;
+                    }
+                }
+                slots[j - from] = slot;
+            }
+            return true;
+        }
+
+        private static int bucket(int hash, int buckets) {
+            return (int) (((mix(hash) & 0xFFFFFFFFL) * buckets) >>> 32);
+        }
+
+        private static int slot(int hash, int d, int mask) {
+            return mix(hash ^ (0x9E3779B9 * (d + 1))) & mask;
+        }
+
+        /**
+         * The finalizer of MurmurHash3: every bit of the hash code changes about half of the bits of the result.
+         */
+        private static int mix(int h) {
+            h ^= h >>> 16;
+            h *= 0x85EBCA6B;
+            h ^= h >>> 13;
+            h *= 0xC2B2AE35;
+            return h ^ (h >>> 16);
+        }
+
+        @Override
+        public boolean test(Object v) {
+            if (!(v instanceof String s)) {
+                return false;
+            }
+            int hash = s.hashCode();
+            return s.equals(this.table[slot(hash, this.displacements[bucket(hash, this.displacements.length)], this.table.length - 1)]);
+        }
+
+    }
+
+}
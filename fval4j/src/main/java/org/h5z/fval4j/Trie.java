@@ -0,0 +1,583 @@
+package org.h5z.fval4j;
+
+import static org.organicdesign.fp.StaticImports.map;
+import static org.organicdesign.fp.StaticImports.tup;
+import static org.organicdesign.fp.StaticImports.vec;
+import static org.organicdesign.fp.StaticImports.xform;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import org.organicdesign.fp.collections.ImList;
+import org.organicdesign.fp.collections.ImMap;
+import org.organicdesign.fp.collections.UnmodMap.UnEntry;
+import org.organicdesign.fp.oneOf.Option;
+import org.organicdesign.fp.tuple.Tuple2;
+
+/**
+ * {@see https://en.wikipedia.org/wiki/Trie}
+ */
+public class Trie<E> {
+
+    static final String ROOT_KEY = "";
+    
+    private final ImList<E> errors;
+    private final  ImMap<String, Trie<E>> children;
+    private int hash;
+
+    /**
+     * 
+     * @param errors
+     * @param children
+     * 
+     * @see {@link Trie#invalid(Object)} to create a trie with an error at the root
+     * @see {@link Trie#invalid(String, List)} to create a trie with the given errors with the given path
+     * @see {@link Trie#valid(Object)} to create a valid trie for the given value
+     * @see {@link Trie#valid(String, Object)} to create a valid trie with the given path
+     * @see {@link Trie#trie(List, Map)} to create a trie on your own
+     * 
+     * @author Eric Honorez
+     */
+    private Trie(ImList<E> errors, ImMap<String, Trie<E>> children) {
+        this.errors = errors;
+        this.children = children;
+    }
+
+    /**
+     * @return errors at the root of this trie
+     */
+    public List<E> getErrors() {
+        return this.errors;
+    }
+
+    /**
+     * Get the errors for the node of this trie with the given path.
+     * 
+     * @param path the path of the errors in this trie
+     * @return the errors at the given path
+     */
+    public List<E> getErrors(List<String> path) {
+        return this.get(path)
+            .match(n -> n.getErrors(),
+                   () -> vec());
+    }
+
+    public List<E> getErrors(String... path) {
+        return this.getErrors(Arrays.asList(path));
+    }
+
+    public Map<String, Trie<E>> getChildren() {
+        return this.children;
+    }
+
+    /**
+     * Tests if a given trie is valid.
+     * 
+     * @return <code>true</code> if the this trie has no error and all of its
+     *         children are valid. <code>false</code> otherwise.
+     */
+    public boolean isValid() {
+        Deque<Trie<E>> stack = new ArrayDeque<>();
+        stack.push(this);
+        while (!stack.isEmpty()) {
+            Trie<E> node = stack.pop();
+            if (!node.errors.isEmpty()) {
+                return false;
+            }
+            for (UnEntry<String, Trie<E>> child : node.children) {
+                stack.push(child.getValue());
+            }
+        }
+        return true;
+    }
+
+    public boolean isValid(List<String> path) {
+        return this.get(path)
+                .match(
+                        el -> el.isValid(),
+                        () -> false);
+    }
+
+    /**
+     * Test if a given trie is invalid.
+     * 
+     * @return <code>true</code> if this trie has an error or if one of its
+     *         children is invalid. <code>false</code> otherwise.
+     */
+    public boolean isInvalid() {
+        return !this.isValid();
+    }
+
+    public boolean isInvalid(List<String> path) {
+        return !this.isValid(path);
+    }
+
+    public boolean hasErrors() {
+        return !this.getErrors().isEmpty();
+    }
+
+    public boolean hasErrors(List<String> path) {
+        return this.get(path)
+                .match(
+                        el -> !el.getErrors().isEmpty(),
+                        () -> false);
+    }
+
+    public boolean hasErrors(String... path) {
+        return this.hasErrors(Arrays.asList(path));
+    }
+
+    /**
+     * Returns maybe the node at given key in the given trie if it exists.
+     * 
+     * @param path the sequence of keys to access the node.
+     * @return {@link Option.Some} containing the node with specified key in the
+     *         given trie. {@link Option.none} otherwise.
+     */
+    public Option<Trie<E>> get(List<String> path) {
+        Trie<E> node = this;
+        for (String key : path) {
+            if (ROOT_KEY.equals(key)) {
+                return Option.some(node);
+            }
+            node = node.children.get(key);
+            if (node == null) {
+                return Option.none();
+            }
+        }
+        return Option.some(node);
+    }
+
+    public Option<Trie<E>> get(String... path) {
+        return get(Arrays.asList(path));
+    }
+
+    /**
+     * Merges two tries together.
+     * 
+     * @return the merged trie.
+     */
+    public Trie<E> merge(Trie<E> b) {
+        Deque<Merge<E>> stack = new ArrayDeque<>();
+        stack.push(new Merge<>(this, b));
+        Trie<E> merged = null;
+        while (true) {
+            Merge<E> merge = stack.peek();
+            if (merged != null) {
+                merge.children = merge.children.assoc(merge.key, merged);
+                merged = null;
+            }
+            if (merge.shared.hasNext()) {
+                merge.key = merge.shared.next();
+                stack.push(new Merge<>(merge.a.children.get(merge.key), merge.b.children.get(merge.key)));
+                continue;
+            }
+            stack.pop();
+            merged = new Trie<>(merge.a.errors.concat(merge.b.errors), merge.children);
+            if (stack.isEmpty()) {
+                return merged;
+            }
+        }
+    }
+
+    /**
+     * Pending merge of two tries: the children of the merged trie are those of <code>a</code> and <code>b</code>
+     * until the children they share are merged.
+     */
+    private static final class Merge<E> {
+
+        final Trie<E> a;
+        final Trie<E> b;
+        final Iterator<String> shared;
+        ImMap<String, Trie<E>> children;
+        String key;
+
+        Merge(Trie<E> a, Trie<E> b) {
+            this.a = a;
+            this.b = b;
+            List<String> shared = new ArrayList<>();
+            ImMap<String, Trie<E>> children = a.children;
+            for (UnEntry<String, Trie<E>> child : b.children) {
+                if (a.children.containsKey(child.getKey())) {
+                    shared.add(child.getKey());
+                } else {
+                    children = children.assoc(child.getKey(), child.getValue());
+                }
+            }
+            this.shared = shared.iterator();
+            this.children = children;
+        }
+
+    }
+
+    /**
+     * @return a trie with the errors and the children of this trie but the child at the given key replaced by the
+     *         given trie. The other children are shared.
+     */
+    Trie<E> assoc(String key, Trie<E> child) {
+        return new Trie<>(this.errors, this.children.assoc(key, child));
+    }
+
+    /**
+     * Transforms a trie to a map.
+     * 
+     * Keys of the map are the keys of the nodes in the trie and their associated
+     * value is the list of errors of the node identified by the key in the trie.
+     * 
+     * @return a map
+     */
+    public Map<String, ImList<E>> toMap() {
+        ImMap<String, ImList<E>> acc = map();
+        Deque<Tuple2<String, Trie<E>>> stack = new ArrayDeque<>();
+        stack.push(tup(ROOT_KEY, this));
+        while (!stack.isEmpty()) {
+            Tuple2<String, Trie<E>> node = stack.pop();
+            String path = node._1();
+            acc = acc.assoc(path, node._2().errors);
+            for (UnEntry<String, Trie<E>> child : node._2().children) {
+                stack.push(tup(ROOT_KEY.equals(path) ? child.getKey() : path + "." + child.getKey(), child.getValue()));
+            }
+        }
+        return acc;
+    }
+
+    /**
+     * Writes this trie as nested JSON objects:
+     * <code>{"errors":[...],"children":{"key":{"errors":[...],"children":{...}}}}</code>.
+     * 
+     * Nothing is allocated per node: keys are escaped while they are written and errors are written by the given
+     * encoder.
+     * 
+     * @param out     where the JSON is written
+     * @param encoder writes each error as a JSON value
+     */
+    public void writeTo(Appendable out, ErrorEncoder<? super E> encoder) throws IOException {
+        Deque<Write<E>> stack = new ArrayDeque<>();
+        stack.push(writeNode(this, out, encoder));
+        while (!stack.isEmpty()) {
+            Write<E> write = stack.peek();
+            if (!write.children.hasNext()) {
+                stack.pop();
+                out.append("}}");
+                continue;
+            }
+            UnEntry<String, Trie<E>> child = write.children.next();
+            if (!write.first) {
+                out.append(',');
+            }
+            write.first = false;
+            ErrorEncoder.writeString(child.getKey(), out);
+            out.append(':');
+            stack.push(writeNode(child.getValue(), out, encoder));
+        }
+    }
+
+    private static <E> Write<E> writeNode(Trie<E> node, Appendable out, ErrorEncoder<? super E> encoder) throws IOException {
+        out.append("{\"errors\":");
+        writeErrors(node.errors, out, encoder);
+        out.append(",\"children\":{");
+        return new Write<>(node, 0);
+    }
+
+    /**
+     * Writes this trie as nested JSON objects encoded in UTF-8. The stream is flushed, not closed.
+     * 
+     * @see Trie#writeTo(Appendable, ErrorEncoder)
+     */
+    public void writeTo(OutputStream out, ErrorEncoder<? super E> encoder) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        this.writeTo(writer, encoder);
+        writer.flush();
+    }
+
+    /**
+     * Writes this trie as a flat JSON object with the same entries as {@link Trie#toMap()}:
+     * <code>{"":[...],"key":[...],"key.child":[...]}</code>.
+     * 
+     * The paths are built in a single buffer in which each key is escaped once.
+     * 
+     * @param out     where the JSON is written
+     * @param encoder writes each error as a JSON value
+     */
+    public void writeFlatTo(Appendable out, ErrorEncoder<? super E> encoder) throws IOException {
+        StringBuilder path = new StringBuilder();
+        Deque<Write<E>> stack = new ArrayDeque<>();
+        out.append('{');
+        stack.push(writeFlat(this, path, true, out, encoder));
+        while (!stack.isEmpty()) {
+            Write<E> write = stack.peek();
+            if (!write.children.hasNext()) {
+                stack.pop();
+                continue;
+            }
+            UnEntry<String, Trie<E>> child = write.children.next();
+            path.setLength(write.length);
+            if (write.length > 0) {
+                path.append('.');
+            }
+            ErrorEncoder.escape(child.getKey(), path);
+            stack.push(writeFlat(child.getValue(), path, false, out, encoder));
+        }
+        out.append('}');
+    }
+
+    /**
+     * Writes this trie as a flat JSON object encoded in UTF-8. The stream is flushed, not closed.
+     * 
+     * @see Trie#writeFlatTo(Appendable, ErrorEncoder)
+     */
+    public void writeFlatTo(OutputStream out, ErrorEncoder<? super E> encoder) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        this.writeFlatTo(writer, encoder);
+        writer.flush();
+    }
+
+    /**
+     * Writes the entry of the given node at the given path.
+     * 
+     * @param first <code>true</code> for the first entry of the object: the children keyed by {@link #ROOT_KEY} have
+     *              an empty path too, it cannot tell whether a separator is needed.
+     */
+    private static <E> Write<E> writeFlat(Trie<E> node, StringBuilder path, boolean first, Appendable out, ErrorEncoder<? super E> encoder) throws IOException {
+        if (!first) {
+            out.append(',');
+        }
+        out.append('"').append(path).append("\":");
+        writeErrors(node.errors, out, encoder);
+        return new Write<>(node, path.length());
+    }
+
+    /**
+     * A node being written: its children are written until the iterator is exhausted.
+     */
+    private static final class Write<E> {
+
+        final Iterator<UnEntry<String, Trie<E>>> children;
+        final int length;
+        boolean first = true;
+
+        /**
+         * @param length the length of the path of the node, for {@link Trie#writeFlatTo(Appendable, ErrorEncoder)}
+         */
+        Write(Trie<E> node, int length) {
+            this.children = node.children.iterator();
+            this.length = length;
+        }
+
+    }
+
+    private static <E> void writeErrors(ImList<E> errors, Appendable out, ErrorEncoder<? super E> encoder) throws IOException {
+        out.append('[');
+        for (int i = 0; i < errors.size(); i++) {
+            if (i > 0) {
+                out.append(',');
+            }
+            encoder.encode(errors.get(i), out);
+        }
+        out.append(']');
+    }
+
+    /**
+     * The tries are compared node by node, without recursion, so that comparing deep tries does not overflow the
+     * stack.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (!(o instanceof Trie))
+            return false;
+
+        Deque<Trie<?>> stack = new ArrayDeque<>();
+        stack.push(this);
+        stack.push((Trie<?>) o);
+        while (!stack.isEmpty()) {
+            Trie<?> b = stack.pop();
+            Trie<?> a = stack.pop();
+            if (a == b) {
+                continue;
+            }
+            if (a.hash != 0 && b.hash != 0 && a.hash != b.hash) {
+                return false;
+            }
+            if (!a.errors.equals(b.errors) || a.children.size() != b.children.size()) {
+                return false;
+            }
+            for (UnEntry<String, ? extends Trie<?>> child : a.children) {
+                Trie<?> other = b.children.get(child.getKey());
+                if (other == null) {
+                    return false;
+                }
+                stack.push(child.getValue());
+                stack.push(other);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * The hash codes are computed once, children first, so that hashing a deep trie does not overflow the stack.
+     */
+    @Override
+    public int hashCode() {
+        if (this.hash != 0) {
+            return this.hash;
+        }
+        Deque<Trie<E>> stack = new ArrayDeque<>();
+        stack.push(this);
+        while (!stack.isEmpty()) {
+            Trie<E> node = stack.peek();
+            boolean ready = true;
+            for (UnEntry<String, Trie<E>> child : node.children) {
+                if (child.getValue().hash == 0) {
+                    stack.push(child.getValue());
+                    ready = false;
+                }
+            }
+            if (ready) {
+                stack.pop();
+                int result = node.errors.hashCode();
+                result = 31 * result + node.children.hashCode();
+                node.hash = result == 0 ? 1 : result;
+            }
+        }
+        return this.hash;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder acc = new StringBuilder();
+        Deque<Write<E>> stack = new ArrayDeque<>();
+        stack.push(this.appendNode(acc));
+        while (!stack.isEmpty()) {
+            Write<E> write = stack.peek();
+            if (!write.children.hasNext()) {
+                stack.pop();
+                acc.append("] }");
+                if (!stack.isEmpty()) {
+                    acc.append(" }");
+                }
+                continue;
+            }
+            UnEntry<String, Trie<E>> child = write.children.next();
+            if (!write.first) {
+                acc.append(", \n");
+            }
+            write.first = false;
+            acc.append("{ ").append(child.getKey()).append(": ");
+            stack.push(child.getValue().appendNode(acc));
+        }
+        return acc.toString();
+    }
+
+    private Write<E> appendNode(StringBuilder acc) {
+        acc.append("{ errors: [")
+            .append(String.join(", ", this.errors.map(Object::toString)))
+            .append("], children: [");
+        return new Write<>(this, 0);
+    }
+
+    public static <E, T> Trie<E> valid(T v) {
+        return trie(vec(), map());
+    }
+
+    public static <E, T> Trie<E> valid(String key, T v) {
+        if (ROOT_KEY.equals(key)) {
+            return Trie.valid(v);
+        }
+        return trie(vec(), map(tup(key, Trie.valid(v))));
+    }
+
+    public static <E> Trie<E> invalid(List<E> es) {
+        return trie(es, map());
+    }
+
+    public static <E> Trie<E> invalid(E e) {
+        return invalid(vec(e));
+    }
+
+    public static <E> Trie<E> invalid(String key, List<E> es) {
+        if (ROOT_KEY.equals(key)) {
+            return invalid(es);
+        }
+        return trie(vec(), map(tup(key, invalid(es))));
+    }
+
+    public static <E> Trie<E> trie(List<E> errors, Map<String, Trie<E>> children) {
+        if (children instanceof ImMap<String, Trie<E>> imMap) {
+            // the entry set of an ImMap is a new hash set of its entries: it would hash every subtrie
+            return new Trie<>(xform(errors).toImList(), imMap);
+        }
+        return new Trie<>(xform(errors).toImList(), xform(children.entrySet()).toImMap(kv -> kv));
+    }
+
+    public static <E> Trie<E> identity() {
+        return trie(vec(), map());
+    }
+
+    /**
+     * Writes the errors of a trie as JSON values.
+     * 
+     * @see Trie#writeTo(Appendable, ErrorEncoder)
+     */
+    @FunctionalInterface
+    public interface ErrorEncoder<E> {
+
+        void encode(E error, Appendable out) throws IOException;
+
+        /**
+         * @return an encoder writing errors as the JSON strings of their {@link Object#toString()}.
+         */
+        static <E> ErrorEncoder<E> strings() {
+            return (e, out) -> writeString(String.valueOf(e), out);
+        }
+
+        /**
+         * Writes the given characters as a JSON string.
+         */
+        static void writeString(CharSequence cs, Appendable out) throws IOException {
+            out.append('"');
+            escape(cs, out);
+            out.append('"');
+        }
+
+        /**
+         * Writes the given characters escaped for a JSON string, without the quotes.
+         */
+        static void escape(CharSequence cs, Appendable out) throws IOException {
+            int from = 0;
+            for (int i = 0; i < cs.length(); i++) {
+                char c = cs.charAt(i);
+                if (c >= 0x20 && c != '"' && c != '\\') {
+                    continue;
+                }
+                out.append(cs, from, i);
+                switch (c) {
+                    case '"' -> out.append("\\\"");
+                    case '\\' -> out.append("\\\\");
+                    case '\n' -> out.append("\\n");
+                    case '\r' -> out.append("\\r");
+                    case '\t' -> out.append("\\t");
+                    default -> out.append("\\u00").append(HEX[c >> 4]).append(HEX[c & 0xF]);
+                }
+                from = i + 1;
+            }
+            out.append(cs, from, cs.length());
+        }
+
+    }
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+}
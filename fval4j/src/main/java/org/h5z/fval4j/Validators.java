@@ -0,0 +1,341 @@
+package org.h5z.fval4j;
+
+import static org.h5z.fval4j.Core.any;
+import static org.h5z.fval4j.Core.not;
+import static org.h5z.fval4j.Core.and;
+import static org.h5z.fval4j.data.ValidationResult.invalid;
+import static org.h5z.fval4j.data.ValidationResult.valid;
+import static org.organicdesign.fp.StaticImports.vec;
+
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+import org.h5z.fval4j.Core.Described;
+import org.h5z.fval4j.Core.Validator;
+import org.h5z.fval4j.data.ValidationResult;
+import org.h5z.fval4j.io.MappedLongSet;
+import org.h5z.fval4j.io.MappedStringSet;
+
+public final class Validators {
+
+    private Validators() {
+        throw new IllegalAccessError("Cannot be instantiated");
+    }
+   
+    public static <T extends Comparable<T>, E> Validator<T, T, E> gt(T b, Function<T, E> errorFn) {
+        return new Described<T, T, E>(Descriptor.GT, vec(b), vec(errorFn), vec()) {
+            @Override
+            public ValidationResult<E, T, T> apply(T v) {
+                return v.compareTo(b) < 1
+                        ? invalid(v, errorFn.apply(v))
+                        : valid(v, v);
+            }
+        };
+    }
+    
+    public static <T extends Comparable<T>, E> Validator<T, T, E> gt(T b, Supplier<E> lazyE) {
+        return gt(b, _v -> lazyE.get());
+    }
+
+    public static <T extends Comparable<T>, E> Validator<T, T, E> eq(T b, Function<T, E> errorFn) { 
+        return new Described<T, T, E>(Descriptor.EQ, vec(b), vec(errorFn), vec()) {
+            @Override
+            public ValidationResult<E, T, T> apply(T v) {
+                return v.compareTo(b) == 0
+                        ? invalid(v, errorFn.apply(v))
+                        : valid(v, v);
+            }
+        };
+    }
+
+    public static <T extends Comparable<T>, E> Validator<T, T, E> eq(T b, Supplier<E> lazyE) {
+        return eq(b, _v -> lazyE.get());
+    }
+
+    public static <T extends Comparable<T>, E> Validator<T, T, E> gte(T b, Function<T, E> errorFn) {
+        Validator<T, T, E> validator = any(gt(b, errorFn), eq(b, errorFn));
+        return new Described<T, T, E>(Descriptor.GTE, vec(b), vec(errorFn), vec()) {
+            @Override
+            public ValidationResult<E, T, T> apply(T v) {
+                return validator.apply(v);
+            }
+        };
+    }
+
+    public static <T extends Comparable<T>, E> Validator<T, T, E> gte(T b, Supplier<E> lazyE) {
+        return gt(b, _v -> lazyE.get());
+    }
+
+    public static <T extends Comparable<T>, E> Validator<T, T, E> lt(T b, Function<T, E> errorFn) {
+        Validator<T, T, E> validator = and(
+                not(eq(b, errorFn), errorFn),
+                not(gt(b, errorFn), errorFn));
+        return new Described<T, T, E>(Descriptor.LT, vec(b), vec(errorFn), vec()) {
+            @Override
+            public ValidationResult<E, T, T> apply(T v) {
+                return validator.apply(v);
+            }
+        };
+    }
+
+    public static <T extends Comparable<T>, E> Validator<T, T, E> lt(T b, Supplier<E> lazyE) {
+        return lt(b, _v -> lazyE.get());
+    }
+
+    public static <T extends Comparable<T>, E> Validator<T, T, E> lte(T b, Function<T, E> errorFn) {
+        Validator<T, T, E> validator = not(gt(b, errorFn), errorFn);
+        return new Described<T, T, E>(Descriptor.LTE, vec(b), vec(errorFn), vec()) {
+            @Override
+            public ValidationResult<E, T, T> apply(T v) {
+                return validator.apply(v);
+            }
+        };
+    }
+
+    public static <T extends Comparable<T>, E> Validator<T, T, E> lte(T b, Supplier<E> lazyE) {
+        return lte(b, _v -> lazyE.get());
+    }
+
+    public static <T extends Comparable<T>, E> Validator<T, T, E> between(T a, T b, Function<T, E> errorFn) {
+        Validator<T, T, E> validator = and(
+                gte(a, errorFn),
+                lte(b, errorFn));
+        return new Described<T, T, E>(Descriptor.BETWEEN, vec(a, b), vec(errorFn), vec()) {
+            @Override
+            public ValidationResult<E, T, T> apply(T v) {
+                return validator.apply(v);
+            }
+        };
+    }
+
+    public static <T extends Comparable<T>, E> Validator<T, T, E> between(T a, T b, Supplier<E> lazyE) {
+        Validator<T, T, E> validator = and(
+                gte(a, lazyE),
+                lte(b, lazyE));
+        return new Described<T, T, E>(Descriptor.BETWEEN, vec(a, b), vec(lazyE), vec()) {
+            @Override
+            public ValidationResult<E, T, T> apply(T v) {
+                return validator.apply(v);
+            }
+        };
+    }
+
+    public static <E> Validator<String, String, E> matches(String regex, Function<String, E> errorFn) {
+        return new Described<String, String, E>(Descriptor.MATCHES, vec(regex), vec(errorFn), vec()) {
+            @Override
+            public ValidationResult<E, String, String> apply(String v) {
+                return !Pattern.compile(regex).matcher(v).find()
+                        ? invalid(v, errorFn.apply(v))
+                        : valid(v, v);
+            }
+        };
+    }
+
+    public static <E> Validator<String, String, E> matches(String regex, Supplier<E> lazyE) {
+        return matches(regex, _v -> lazyE.get());
+    }
+
+    /**
+     * Creates a validator to assert the length of a string is between the given
+     * bounds.
+     * 
+     * @param <E>           the type of error returned by the validator
+     * @param inclMin       the inclusive lower bound
+     * @param inclMax       the inclusive upper bound
+     * @param errorSupplier the supplier for the error message
+     * 
+     * @return an empty list if the length of the validated value is between the
+     *         given bounds. A list with containing the supplier error otherwise.
+     */
+    public static <E> Validator<String, String, E> lengthBetween(int inclMin, int inclMax, Supplier<E> errorSupplier) {
+        return lengthBetween(inclMin, inclMax, _v -> errorSupplier.get());
+    }
+
+    /**
+     * @see {@link #lengthBetween(int, int, Function)}.
+     * 
+     * @param errorFn A function to customize the error messsage with the validated
+     *                value.
+     * 
+     * @return an empty list if the length of the validated value is between the
+     *         given bounds. A list with containing the supplier error otherwise.
+     */
+    public static <E> Validator<String, String, E> lengthBetween(int inclMin, int inclMax, Function<String, E> errorFn) {
+        return new Described<String, String, E>(Descriptor.LENGTH_BETWEEN, vec(inclMin, inclMax), vec(errorFn), vec()) {
+            @Override
+            public ValidationResult<E, String, String> apply(String v) {
+                if (v.length() >= inclMin && v.length() <= inclMax) {
+                    return valid(v, v);
+                }
+                return invalid(v, errorFn.apply(v));
+            }
+        };
+    }
+
+    public static <E> Validator<String, String, E> contains(CharSequence b, Function<String, E> errorFn) {
+        return new Described<String, String, E>(Descriptor.CONTAINS, vec(b), vec(errorFn), vec()) {
+            @Override
+            public ValidationResult<E, String, String> apply(String v) {
+                return !v.contains(b)
+                        ? invalid(v, errorFn.apply(v))
+                        : valid(v, v);
+            }
+        };
+    }
+
+    public static <E> Validator<String, String, E> contains(CharSequence b, Supplier<E> lazyE) {
+        return contains(b, _v -> lazyE.get());
+    }
+
+    public static <E> Validator<String, String, E> notBlank(Function<String, E> errorFn) {
+        return new Described<String, String, E>(Descriptor.NOT_BLANK, vec(), vec(errorFn), vec()) {
+            @Override
+            public ValidationResult<E, String, String> apply(String v) {
+                return v.isBlank()
+                        ? invalid(v, errorFn.apply(v))
+                        : valid(v, v);
+            }
+        };
+    }
+
+    public static <E> Validator<String, String, E> notBlank(Supplier<E> lazyE) {
+        return notBlank(_v -> lazyE.get());
+    }
+
+    /**
+     * Checks that a value is in the given set. The standard sets of enums, of integers of a dense domain and of
+     * strings are copied to structures testing the values without hashing nor boxing them: modifying a
+     * {@link java.util.HashSet}, {@link java.util.LinkedHashSet} or {@link java.util.EnumSet} afterwards does not
+     * change the validator. The other sets, sorted, identity or custom ones, are tested with their own
+     * {@link Set#contains(Object)}.
+     */
+    public static <T, E> Validator<T, T, E> in(Set<T> xs, Function<T, E> errorFn) {
+        Set<T> queried = Membership.snapshot(xs);
+        Predicate<Object> contains = Membership.of(queried);
+        return new Described<T, T, E>(Descriptor.IN, vec(queried), vec(errorFn), vec()) {
+            @Override
+            public ValidationResult<E, T, T> apply(T v) {
+                return !contains.test(v)
+                        ? invalid(v, errorFn.apply(v))
+                        : valid(v, v);
+            }
+        };
+    }
+
+    // Object validation
+
+    public static <T, E> Validator<T, T, E> cond(Function<T, Boolean> s, Function<T, E> errorFn) {
+        return new Described<T, T, E>(Descriptor.COND, vec(), vec(s, errorFn), vec()) {
+            @Override
+            public ValidationResult<E, T, T> apply(T v) {
+                return !s.apply(v)
+                        ? invalid(v, errorFn.apply(v))
+                        : valid(v, v);
+            }
+        };
+    }
+
+    public static <T, E> Validator<T, T, E> cond(Function<T, Boolean> s, Supplier<E> lazyE) {
+        return cond(s, _v -> lazyE.get());
+    }
+
+    public static <T, E> Validator<T, T, E> required(Supplier<E> supplier) {
+        return new Described<T, T, E>(Descriptor.REQUIRED, vec(), vec(supplier), vec()) {
+            @Override
+            public ValidationResult<E, T, T> apply(T v) {
+                return null == v
+                        ? invalid(v, supplier.get())
+                        : valid(v, v);
+            }
+        };
+    }
+
+    public static <T, E> Validator<T, T, E> in(Set<T> xs, Supplier<E> lazyE) {
+        return in(xs, _v -> lazyE.get());
+    }
+
+    /**
+     * Checks that a value is in a memory-mapped set, without keeping the set on the heap. <code>null</code> is not in
+     * the set.
+     */
+    public static <E> Validator<Long, Long, E> in(MappedLongSet xs, Function<Long, E> errorFn) {
+        return new Described<Long, Long, E>(Descriptor.IN, vec(xs), vec(errorFn), vec()) {
+            @Override
+            public ValidationResult<E, Long, Long> apply(Long v) {
+                return v == null || !xs.contains(v)
+                        ? invalid(v, errorFn.apply(v))
+                        : valid(v, v);
+            }
+        };
+    }
+
+    public static <E> Validator<Long, Long, E> in(MappedLongSet xs, Supplier<E> lazyE) {
+        return in(xs, _v -> lazyE.get());
+    }
+
+    /**
+     * Checks that a string is in a memory-mapped set, without keeping the set on the heap. <code>null</code> is not
+     * in the set.
+     */
+    public static <E> Validator<String, String, E> in(MappedStringSet xs, Function<String, E> errorFn) {
+        return new Described<String, String, E>(Descriptor.IN, vec(xs), vec(errorFn), vec()) {
+            @Override
+            public ValidationResult<E, String, String> apply(String v) {
+                return v == null || !xs.contains(v)
+                        ? invalid(v, errorFn.apply(v))
+                        : valid(v, v);
+            }
+        };
+    }
+
+    public static <E> Validator<String, String, E> in(MappedStringSet xs, Supplier<E> lazyE) {
+        return in(xs, _v -> lazyE.get());
+    }
+
+    public static <T, E> Validator<T, T, E> equals(T b, Function<T, E> errorFn) {
+        return new Described<T, T, E>(Descriptor.EQUALS, vec(b), vec(errorFn), vec()) {
+            @Override
+            public ValidationResult<E, T, T> apply(T v) {
+                return !v.equals(b)
+                        ? invalid(v, errorFn.apply(v))
+                        : valid(v, v);
+            }
+        };
+     }
+
+    public static <T, E> Validator<T, T, E> equals(T b, Supplier<E> lazyE) {
+        return equals(b, _v -> lazyE.get());
+    }
+
+    // Collections validation
+
+    public static <T, E> Validator<List<T>, List<T>, E> sizeBetween(int inclMin, int inclMax, Function<List<T>, E> errorFn) {
+        return new Described<List<T>, List<T>, E>(Descriptor.SIZE_BETWEEN, vec(inclMin, inclMax), vec(errorFn), vec()) {
+            @Override
+            public ValidationResult<E, List<T>, List<T>> apply(List<T> v) {
+                if (v.size() >= inclMin && v.size() <= inclMax) {
+                    return valid(v, v);
+                }
+                return invalid(v, errorFn.apply(v));
+            }
+        };
+    }
+
+    public static <T, E> Validator<List<T>, List<T>, E> sizeBetween(int inclMin, int inclMax, Supplier<E> lazyE) {
+        return sizeBetween(inclMin, inclMax, _v -> lazyE.get());
+    }
+
+    public static <T, E> Validator<T, T, E> identity() {
+        return new Described<T, T, E>(Descriptor.IDENTITY, vec(), vec()) {
+            @Override
+            public ValidationResult<E, T, T> apply(T v) {
+                return valid(v, v);
+            }
+        };
+    }
+
+}
@@ -0,0 +1,17 @@
+package org.h5z.fval4j.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * The <code>int</code> or <code>long</code> component must be greater than the given value.
+ */
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.RECORD_COMPONENT)
+public @interface Gt {
+
+    long value();
+
+}
@@ -0,0 +1,19 @@
+package org.h5z.fval4j.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * The length of the string component must be between the given inclusive bounds.
+ */
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.RECORD_COMPONENT)
+public @interface LengthBetween {
+
+    int min();
+
+    int max();
+
+}
@@ -0,0 +1,20 @@
+package org.h5z.fval4j.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a record for which a validator is generated at compile time.
+ * 
+ * The generated validator is named after the record (<code>PersonValidator</code> for a record
+ * <code>Person</code>) and lives in the same package. It validates each annotated component and reports its errors
+ * at the name of the component, like a hand-built composition of {@link org.h5z.fval4j.Core#required(String,
+ * java.util.function.Function, org.h5z.fval4j.Core.Validator, java.util.function.Supplier)} and
+ * {@link org.h5z.fval4j.Core#optional(String, java.util.function.Function, org.h5z.fval4j.Core.Validator)} would.
+ */
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.TYPE)
+public @interface Validated {
+}
@@ -0,0 +1,264 @@
+package org.h5z.fval4j.codec;
+
+import static org.organicdesign.fp.StaticImports.vec;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.h5z.fval4j.Trie;
+
+/**
+ * Trie encoded by a {@link TrieCodec}, decoded on demand.
+ *
+ * The validity of the trie is read from the header. Looking up a path only decodes the keys of the nodes on the
+ * path and the errors of the node found. {@link #toTrie()} decodes the whole trie.
+ *
+ * @param <E> the type of the errors
+ */
+public final class EncodedTrie<E> {
+
+    private final TrieCodec<E> codec;
+    private final byte[] bytes;
+    private final int start;
+    private final boolean valid;
+    /** Start and end of the UTF-8 bytes of each key. */
+    private final int[] keys;
+    private final String[] decodedKeys;
+    private final int root;
+    private final int nodes;
+    private final int end;
+    private Trie<E> trie;
+
+    EncodedTrie(TrieCodec<E> codec, byte[] bytes, int start) {
+        this.codec = codec;
+        this.bytes = bytes;
+        this.start = start;
+        Cursor cursor = new Cursor(start);
+        if (cursor.next() != TrieCodec.VERSION) {
+            throw new IllegalArgumentException("Unsupported version at " + start);
+        }
+        this.valid = (cursor.next() & TrieCodec.VALID) != 0;
+        int count = cursor.varint();
+        this.keys = new int[2 * count];
+        this.decodedKeys = new String[count];
+        for (int i = 0; i < count; i++) {
+            int length = cursor.varint();
+            this.keys[2 * i] = cursor.pos;
+            cursor.skip(length);
+            this.keys[2 * i + 1] = cursor.pos;
+        }
+        this.root = cursor.varint();
+        int length = cursor.varint();
+        this.nodes = cursor.pos;
+        cursor.skip(length);
+        this.end = cursor.pos;
+    }
+
+    /**
+     * @return the number of bytes of the encoded trie.
+     */
+    public int length() {
+        return this.end - this.start;
+    }
+
+    /**
+     * @see Trie#isValid()
+     */
+    public boolean isValid() {
+        return this.valid;
+    }
+
+    /**
+     * @see Trie#isValid(List)
+     */
+    public boolean isValid(String... path) {
+        int node = this.find(path);
+        return node >= 0 && (this.bytes[this.nodes + node] & TrieCodec.VALID) != 0;
+    }
+
+    /**
+     * @see Trie#getErrors(String...)
+     */
+    public List<E> getErrors(String... path) {
+        int node = this.find(path);
+        if (node < 0) {
+            return vec();
+        }
+        Cursor cursor = new Cursor(this.nodes + node + 1);
+        cursor.skipVarints(2 * cursor.varint());
+        return this.errors(cursor);
+    }
+
+    /**
+     * Decodes the whole trie. Nodes which are shared in the encoded trie are shared in the decoded one.
+     *
+     * @throws UncheckedIOException if an error cannot be decoded.
+     */
+    public Trie<E> toTrie() {
+        if (this.trie == null) {
+            this.trie = this.decode(this.root, new HashMap<>());
+        }
+        return this.trie;
+    }
+
+    /**
+     * Decodes the given node and the nodes it contains, children first, without recursion.
+     */
+    private Trie<E> decode(int root, Map<Integer, Trie<E>> decoded) {
+        Deque<Decode> stack = new ArrayDeque<>();
+        stack.push(new Decode(root));
+        while (true) {
+            Decode node = stack.peek();
+            if (node.remaining > 0) {
+                node.remaining--;
+                node.key = this.key(node.cursor.varint());
+                int child = node.cursor.varint();
+                // children are written before their parent
+                if (child >= node.node) {
+                    throw new IllegalArgumentException("Invalid child offset at " + node.cursor.pos);
+                }
+                Trie<E> known = decoded.get(child);
+                if (known != null) {
+                    node.children.put(node.key, known);
+                } else {
+                    stack.push(new Decode(child));
+                }
+                continue;
+            }
+            stack.pop();
+            Trie<E> trie = Trie.trie(this.errors(node.cursor), node.children);
+            decoded.put(node.node, trie);
+            if (stack.isEmpty()) {
+                return trie;
+            }
+            Decode parent = stack.peek();
+            parent.children.put(parent.key, trie);
+        }
+    }
+
+    /**
+     * Node whose children are being decoded.
+     */
+    private final class Decode {
+
+        final int node;
+        final Cursor cursor;
+        final Map<String, Trie<E>> children = new LinkedHashMap<>();
+        int remaining;
+        String key;
+
+        Decode(int node) {
+            this.node = node;
+            this.cursor = new Cursor(EncodedTrie.this.nodes + node + 1);
+            this.remaining = this.cursor.varint();
+        }
+
+    }
+
+    /**
+     * @return the offset of the node at the given path, -1 if there is none.
+     */
+    private int find(String... path) {
+        int node = this.root;
+        for (String segment : Arrays.asList(path)) {
+            if (segment.isEmpty()) {
+                return node;
+            }
+            Cursor cursor = new Cursor(this.nodes + node + 1);
+            int size = cursor.varint();
+            int child = -1;
+            for (int i = 0; i < size && child < 0; i++) {
+                int key = cursor.varint();
+                int offset = cursor.varint();
+                if (this.key(key).equals(segment)) {
+                    child = offset;
+                }
+            }
+            if (child < 0) {
+                return -1;
+            }
+            node = child;
+        }
+        return node;
+    }
+
+    private String key(int index) {
+        String key = this.decodedKeys[index];
+        if (key == null) {
+            int from = this.keys[2 * index];
+            key = new String(this.bytes, from, this.keys[2 * index + 1] - from, StandardCharsets.UTF_8);
+            this.decodedKeys[index] = key;
+        }
+        return key;
+    }
+
+    private List<E> errors(Cursor cursor) {
+        int size = cursor.varint();
+        if (size == 0) {
+            return vec();
+        }
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(this.bytes, cursor.pos, this.end - cursor.pos));
+        List<E> errors = new ArrayList<>(size);
+        try {
+            for (int i = 0; i < size; i++) {
+                errors.add(this.codec.errorCodec.read(in));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return errors;
+    }
+
+    private final class Cursor {
+
+        int pos;
+
+        Cursor(int pos) {
+            this.pos = pos;
+        }
+
+        int next() {
+            if (this.pos >= EncodedTrie.this.bytes.length) {
+                throw new IllegalArgumentException("Truncated trie at " + this.pos);
+            }
+            return EncodedTrie.this.bytes[this.pos++] & 0xFF;
+        }
+
+        int varint() {
+            int value = 0;
+            for (int shift = 0; ; shift += 7) {
+                int b = this.next();
+                value |= (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+        }
+
+        void skipVarints(int count) {
+            for (int i = 0; i < count; i++) {
+                this.varint();
+            }
+        }
+
+        void skip(int length) {
+            if (length > EncodedTrie.this.bytes.length - this.pos) {
+                throw new IllegalArgumentException("Truncated trie at " + this.pos);
+            }
+            this.pos += length;
+        }
+
+    }
+
+}
@@ -0,0 +1,38 @@
+package org.h5z.fval4j.codec;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Encodes the errors of the tries written by a {@link TrieCodec}.
+ *
+ * @param <E> the type of the errors
+ */
+public interface ErrorCodec<E> {
+
+    void write(E error, DataOutput out) throws IOException;
+
+    /**
+     * Reads an error written by {@link #write(Object, DataOutput)}.
+     */
+    E read(DataInput in) throws IOException;
+
+    /**
+     * @return a codec of errors which are strings.
+     */
+    static ErrorCodec<String> strings() {
+        return new ErrorCodec<>() {
+            @Override
+            public void write(String error, DataOutput out) throws IOException {
+                out.writeUTF(error);
+            }
+
+            @Override
+            public String read(DataInput in) throws IOException {
+                return in.readUTF();
+            }
+        };
+    }
+
+}
@@ -0,0 +1,260 @@
+package org.h5z.fval4j.codec;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import org.h5z.fval4j.Trie;
+
+/**
+ * Binary codec of tries.
+ *
+ * An encoded trie starts with a header holding the validity of the whole trie, followed by the table of the keys of
+ * its nodes, each key being written once, and by its nodes. Lengths and indexes are unsigned varints. The nodes are
+ * written children first and refer to their children by offset: a trie shared by several parents, and all the empty
+ * tries, are written once and are still shared once decoded.
+ *
+ * <pre>
+ * version    : byte
+ * flags      : byte, 1 if the trie is valid
+ * keys       : varint count, (varint length, UTF-8 bytes)*
+ * root       : varint offset of the root node in the nodes
+ * nodes      : varint length, node*
+ * node       : byte flags, varint count, (varint key index, varint child offset)*, varint count, error*
+ * </pre>
+ *
+ * Encoded tries are decoded lazily by {@link EncodedTrie}.
+ *
+ * @param <E> the type of the errors
+ */
+public final class TrieCodec<E> {
+
+    static final int VERSION = 1;
+    static final int VALID = 1;
+
+    final ErrorCodec<E> errorCodec;
+
+    public TrieCodec(ErrorCodec<E> errorCodec) {
+        this.errorCodec = errorCodec;
+    }
+
+    /**
+     * @throws UncheckedIOException if an error cannot be encoded.
+     */
+    public byte[] encode(Trie<E> trie) {
+        try {
+            Writer writer = new Writer();
+            int root = writer.node(trie);
+            ByteArrayOutputStream out = new ByteArrayOutputStream(writer.nodes.size() + 16 * writer.keys.size() + 16);
+            out.write(VERSION);
+            out.write(root & VALID);
+            writeVarint(out, writer.keys.size());
+            for (String key : writer.keys) {
+                byte[] bytes = key.getBytes(StandardCharsets.UTF_8);
+                writeVarint(out, bytes.length);
+                out.write(bytes);
+            }
+            writeVarint(out, root >>> 1);
+            writeVarint(out, writer.nodes.size());
+            writer.nodes.writeTo(out);
+            return out.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Writes the given trie at the position of the given buffer.
+     *
+     * @throws java.nio.BufferOverflowException if the buffer has not enough space remaining.
+     */
+    public void write(Trie<E> trie, ByteBuffer buffer) {
+        buffer.put(this.encode(trie));
+    }
+
+    /**
+     * Writes the given trie prefixed by its length.
+     */
+    public void write(Trie<E> trie, DataOutput out) throws IOException {
+        byte[] bytes = this.encode(trie);
+        int length = bytes.length;
+        while ((length & ~0x7F) != 0) {
+            out.writeByte((length & 0x7F) | 0x80);
+            length >>>= 7;
+        }
+        out.writeByte(length);
+        out.write(bytes);
+    }
+
+    /**
+     * @throws IllegalArgumentException if the bytes are not an encoded trie.
+     */
+    public EncodedTrie<E> decode(byte[] bytes) {
+        return new EncodedTrie<>(this, bytes, 0);
+    }
+
+    /**
+     * Reads the trie written at the position of the given buffer and moves the position after it.
+     *
+     * @throws IllegalArgumentException if the buffer does not contain an encoded trie.
+     */
+    public EncodedTrie<E> read(ByteBuffer buffer) {
+        EncodedTrie<E> trie;
+        if (buffer.hasArray()) {
+            trie = new EncodedTrie<>(this, buffer.array(), buffer.arrayOffset() + buffer.position());
+        } else {
+            byte[] bytes = new byte[buffer.remaining()];
+            buffer.duplicate().get(bytes);
+            trie = new EncodedTrie<>(this, bytes, 0);
+        }
+        buffer.position(buffer.position() + trie.length());
+        return trie;
+    }
+
+    /**
+     * Reads a trie written by {@link #write(Trie, DataOutput)}.
+     */
+    public EncodedTrie<E> read(DataInput in) throws IOException {
+        int length = 0;
+        for (int shift = 0; ; shift += 7) {
+            int b = in.readUnsignedByte();
+            length |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                break;
+            }
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return this.decode(bytes);
+    }
+
+    static void writeVarint(ByteArrayOutputStream out, int value) {
+        while ((value & ~0x7F) != 0) {
+            out.write((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.write(value);
+    }
+
+    private final class Writer {
+
+        final List<String> keys = new ArrayList<>();
+        final Map<String, Integer> keyIndexes = new HashMap<>();
+        final ByteArrayOutputStream nodes = new ByteArrayOutputStream();
+        final DataOutputStream errors = new DataOutputStream(this.nodes);
+        /** Offset of the written tries shifted left by one, the lowest bit being set if they are valid. */
+        final Map<Trie<E>, Integer> written = new IdentityHashMap<>();
+        int empty = -1;
+
+        /**
+         * Writes the given trie and the tries it contains, children first, without recursion.
+         *
+         * @return the offset of the written trie shifted left by one, the lowest bit being set if it is valid.
+         */
+        int node(Trie<E> trie) throws IOException {
+            int known = this.known(trie);
+            if (known >= 0) {
+                return known;
+            }
+            Deque<Pending> stack = new ArrayDeque<>();
+            stack.push(new Pending(trie));
+            while (true) {
+                Pending pending = stack.peek();
+                if (pending.entries.hasNext()) {
+                    Map.Entry<String, Trie<E>> child = pending.entries.next();
+                    pending.children[pending.i++] = this.keyIndexes.computeIfAbsent(child.getKey(), k -> {
+                        this.keys.add(k);
+                        return this.keys.size() - 1;
+                    });
+                    int offset = this.known(child.getValue());
+                    if (offset >= 0) {
+                        pending.child(offset);
+                    } else {
+                        stack.push(new Pending(child.getValue()));
+                    }
+                    continue;
+                }
+                stack.pop();
+                int offset = this.write(pending);
+                if (stack.isEmpty()) {
+                    return offset;
+                }
+                stack.peek().child(offset);
+            }
+        }
+
+        /**
+         * @return the offset of the given trie if it is already written, -1 otherwise.
+         */
+        private int known(Trie<E> trie) {
+            Integer known = this.written.get(trie);
+            if (known != null) {
+                return known;
+            }
+            boolean isEmpty = trie.getErrors().isEmpty() && trie.getChildren().isEmpty();
+            return isEmpty ? this.empty : -1;
+        }
+
+        private int write(Pending pending) throws IOException {
+            Trie<E> trie = pending.trie;
+            boolean valid = pending.valid && trie.getErrors().isEmpty();
+            int offset = this.nodes.size();
+            this.nodes.write(valid ? VALID : 0);
+            writeVarint(this.nodes, pending.children.length / 2);
+            for (int child : pending.children) {
+                writeVarint(this.nodes, child);
+            }
+            writeVarint(this.nodes, trie.getErrors().size());
+            for (E error : trie.getErrors()) {
+                TrieCodec.this.errorCodec.write(error, this.errors);
+            }
+
+            int result = offset << 1 | (valid ? VALID : 0);
+            this.written.put(trie, result);
+            if (trie.getErrors().isEmpty() && trie.getChildren().isEmpty()) {
+                this.empty = result;
+            }
+            return result;
+        }
+
+    }
+
+    /**
+     * Trie whose children are being written: the key index and the offset of each written child are stored in
+     * <code>children</code>.
+     */
+    private final class Pending {
+
+        final Trie<E> trie;
+        final Iterator<Map.Entry<String, Trie<E>>> entries;
+        final int[] children;
+        int i;
+        boolean valid = true;
+
+        Pending(Trie<E> trie) {
+            this.trie = trie;
+            this.entries = trie.getChildren().entrySet().iterator();
+            this.children = new int[2 * trie.getChildren().size()];
+        }
+
+        void child(int offset) {
+            this.valid &= (offset & VALID) != 0;
+            this.children[this.i++] = offset >>> 1;
+        }
+
+    }
+
+}
@@ -0,0 +1,50 @@
+package org.h5z.fval4j.csv;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * {@link CharSequence} view over ASCII bytes of a buffer. Characters are read from the buffer, nothing is copied
+ * until {@link #toString()} is called.
+ */
+final class AsciiSequence implements CharSequence {
+
+    private final ByteBuffer buffer;
+    private final int start;
+    private final int end;
+
+    AsciiSequence(ByteBuffer buffer, int start, int end) {
+        this.buffer = buffer;
+        this.start = start;
+        this.end = end;
+    }
+
+    @Override
+    public int length() {
+        return this.end - this.start;
+    }
+
+    @Override
+    public char charAt(int index) {
+        if (index < 0 || index >= this.length()) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        return (char) this.buffer.get(this.start + index);
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        if (start < 0 || end > this.length() || start > end) {
+            throw new IndexOutOfBoundsException();
+        }
+        return new AsciiSequence(this.buffer, this.start + start, this.start + end);
+    }
+
+    @Override
+    public String toString() {
+        byte[] bytes = new byte[this.length()];
+        this.buffer.get(this.start, bytes);
+        return new String(bytes, StandardCharsets.US_ASCII);
+    }
+
+}
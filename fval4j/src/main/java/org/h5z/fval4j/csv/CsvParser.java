@@ -0,0 +1,184 @@
+package org.h5z.fval4j.csv;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Splits the rows of a buffer holding UTF-8 CSV (RFC 4180) in fields.
+ *
+ * Only the positions of the fields are kept. Unquoted ASCII fields are returned as views over the buffer; other
+ * fields are decoded. Quoted fields may contain separators and escaped quotes, but not line breaks. Empty lines are
+ * ignored.
+ */
+final class CsvParser {
+
+    private static final byte VIEW = 0;
+    private static final byte DECODE = 1;
+    private static final byte UNESCAPE = 2;
+
+    private final ByteBuffer buffer;
+    private final int limit;
+    private int pos;
+
+    private int row;
+    private boolean malformed;
+    private int size;
+    private int[] starts = new int[16];
+    private int[] ends = new int[16];
+    private byte[] kinds = new byte[16];
+
+    CsvParser(ByteBuffer buffer) {
+        this.buffer = buffer;
+        this.limit = buffer.limit();
+        this.pos = buffer.position();
+    }
+
+    /**
+     * Parses the next row.
+     *
+     * @return <code>false</code> if there are no more rows.
+     */
+    boolean next() {
+        while (this.pos < this.limit && this.isLineBreak(this.pos)) {
+            this.pos += this.buffer.get(this.pos) == '\r' ? 2 : 1;
+        }
+        if (this.pos >= this.limit) {
+            return false;
+        }
+        this.row = this.pos;
+        this.malformed = false;
+        this.size = 0;
+        while (true) {
+            if (this.buffer.get(this.pos) == '"') {
+                if (!this.quoted()) {
+                    this.malformed = true;
+                    this.skipLine();
+                    return true;
+                }
+            } else {
+                this.unquoted();
+            }
+            if (this.pos < this.limit && this.buffer.get(this.pos) == ',') {
+                this.pos++;
+                if (this.pos >= this.limit || this.isLineBreak(this.pos)) {
+                    this.add(this.pos, this.pos, VIEW);
+                    this.skipLine();
+                    return true;
+                }
+                continue;
+            }
+            this.skipLine();
+            return true;
+        }
+    }
+
+    /**
+     * @return the position of the first byte of the current row.
+     */
+    int row() {
+        return this.row;
+    }
+
+    /**
+     * @return <code>true</code> if the current row is not well-formed.
+     */
+    boolean isMalformed() {
+        return this.malformed;
+    }
+
+    /**
+     * @return the number of fields of the current row.
+     */
+    int size() {
+        return this.size;
+    }
+
+    CharSequence field(int i) {
+        int start = this.starts[i];
+        int end = this.ends[i];
+        switch (this.kinds[i]) {
+            case VIEW:
+                return new AsciiSequence(this.buffer, start, end);
+            case DECODE:
+                return this.utf8(start, end);
+            default:
+                return this.utf8(start, end).replace("\"\"", "\"");
+        }
+    }
+
+    private boolean quoted() {
+        int i = this.pos + 1;
+        byte kind = VIEW;
+        while (true) {
+            if (i >= this.limit || this.buffer.get(i) == '\n') {
+                this.pos = i;
+                return false;
+            }
+            byte b = this.buffer.get(i);
+            if (b == '"') {
+                if (i + 1 < this.limit && this.buffer.get(i + 1) == '"') {
+                    kind = UNESCAPE;
+                    i += 2;
+                    continue;
+                }
+                break;
+            }
+            if (b < 0 && kind == VIEW) {
+                kind = DECODE;
+            }
+            i++;
+        }
+        this.add(this.pos + 1, i, kind);
+        this.pos = i + 1;
+        return this.pos >= this.limit || this.buffer.get(this.pos) == ',' || this.isLineBreak(this.pos);
+    }
+
+    private void unquoted() {
+        int i = this.pos;
+        byte kind = VIEW;
+        while (i < this.limit) {
+            byte b = this.buffer.get(i);
+            if (b == ',' || b == '\n' || (b == '\r' && this.isLineBreak(i))) {
+                break;
+            }
+            if (b < 0) {
+                kind = DECODE;
+            }
+            i++;
+        }
+        this.add(this.pos, i, kind);
+        this.pos = i;
+    }
+
+    private boolean isLineBreak(int i) {
+        byte b = this.buffer.get(i);
+        return b == '\n' || (b == '\r' && (i + 1 >= this.limit || this.buffer.get(i + 1) == '\n'));
+    }
+
+    private void skipLine() {
+        while (this.pos < this.limit && this.buffer.get(this.pos) != '\n') {
+            this.pos++;
+        }
+        this.pos++;
+    }
+
+    private void add(int start, int end, byte kind) {
+        if (this.size == this.starts.length) {
+            this.starts = Arrays.copyOf(this.starts, this.size * 2);
+            this.ends = Arrays.copyOf(this.ends, this.size * 2);
+            this.kinds = Arrays.copyOf(this.kinds, this.size * 2);
+        }
+        this.starts[this.size] = start;
+        this.ends[this.size] = end;
+        this.kinds[this.size] = kind;
+        this.size++;
+    }
+
+    private String utf8(int from, int to) {
+        byte[] bytes = new byte[to - from];
+        this.buffer.get(from, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+}
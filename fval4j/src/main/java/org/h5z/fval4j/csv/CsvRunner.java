@@ -0,0 +1,167 @@
+package org.h5z.fval4j.csv;
+
+import static org.h5z.fval4j.Trie.trie;
+import static org.organicdesign.fp.StaticImports.vec;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.h5z.fval4j.Trie;
+import org.h5z.fval4j.Core.Validator;
+import org.h5z.fval4j.io.MappedChunks;
+
+/**
+ * Validates the rows of a CSV file column by column.
+ *
+ * The first row of the file holds the names of the columns. The other rows are split in chunks which are
+ * memory-mapped and validated in parallel, see {@link MappedChunks}. The cells are given to the validators of their
+ * column as {@link CharSequence} views over the mapped bytes, see {@link CsvValidators}.
+ *
+ * Quoted cells may contain separators and escaped quotes, but not line breaks.
+ */
+public final class CsvRunner {
+
+    /**
+     * Receives the result of each row.
+     */
+    @FunctionalInterface
+    public interface Sink<E> {
+
+        /**
+         * @param offset the position of the first byte of the row in the file
+         * @param errors the errors of the row, keyed by column name
+         */
+        void accept(long offset, Trie<E> errors);
+
+    }
+
+    private CsvRunner() {
+        throw new IllegalAccessError("Cannot be instanciated");
+    }
+
+    /**
+     * Validates the given file with as many workers as available processors.
+     *
+     * @see #run(Path, Map, Supplier, Function, Sink, int, long)
+     */
+    public static <E> long run(Path file,
+                               Map<String, ? extends Validator<CharSequence, ?, E>> columns,
+                               Supplier<E> malformed,
+                               Function<Throwable, E> failed,
+                               Sink<E> sink) throws IOException {
+        return run(file, columns, malformed, failed, sink, Runtime.getRuntime().availableProcessors(), MappedChunks.DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Validates the rows of the given file.
+     *
+     * The cells are only valid during the call of their validator: they must not be kept. The sink is called
+     * concurrently by the workers, in no particular order.
+     *
+     * @param file        the file to validate
+     * @param columns     the validators to apply, by column name. Columns without validator are not checked.
+     * @param malformed   the supplier of the error of the rows which cannot be parsed or don't have as many cells
+     *                    as the header
+     * @param failed      the function returning the error of a cell whose validator threw the given exception or
+     *                    error
+     * @param sink        the consumer of the results
+     * @param parallelism the number of workers
+     * @param chunkSize   the approximate number of bytes mapped and validated at once by a worker
+     *
+     * @return the number of rows validated.
+     *
+     * @throws IllegalArgumentException if a validator is given for a column which is not in the header.
+     */
+    public static <E> long run(Path file,
+                               Map<String, ? extends Validator<CharSequence, ?, E>> columns,
+                               Supplier<E> malformed,
+                               Function<Throwable, E> failed,
+                               Sink<E> sink,
+                               int parallelism,
+                               long chunkSize) throws IOException {
+        List<String> header;
+        long from;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            from = MappedChunks.nextLine(channel, 0);
+            if (from > Integer.MAX_VALUE) {
+                throw new IOException("Header too large");
+            }
+            ByteBuffer buffer = ByteBuffer.allocate((int) from);
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer, buffer.position()) < 0) {
+                    break;
+                }
+            }
+            header = header(buffer.flip());
+        }
+
+        int width = header.size();
+        String[] names = new String[columns.size()];
+        int[] indexes = new int[columns.size()];
+        @SuppressWarnings({ "unchecked", "rawtypes" })
+        Validator<CharSequence, ?, E>[] validators = new Validator[columns.size()];
+        int c = 0;
+        for (Map.Entry<String, ? extends Validator<CharSequence, ?, E>> column : columns.entrySet()) {
+            int index = header.indexOf(column.getKey());
+            if (index < 0) {
+                throw new IllegalArgumentException("%s has no column %s".formatted(file, column.getKey()));
+            }
+            names[c] = column.getKey();
+            indexes[c] = index;
+            validators[c] = column.getValue();
+            c++;
+        }
+
+        return MappedChunks.process(file, from, parallelism, chunkSize, (chunk, offset) -> {
+            CsvParser parser = new CsvParser(chunk);
+            Map<String, Trie<E>> cells = new HashMap<>();
+            long count = 0;
+            while (parser.next()) {
+                count++;
+                if (parser.isMalformed() || parser.size() != width) {
+                    sink.accept(offset + parser.row(), Trie.invalid(malformed.get()));
+                    continue;
+                }
+                cells.clear();
+                for (int i = 0; i < names.length; i++) {
+                    cells.put(names[i], validate(validators[i], parser.field(indexes[i]), failed));
+                }
+                sink.accept(offset + parser.row(), trie(vec(), cells));
+            }
+            return count;
+        });
+    }
+
+    /**
+     * Validates a cell. The errors of the virtual machine other than a stack overflow, e.g. running out of memory,
+     * are not caused by the cell: they abort the run.
+     */
+    private static <E> Trie<E> validate(Validator<CharSequence, ?, E> validator, CharSequence cell, Function<Throwable, E> failed) {
+        try {
+            return validator.apply(cell)._1();
+        } catch (RuntimeException | StackOverflowError | AssertionError e) {
+            return Trie.invalid(failed.apply(e));
+        }
+    }
+
+    private static List<String> header(ByteBuffer buffer) {
+        CsvParser parser = new CsvParser(buffer);
+        List<String> header = new ArrayList<>();
+        if (parser.next() && !parser.isMalformed()) {
+            for (int i = 0; i < parser.size(); i++) {
+                header.add(parser.field(i).toString());
+            }
+        }
+        return header;
+    }
+
+}
@@ -0,0 +1,162 @@
+package org.h5z.fval4j.csv;
+
+import static org.h5z.fval4j.data.ValidationResult.invalid;
+import static org.h5z.fval4j.data.ValidationResult.valid;
+import static org.organicdesign.fp.StaticImports.vec;
+
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+import org.h5z.fval4j.Descriptor;
+import org.h5z.fval4j.Core.Described;
+import org.h5z.fval4j.Core.Validator;
+import org.h5z.fval4j.data.ValidationResult;
+
+/**
+ * Validators of {@link CharSequence} cells.
+ *
+ * Unlike the validators of strings, they read the characters of the cell in place: no string is created unless the
+ * cell is converted to one.
+ */
+public final class CsvValidators {
+
+    private CsvValidators() {
+        throw new IllegalAccessError("Cannot be instanciated");
+    }
+
+    public static <E> Validator<CharSequence, CharSequence, E> lengthBetween(int inclMin,
+                                                                             int inclMax,
+                                                                             Function<CharSequence, E> errorFn) {
+        return new Described<CharSequence, CharSequence, E>(Descriptor.LENGTH_BETWEEN, vec(inclMin, inclMax), vec(errorFn), vec()) {
+            @Override
+            public ValidationResult<E, CharSequence, CharSequence> apply(CharSequence v) {
+                return v.length() >= inclMin && v.length() <= inclMax
+                        ? valid(v, v)
+                        : invalid(v, errorFn.apply(v));
+            }
+        };
+    }
+
+    public static <E> Validator<CharSequence, CharSequence, E> lengthBetween(int inclMin, int inclMax, Supplier<E> lazyE) {
+        return lengthBetween(inclMin, inclMax, _v -> lazyE.get());
+    }
+
+    /**
+     * Like {@link org.h5z.fval4j.Validators#matches(String, Function)}, the cell is valid if the pattern is found in
+     * it. The pattern is compiled once.
+     */
+    public static <E> Validator<CharSequence, CharSequence, E> matches(String regex, Function<CharSequence, E> errorFn) {
+        Pattern pattern = Pattern.compile(regex);
+        return new Described<CharSequence, CharSequence, E>(Descriptor.MATCHES, vec(regex), vec(errorFn), vec()) {
+            @Override
+            public ValidationResult<E, CharSequence, CharSequence> apply(CharSequence v) {
+                return pattern.matcher(v).find()
+                        ? valid(v, v)
+                        : invalid(v, errorFn.apply(v));
+            }
+        };
+    }
+
+    public static <E> Validator<CharSequence, CharSequence, E> matches(String regex, Supplier<E> lazyE) {
+        return matches(regex, _v -> lazyE.get());
+    }
+
+    public static <E> Validator<CharSequence, CharSequence, E> notBlank(Function<CharSequence, E> errorFn) {
+        return new Described<CharSequence, CharSequence, E>(Descriptor.NOT_BLANK, vec(), vec(errorFn), vec()) {
+            @Override
+            public ValidationResult<E, CharSequence, CharSequence> apply(CharSequence v) {
+                for (int i = 0; i < v.length(); i++) {
+                    if (!Character.isWhitespace(v.charAt(i))) {
+                        return valid(v, v);
+                    }
+                }
+                return invalid(v, errorFn.apply(v));
+            }
+        };
+    }
+
+    public static <E> Validator<CharSequence, CharSequence, E> notBlank(Supplier<E> lazyE) {
+        return notBlank(_v -> lazyE.get());
+    }
+
+    /**
+     * Parses the cell as a decimal <code>int</code> and applies the given validator on it.
+     *
+     * @param errorFn the function returning the error if the cell is not an <code>int</code>
+     */
+    public static <U, E> Validator<CharSequence, U, E> integer(Validator<Integer, U, E> validator,
+                                                               Function<CharSequence, E> errorFn) {
+        return new Described<CharSequence, U, E>(Descriptor.INTEGER, vec(), vec(errorFn), vec(validator)) {
+            @Override
+            public ValidationResult<E, CharSequence, U> apply(CharSequence v) {
+                int i;
+                try {
+                    i = Integer.parseInt(v, 0, v.length(), 10);
+                } catch (NumberFormatException e) {
+                    return invalid(v, errorFn.apply(v));
+                }
+                ValidationResult<E, Integer, U> result = validator.apply(i);
+                return new ValidationResult<E, CharSequence, U>(result._1(), v, result._3());
+            }
+        };
+    }
+
+    public static <U, E> Validator<CharSequence, U, E> integer(Validator<Integer, U, E> validator, Supplier<E> lazyE) {
+        return integer(validator, _v -> lazyE.get());
+    }
+
+    /**
+     * Parses the cell as a decimal <code>long</code> and applies the given validator on it.
+     *
+     * @param errorFn the function returning the error if the cell is not a <code>long</code>
+     */
+    public static <U, E> Validator<CharSequence, U, E> longInteger(Validator<Long, U, E> validator,
+                                                                   Function<CharSequence, E> errorFn) {
+        return new Described<CharSequence, U, E>(Descriptor.LONG_INTEGER, vec(), vec(errorFn), vec(validator)) {
+            @Override
+            public ValidationResult<E, CharSequence, U> apply(CharSequence v) {
+                long l;
+                try {
+                    l = Long.parseLong(v, 0, v.length(), 10);
+                } catch (NumberFormatException e) {
+                    return invalid(v, errorFn.apply(v));
+                }
+                ValidationResult<E, Long, U> result = validator.apply(l);
+                return new ValidationResult<E, CharSequence, U>(result._1(), v, result._3());
+            }
+        };
+    }
+
+    public static <U, E> Validator<CharSequence, U, E> longInteger(Validator<Long, U, E> validator, Supplier<E> lazyE) {
+        return longInteger(validator, _v -> lazyE.get());
+    }
+
+    /**
+     * Parses the cell as a <code>double</code> and applies the given validator on it. The JDK has no parser of
+     * doubles from a {@link CharSequence}, the cell is converted to a string.
+     *
+     * @param errorFn the function returning the error if the cell is not a <code>double</code>
+     */
+    public static <U, E> Validator<CharSequence, U, E> decimal(Validator<Double, U, E> validator,
+                                                               Function<CharSequence, E> errorFn) {
+        return new Described<CharSequence, U, E>(Descriptor.DECIMAL, vec(), vec(errorFn), vec(validator)) {
+            @Override
+            public ValidationResult<E, CharSequence, U> apply(CharSequence v) {
+                double d;
+                try {
+                    d = Double.parseDouble(v.toString());
+                } catch (NumberFormatException e) {
+                    return invalid(v, errorFn.apply(v));
+                }
+                ValidationResult<E, Double, U> result = validator.apply(d);
+                return new ValidationResult<E, CharSequence, U>(result._1(), v, result._3());
+            }
+        };
+    }
+
+    public static <U, E> Validator<CharSequence, U, E> decimal(Validator<Double, U, E> validator, Supplier<E> lazyE) {
+        return decimal(validator, _v -> lazyE.get());
+    }
+
+}
@@ -0,0 +1,139 @@
+package org.h5z.fval4j.data;
+
+import java.io.Serializable;
+import java.util.Collection;
+
+/**
+ * A Bloom filter: a compact set answering whether a value is <i>definitely absent</i> or <i>maybe present</i>, with a
+ * given rate of false positives. It guards the validators checking the existence of a value against a slow store,
+ * see {@link org.h5z.fval4j.Core#bloomGuarded(java.util.function.Supplier, org.h5z.fval4j.Core.Validator)}.
+ *
+ * The values are hashed by a {@link Hasher}, the filter being serializable with its hasher. A filter is filled with
+ * {@link #put(Object)}, which is not thread-safe, and then read by any number of threads with
+ * {@link #mightContain(Object)}. To rebuild the filter at runtime, fill a new filter and publish it atomically, for
+ * instance through an {@link java.util.concurrent.atomic.AtomicReference}.
+ *
+ * @param <T> the type of the values
+ */
+public final class BloomFilter<T> implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Hashes a value to 64 bits. The hasher is serialized with the filter: the lambdas given as hashers are
+     * serializable as long as the values they capture are.
+     */
+    @FunctionalInterface
+    public interface Hasher<T> extends Serializable {
+
+        long hash(T value);
+
+        /**
+         * @return a hasher of the characters of a string, the 64-bit FNV-1a hash.
+         */
+        static Hasher<CharSequence> strings() {
+            return s -> {
+                long h = 0xcbf29ce484222325L;
+                for (int i = 0; i < s.length(); i++) {
+                    h = (h ^ s.charAt(i)) * 0x100000001b3L;
+                }
+                return h;
+            };
+        }
+
+        static Hasher<Long> longs() {
+            return l -> l;
+        }
+
+    }
+
+    private final Hasher<? super T> hasher;
+    private final long[] bits;
+    private final long size;
+    private final int hashes;
+
+    private BloomFilter(Hasher<? super T> hasher, long size, int hashes) {
+        this.hasher = hasher;
+        this.bits = new long[(int) ((size + 63) / 64)];
+        this.size = size;
+        this.hashes = hashes;
+    }
+
+    /**
+     * Creates an empty filter sized for the given number of values.
+     *
+     * @param hasher             the hasher of the values
+     * @param expectedInsertions the number of values which will be put in the filter
+     * @param fpp                the rate of false positives once the expected values are put, between 0 and 1
+     *                           exclusive
+     */
+    public static <T> BloomFilter<T> create(Hasher<? super T> hasher, long expectedInsertions, double fpp) {
+        if (expectedInsertions < 0 || !(fpp > 0 && fpp < 1)) {
+            throw new IllegalArgumentException("Invalid expected insertions or false positive rate");
+        }
+        long n = Math.max(1, expectedInsertions);
+        long size = Math.max(64, (long) Math.ceil(-n * Math.log(fpp) / (Math.log(2) * Math.log(2))));
+        if (size > 64L * Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Filter too large");
+        }
+        int hashes = (int) Math.max(1, Math.round((double) size / n * Math.log(2)));
+        return new BloomFilter<>(hasher, size, hashes);
+    }
+
+    /**
+     * Creates a filter holding the given values.
+     */
+    public static <T> BloomFilter<T> of(Hasher<? super T> hasher, Collection<? extends T> values, double fpp) {
+        BloomFilter<T> filter = create(hasher, values.size(), fpp);
+        for (T value : values) {
+            filter.put(value);
+        }
+        return filter;
+    }
+
+    public void put(T value) {
+        long h1 = mix(this.hasher.hash(value));
+        long h2 = mix(h1) | 1;
+        for (int i = 0; i < this.hashes; i++) {
+            long bit = ((h1 + i * h2) & Long.MAX_VALUE) % this.size;
+            this.bits[(int) (bit >>> 6)] |= 1L << bit;
+        }
+    }
+
+    /**
+     * @return false if the value is definitely not in the filter, true if it might be.
+     */
+    public boolean mightContain(T value) {
+        long h1 = mix(this.hasher.hash(value));
+        long h2 = mix(h1) | 1;
+        for (int i = 0; i < this.hashes; i++) {
+            long bit = ((h1 + i * h2) & Long.MAX_VALUE) % this.size;
+            if ((this.bits[(int) (bit >>> 6)] & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return the number of bits of the filter.
+     */
+    public long bitSize() {
+        return this.size;
+    }
+
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    @Override
+    public String toString() {
+        return "BloomFilter[" + this.size + " bits, " + this.hashes + " hashes]";
+    }
+
+}
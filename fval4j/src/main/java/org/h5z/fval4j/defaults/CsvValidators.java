@@ -0,0 +1,39 @@
+package org.h5z.fval4j.defaults;
+
+import static org.h5z.fval4j.DefaultErrors.STRING_DOESNT_MATCH;
+import static org.h5z.fval4j.DefaultErrors.STRING_LENGTH_NOT_BETWEEN_BOUNDS;
+
+import org.h5z.fval4j.Core.Validator;
+import org.h5z.fval4j.DefaultErrors.ValidationError;
+
+public final class CsvValidators {
+
+    private CsvValidators() {
+        throw new IllegalAccessError("Cannot be instanciated");
+    }
+
+    public static Validator<CharSequence, CharSequence, ValidationError> lengthBetween(int inclMin, int inclMax) {
+        return org.h5z.fval4j.csv.CsvValidators.lengthBetween(inclMin, inclMax, v -> ValidationError.error(STRING_LENGTH_NOT_BETWEEN_BOUNDS, inclMin, inclMax, v.length()));
+    }
+
+    public static Validator<CharSequence, CharSequence, ValidationError> matches(String regex) {
+        return org.h5z.fval4j.csv.CsvValidators.matches(regex, v -> ValidationError.error(STRING_DOESNT_MATCH, regex, v.toString()));
+    }
+
+    public static Validator<CharSequence, CharSequence, ValidationError> notBlank() {
+        return org.h5z.fval4j.csv.CsvValidators.notBlank(() -> ValidationError.error("StringBlank"));
+    }
+
+    public static <U> Validator<CharSequence, U, ValidationError> integer(Validator<Integer, U, ValidationError> validator) {
+        return org.h5z.fval4j.csv.CsvValidators.integer(validator, () -> ValidationError.error("NotAnInteger"));
+    }
+
+    public static <U> Validator<CharSequence, U, ValidationError> longInteger(Validator<Long, U, ValidationError> validator) {
+        return org.h5z.fval4j.csv.CsvValidators.longInteger(validator, () -> ValidationError.error("NotALong"));
+    }
+
+    public static <U> Validator<CharSequence, U, ValidationError> decimal(Validator<Double, U, ValidationError> validator) {
+        return org.h5z.fval4j.csv.CsvValidators.decimal(validator, () -> ValidationError.error("NotADecimal"));
+    }
+
+}
@@ -0,0 +1,23 @@
+package org.h5z.fval4j.defaults;
+
+import java.nio.ByteBuffer;
+import java.util.Map;
+
+import org.h5z.fval4j.Core.Validator;
+import org.h5z.fval4j.DefaultErrors.ValidationError;
+
+public final class JsonValidators {
+
+    private JsonValidators() {
+        throw new IllegalAccessError("Cannot be instanciated");
+    }
+
+    public static <U> Validator<byte[], U, ValidationError> json(Validator<Map<String, Object>, U, ValidationError> schema) {
+        return org.h5z.fval4j.json.JsonValidators.json(schema, () -> ValidationError.error("MalformedJson"));
+    }
+
+    public static <U> Validator<ByteBuffer, U, ValidationError> jsonBuffer(Validator<Map<String, Object>, U, ValidationError> schema) {
+        return org.h5z.fval4j.json.JsonValidators.jsonBuffer(schema, () -> ValidationError.error("MalformedJson"));
+    }
+
+}
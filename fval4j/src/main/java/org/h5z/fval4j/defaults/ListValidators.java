@@ -0,0 +1,33 @@
+package org.h5z.fval4j.defaults;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+import org.h5z.fval4j.Core.Validator;
+import org.h5z.fval4j.DefaultErrors.ValidationError;
+
+public final class ListValidators {
+
+    private ListValidators() {
+        throw new IllegalAccessError("Cannot be instanciated");
+    }
+
+    public static <V, K> Validator<List<V>, List<V>, ValidationError> distinct(Function<V, K> extractor) {
+        return org.h5z.fval4j.validators.ListValidators.distinct(extractor, k -> ValidationError.error("DuplicateElement", k));
+    }
+
+    public static <V> Validator<List<V>, List<V>, ValidationError> distinctLong(ToLongFunction<V> extractor) {
+        return org.h5z.fval4j.validators.ListValidators.distinctLong(extractor, k -> ValidationError.error("DuplicateElement", k));
+    }
+
+    public static <V> Validator<List<V>, List<V>, ValidationError> distinctInt(ToIntFunction<V> extractor) {
+        return org.h5z.fval4j.validators.ListValidators.distinctInt(extractor, k -> ValidationError.error("DuplicateElement", k));
+    }
+
+    public static <V> Validator<List<V>, List<V>, ValidationError> distinctString(Function<V, String> extractor) {
+        return org.h5z.fval4j.validators.ListValidators.distinctString(extractor, k -> ValidationError.error("DuplicateElement", k));
+    }
+
+}
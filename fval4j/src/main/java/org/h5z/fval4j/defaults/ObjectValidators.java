@@ -31,4 +31,8 @@ public final class ObjectValidators {
         return org.h5z.fval4j.validators.ObjectValidators.nestedMap(validator, _v -> ValidationError.error("NotAMap"));
     }
 
+    public static <U> Validator<Object, U, ValidationError> typeSwitch(Map<Class<?>, ? extends Validator<?, ? extends U, ValidationError>> cases) {
+        return org.h5z.fval4j.validators.ObjectValidators.typeSwitch(cases, _v -> ValidationError.error("NotInstanceOf"));
+    }
+
 }
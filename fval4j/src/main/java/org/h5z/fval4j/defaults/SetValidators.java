@@ -0,0 +1,29 @@
+package org.h5z.fval4j.defaults;
+
+import static org.h5z.fval4j.DefaultErrors.COLLECTION_SIZE_NOT_BETWEEN_BOUNDS;
+
+import java.util.Set;
+import java.util.function.Function;
+
+import org.h5z.fval4j.Core.Validator;
+import org.h5z.fval4j.DefaultErrors.ValidationError;
+
+public final class SetValidators {
+
+    private SetValidators() {
+        throw new IllegalAccessError("Cannot be instanciated");
+    }
+
+    public static <V> Validator<Set<V>, Set<V>, ValidationError> sizeBetween(int inclMin, int inclMax) {
+        return org.h5z.fval4j.validators.SetValidators.sizeBetween(inclMin, inclMax, s -> ValidationError.error(COLLECTION_SIZE_NOT_BETWEEN_BOUNDS, inclMin, inclMax, s.size()));
+    }
+
+    public static <V> Validator<Set<V>, Set<V>, ValidationError> contains(V element) {
+        return org.h5z.fval4j.validators.SetValidators.contains(element, _s -> ValidationError.error("ElementNotFound", element));
+    }
+
+    public static <V, K> Validator<Set<V>, Set<V>, ValidationError> uniqueBy(Function<V, K> fn) {
+        return org.h5z.fval4j.validators.SetValidators.uniqueBy(fn, k -> ValidationError.error("DuplicateElement", k));
+    }
+
+}
@@ -0,0 +1,153 @@
+package org.h5z.fval4j.io;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Processes a file in parallel, by chunks ending on a newline.
+ *
+ * Each chunk is memory-mapped when a worker picks it up so the memory used does not depend on the size of the
+ * file.
+ */
+public final class MappedChunks {
+
+    public static final long DEFAULT_CHUNK_SIZE = 64L * 1024 * 1024;
+
+    /**
+     * Processes a chunk.
+     */
+    @FunctionalInterface
+    public interface Worker {
+
+        /**
+         * @param chunk  the mapped chunk, from position 0 to its limit
+         * @param offset the position of the chunk in the file
+         *
+         * @return the number of records processed.
+         */
+        long process(ByteBuffer chunk, long offset);
+
+    }
+
+    private MappedChunks() {
+        throw new IllegalAccessError("Cannot be instanciated");
+    }
+
+    /**
+     * Splits the given file, from the given position, in chunks of about <code>chunkSize</code> bytes ending on a
+     * newline and processes them with the given worker.
+     *
+     * @param file        the file to process
+     * @param from        the position of the first chunk
+     * @param parallelism the number of workers
+     * @param chunkSize   the approximate number of bytes mapped and processed at once by a worker
+     * @param worker      the function processing a chunk. It is called concurrently.
+     *
+     * @return the sum of the records processed by the workers.
+     */
+    public static long process(Path file, long from, int parallelism, long chunkSize, Worker worker) throws IOException {
+        if (parallelism < 1 || chunkSize < 1 || chunkSize > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Invalid parallelism or chunk size");
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            List<long[]> chunks = chunks(channel, from, chunkSize);
+            ExecutorService executor = Executors.newFixedThreadPool(Math.min(parallelism, Math.max(1, chunks.size())));
+            try {
+                List<Future<Long>> futures = new ArrayList<>(chunks.size());
+                for (long[] chunk : chunks) {
+                    futures.add(executor.submit(() -> worker.process(map(channel, chunk[0], chunk[1]), chunk[0])));
+                }
+                long count = 0;
+                for (Future<Long> future : futures) {
+                    count += future.get();
+                }
+                return count;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrupted while processing " + file, e);
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof UncheckedIOException unchecked) {
+                    throw unchecked.getCause();
+                }
+                if (e.getCause() instanceof RuntimeException runtime) {
+                    throw runtime;
+                }
+                if (e.getCause() instanceof Error error) {
+                    throw error;
+                }
+                throw new IllegalStateException(e.getCause());
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+    }
+
+    /**
+     * @return the position following the first newline from the given position, or the size of the file.
+     */
+    public static long nextLine(FileChannel channel, long pos) throws IOException {
+        return nextLine(channel, ByteBuffer.allocate(4096), pos);
+    }
+
+    /**
+     * @return the start and the end of the chunks. Each chunk ends after a newline or at the end of the file.
+     */
+    private static List<long[]> chunks(FileChannel channel, long from, long chunkSize) throws IOException {
+        long size = channel.size();
+        List<long[]> chunks = new ArrayList<>();
+        ByteBuffer scan = ByteBuffer.allocate(4096);
+        long start = from;
+        while (start < size) {
+            long end = Math.min(size, start + chunkSize);
+            while (end < size && !endsLine(channel, scan, end)) {
+                end = nextLine(channel, scan, end);
+            }
+            if (end - start > Integer.MAX_VALUE) {
+                throw new IOException("Record too large at " + start);
+            }
+            chunks.add(new long[] { start, end });
+            start = end;
+        }
+        return chunks;
+    }
+
+    private static boolean endsLine(FileChannel channel, ByteBuffer scan, long pos) throws IOException {
+        scan.clear().limit(1);
+        channel.read(scan, pos - 1);
+        return scan.get(0) == '\n';
+    }
+
+    private static long nextLine(FileChannel channel, ByteBuffer scan, long pos) throws IOException {
+        long size = channel.size();
+        while (pos < size) {
+            scan.clear();
+            int read = channel.read(scan, pos);
+            for (int i = 0; i < read; i++) {
+                if (scan.get(i) == '\n') {
+                    return pos + i + 1;
+                }
+            }
+            pos += read;
+        }
+        return size;
+    }
+
+    private static ByteBuffer map(FileChannel channel, long start, long end) {
+        try {
+            return channel.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+}
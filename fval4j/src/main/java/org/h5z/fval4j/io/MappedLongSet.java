@@ -0,0 +1,94 @@
+package org.h5z.fval4j.io;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Immutable set of <code>long</code> values memory-mapped from a file, for instance an allowlist of tens of millions
+ * of ids which would not fit comfortably in a {@link java.util.HashSet}.
+ *
+ * The file holds the distinct values sorted in ascending order, written as big-endian <code>long</code>s, see
+ * {@link #write(Path, long[])}. The values stay off-heap: {@link #contains(long)} is a binary search over the
+ * mapped file, which allocates nothing.
+ */
+public final class MappedLongSet {
+
+    private final ByteBuffer values;
+    private final int size;
+
+    private MappedLongSet(ByteBuffer values) {
+        this.values = values;
+        this.size = values.limit() / Long.BYTES;
+    }
+
+    /**
+     * Maps the given file, checking that its values are sorted and distinct.
+     *
+     * @throws IOException if the file is larger than 2GB or is not a sorted set of <code>long</code> values.
+     */
+    public static MappedLongSet open(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long length = channel.size();
+            if (length > Integer.MAX_VALUE || length % Long.BYTES != 0) {
+                throw new IOException("Not a set of long values: " + file);
+            }
+            MappedLongSet set = new MappedLongSet(channel.map(FileChannel.MapMode.READ_ONLY, 0, length));
+            for (int i = 1; i < set.size; i++) {
+                if (set.get(i - 1) >= set.get(i)) {
+                    throw new IOException("Values not sorted at index " + i + ": " + file);
+                }
+            }
+            return set;
+        }
+    }
+
+    /**
+     * Writes the given values, sorted and without duplicates, to the given file.
+     */
+    public static void write(Path file, long[] values) throws IOException {
+        long[] sorted = Arrays.stream(values).sorted().distinct().toArray();
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)))) {
+            for (long value : sorted) {
+                out.writeLong(value);
+            }
+        }
+    }
+
+    public boolean contains(long value) {
+        int low = 0;
+        int high = this.size - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            long v = this.get(mid);
+            if (v < value) {
+                low = mid + 1;
+            } else if (v > value) {
+                high = mid - 1;
+            } else {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public int size() {
+        return this.size;
+    }
+
+    private long get(int i) {
+        return this.values.getLong(i * Long.BYTES);
+    }
+
+    @Override
+    public String toString() {
+        return "MappedLongSet[" + this.size + "]";
+    }
+
+}
@@ -0,0 +1,169 @@
+package org.h5z.fval4j.io;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * Immutable set of strings memory-mapped from a file, for instance an allowlist of postcodes or product codes.
+ *
+ * The file holds the number of strings, the offsets of the strings followed by the end of the last one, then the
+ * UTF-8 bytes of the distinct strings sorted by code point, see {@link #write(Path, Collection)}. The strings stay
+ * off-heap: {@link #contains(String)} is a binary search comparing the code points of the string with the mapped
+ * bytes, without encoding it, which allocates nothing.
+ */
+public final class MappedStringSet {
+
+    private final ByteBuffer buffer;
+    private final int size;
+    private final int data;
+
+    private MappedStringSet(ByteBuffer buffer, int size) {
+        this.buffer = buffer;
+        this.size = size;
+        this.data = Integer.BYTES * (size + 2);
+    }
+
+    /**
+     * Maps the given file, checking that its strings are sorted and distinct.
+     *
+     * @throws IOException if the file is larger than 2GB or is not a sorted set of strings.
+     */
+    public static MappedStringSet open(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long length = channel.size();
+            if (length > Integer.MAX_VALUE || length < Integer.BYTES * 2) {
+                throw new IOException("Not a set of strings: " + file);
+            }
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, length);
+            int size = buffer.getInt(0);
+            if (size < 0 || Integer.BYTES * (size + 2L) > length) {
+                throw new IOException("Not a set of strings: " + file);
+            }
+            MappedStringSet set = new MappedStringSet(buffer, size);
+            if (set.data + (long) set.offset(size) != length) {
+                throw new IOException("Not a set of strings: " + file);
+            }
+            for (int i = 0; i < size; i++) {
+                if (set.offset(i) > set.offset(i + 1)
+                        || i > 0 && Arrays.compareUnsigned(set.bytes(i - 1), set.bytes(i)) >= 0) {
+                    throw new IOException("Strings not sorted at index " + i + ": " + file);
+                }
+            }
+            return set;
+        }
+    }
+
+    /**
+     * Writes the given strings, sorted and without duplicates, to the given file.
+     */
+    public static void write(Path file, Collection<String> strings) throws IOException {
+        byte[][] sorted = strings.stream()
+            .map(s -> s.getBytes(StandardCharsets.UTF_8))
+            .sorted(Arrays::compareUnsigned)
+            .toArray(byte[][]::new);
+        int size = 0;
+        for (int i = 0; i < sorted.length; i++) {
+            if (i == 0 || !Arrays.equals(sorted[i - 1], sorted[i])) {
+                sorted[size++] = sorted[i];
+            }
+        }
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)))) {
+            out.writeInt(size);
+            long offset = 0;
+            for (int i = 0; i < size; i++) {
+                out.writeInt((int) offset);
+                offset += sorted[i].length;
+            }
+            if (Integer.BYTES * (size + 2L) + offset > Integer.MAX_VALUE) {
+                throw new IOException("Strings too large for " + file);
+            }
+            out.writeInt((int) offset);
+            for (int i = 0; i < size; i++) {
+                out.write(sorted[i]);
+            }
+        }
+    }
+
+    public boolean contains(String value) {
+        int low = 0;
+        int high = this.size - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int c = this.compare(mid, value);
+            if (c < 0) {
+                low = mid + 1;
+            } else if (c > 0) {
+                high = mid - 1;
+            } else {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Compares the code points of the i-th string, decoded from UTF-8, with the code points of the given string.
+     */
+    private int compare(int i, String value) {
+        int pos = this.data + this.offset(i);
+        int end = this.data + this.offset(i + 1);
+        int j = 0;
+        while (pos < end && j < value.length()) {
+            int b = this.buffer.get(pos) & 0xff;
+            int cp;
+            if (b < 0x80) {
+                cp = b;
+                pos += 1;
+            } else if (b < 0xe0) {
+                cp = (b & 0x1f) << 6 | this.continuation(pos + 1);
+                pos += 2;
+            } else if (b < 0xf0) {
+                cp = (b & 0x0f) << 12 | this.continuation(pos + 1) << 6 | this.continuation(pos + 2);
+                pos += 3;
+            } else {
+                cp = (b & 0x07) << 18 | this.continuation(pos + 1) << 12 | this.continuation(pos + 2) << 6
+                        | this.continuation(pos + 3);
+                pos += 4;
+            }
+            int other = value.codePointAt(j);
+            if (cp != other) {
+                return Integer.compare(cp, other);
+            }
+            j += Character.charCount(other);
+        }
+        return Boolean.compare(pos < end, j < value.length());
+    }
+
+    private int continuation(int pos) {
+        return this.buffer.get(pos) & 0x3f;
+    }
+
+    private int offset(int i) {
+        return this.buffer.getInt(Integer.BYTES * (i + 1));
+    }
+
+    private byte[] bytes(int i) {
+        byte[] bytes = new byte[this.offset(i + 1) - this.offset(i)];
+        this.buffer.get(this.data + this.offset(i), bytes);
+        return bytes;
+    }
+
+    @Override
+    public String toString() {
+        return "MappedStringSet[" + this.size + "]";
+    }
+
+}
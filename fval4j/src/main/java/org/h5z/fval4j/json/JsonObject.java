@@ -0,0 +1,123 @@
+package org.h5z.fval4j.json;
+
+import java.util.AbstractMap;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Read-only map view over a JSON object.
+ *
+ * Only the positions of the members are indexed: a value is read from the buffer the first time it is looked up
+ * and then kept. Enumerating the entries reads every value. The keys of small objects are compared with the looked
+ * up one in place; the keys of larger ones are read into a hash index on the first lookup. When a key appears more
+ * than once, the last member wins. This map is not thread safe and the underlying buffer must not change while it is in use.
+ */
+final class JsonObject extends AbstractMap<String, Object> {
+
+    private static final Object UNREAD = new Object();
+
+    /** The number of members above which the keys are indexed instead of scanned. */
+    private static final int SCANNED = 8;
+
+    private final JsonParser parser;
+    /** keyStart, keyEnd and valueStart of each member. */
+    private final int[] members;
+    private final int size;
+    private Object[] values;
+    private Map<String, Integer> index;
+    private Map<String, Object> entries;
+
+    /** The position following the closing brace of the object. */
+    final int end;
+
+    JsonObject(JsonParser parser, int[] members, int size, int end) {
+        this.parser = parser;
+        this.members = members;
+        this.size = size;
+        this.end = end;
+    }
+
+    @Override
+    public Object get(Object key) {
+        int i = this.indexOf(key);
+        return i < 0 ? null : this.valueAt(i);
+    }
+
+    @Override
+    public Object getOrDefault(Object key, Object defaultValue) {
+        int i = this.indexOf(key);
+        return i < 0 ? defaultValue : this.valueAt(i);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return this.indexOf(key) >= 0;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    @Override
+    public int size() {
+        return this.entries().size();
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        return this.entries().entrySet();
+    }
+
+    private int indexOf(Object key) {
+        if (!(key instanceof String)) {
+            return -1;
+        }
+        String s = (String) key;
+        if (this.size > SCANNED) {
+            if (this.index == null) {
+                Map<String, Integer> index = new HashMap<>(2 * this.size);
+                for (int i = 0; i < this.size; i++) {
+                    index.put(this.parser.string(this.members[3 * i] - 1), i);
+                }
+                this.index = index;
+            }
+            return this.index.getOrDefault(s, -1);
+        }
+        for (int i = this.size - 1; i >= 0; i--) {
+            if (this.parser.stringEquals(this.members[3 * i] - 1, this.members[3 * i + 1], s)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private Object valueAt(int i) {
+        if (this.values == null) {
+            this.values = new Object[this.size];
+            Arrays.fill(this.values, UNREAD);
+        }
+        Object value = this.values[i];
+        if (value == UNREAD) {
+            value = this.parser.value(this.members[3 * i + 2]);
+            this.values[i] = value;
+        }
+        return value;
+    }
+
+    private Map<String, Object> entries() {
+        if (this.entries == null) {
+            Map<String, Object> entries = new LinkedHashMap<>();
+            for (int i = 0; i < this.size; i++) {
+                entries.put(this.parser.string(this.members[3 * i] - 1), this.valueAt(i));
+            }
+            this.entries = Collections.unmodifiableMap(entries);
+        }
+        return this.entries;
+    }
+
+}
@@ -0,0 +1,456 @@
+package org.h5z.fval4j.json;
+
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Tokenizer reading UTF-8 JSON from a buffer without copying it.
+ *
+ * Positions are absolute indexes in the buffer. Values are only skipped, and checked, until they are read with
+ * {@link #value(int)}: strings, numbers and nested objects are materialized on demand only. Strings are checked to
+ * be well-formed UTF-8 while they are skipped.
+ */
+final class JsonParser {
+
+    /**
+     * The maximum number of nested arrays and objects. Values are skipped and read recursively: deeper documents are
+     * rejected as malformed instead of overflowing the stack.
+     */
+    static final int MAX_DEPTH = 1000;
+
+    private final ByteBuffer buffer;
+    private final int start;
+    private final int limit;
+    private int depth;
+
+    JsonParser(ByteBuffer buffer) {
+        this.buffer = buffer;
+        this.start = buffer.position();
+        this.limit = buffer.limit();
+    }
+
+    /**
+     * Checks the whole document and indexes its top-level object.
+     *
+     * @throws MalformedJsonException if the document is not a well-formed JSON object.
+     */
+    JsonObject document() {
+        int pos = this.skipWhitespaces(this.start);
+        if (this.byteAt(pos) != '{') {
+            throw new MalformedJsonException(pos, "Expected an object");
+        }
+        JsonObject object = this.object(pos);
+        if (this.skipWhitespaces(object.end) != this.limit) {
+            throw new MalformedJsonException(object.end, "Unexpected trailing data");
+        }
+        return object;
+    }
+
+    /**
+     * Indexes the members of the object starting at the given position. Member values are checked but not read.
+     */
+    JsonObject object(int pos) {
+        int[] members = new int[3 * 8];
+        int size = 0;
+        pos = this.skipWhitespaces(pos + 1);
+        if (this.byteAt(pos) == '}') {
+            return new JsonObject(this, members, 0, pos + 1);
+        }
+        while (true) {
+            if (this.byteAt(pos) != '"') {
+                throw new MalformedJsonException(pos, "Expected a key");
+            }
+            int keyEnd = this.skipString(pos);
+            int valueStart = this.skipWhitespaces(keyEnd);
+            if (this.byteAt(valueStart) != ':') {
+                throw new MalformedJsonException(valueStart, "Expected ':'");
+            }
+            valueStart = this.skipWhitespaces(valueStart + 1);
+            if (3 * size == members.length) {
+                int[] grown = new int[members.length * 2];
+                System.arraycopy(members, 0, grown, 0, members.length);
+                members = grown;
+            }
+            members[3 * size] = pos + 1;
+            members[3 * size + 1] = keyEnd - 1;
+            members[3 * size + 2] = valueStart;
+            size++;
+            pos = this.skipWhitespaces(this.skipValue(valueStart));
+            byte b = this.byteAt(pos);
+            if (b == '}') {
+                return new JsonObject(this, members, size, pos + 1);
+            }
+            if (b != ',') {
+                throw new MalformedJsonException(pos, "Expected ',' or '}'");
+            }
+            pos = this.skipWhitespaces(pos + 1);
+        }
+    }
+
+    /**
+     * Reads the value starting at the given position: a {@link String}, an {@link Integer}, a {@link Long}, a
+     * {@link BigInteger}, a {@link Double}, a {@link Boolean}, <code>null</code>, a {@link List} or a
+     * {@link java.util.Map}, as a JSON mapper would.
+     */
+    Object value(int pos) {
+        switch (this.byteAt(pos)) {
+            case '"':
+                return this.string(pos);
+            case '{':
+                return this.object(pos);
+            case '[':
+                return this.array(pos);
+            case 't':
+                return Boolean.TRUE;
+            case 'f':
+                return Boolean.FALSE;
+            case 'n':
+                return null;
+            default:
+                return this.number(pos, this.skipNumber(pos));
+        }
+    }
+
+    /**
+     * @return <code>true</code> if the string starting at the given position is equal to the given one. ASCII keys
+     *         are compared byte by byte without decoding the string.
+     */
+    boolean stringEquals(int pos, int end, String s) {
+        int n = s.length();
+        int i = pos + 1;
+        for (int j = 0; j < n; j++, i++) {
+            if (i >= end) {
+                return false;
+            }
+            byte b = this.buffer.get(i);
+            char c = s.charAt(j);
+            if (b == '\\' || b < 0 || c >= 0x80) {
+                return this.string(pos).equals(s);
+            }
+            if (b != c) {
+                return false;
+            }
+        }
+        return i == end;
+    }
+
+    String string(int pos) {
+        int end = this.skipString(pos) - 1;
+        StringBuilder sb = null;
+        int run = pos + 1;
+        for (int i = run; i < end; i++) {
+            if (this.buffer.get(i) != '\\') {
+                continue;
+            }
+            if (sb == null) {
+                sb = new StringBuilder(end - pos);
+            }
+            sb.append(this.utf8(run, i));
+            byte escaped = this.buffer.get(++i);
+            switch (escaped) {
+                case 'b': sb.append('\b'); break;
+                case 'f': sb.append('\f'); break;
+                case 'n': sb.append('\n'); break;
+                case 'r': sb.append('\r'); break;
+                case 't': sb.append('\t'); break;
+                case 'u':
+                    sb.append((char) Integer.parseInt(this.ascii(i + 1, i + 5), 16));
+                    i += 4;
+                    break;
+                default: sb.append((char) escaped);
+            }
+            run = i + 1;
+        }
+        if (sb == null) {
+            return this.utf8(run, end);
+        }
+        return sb.append(this.utf8(run, end)).toString();
+    }
+
+    private List<Object> array(int pos) {
+        List<Object> values = new ArrayList<>();
+        pos = this.skipWhitespaces(pos + 1);
+        if (this.byteAt(pos) == ']') {
+            return values;
+        }
+        while (true) {
+            values.add(this.value(pos));
+            pos = this.skipWhitespaces(this.skipValue(pos));
+            if (this.byteAt(pos) == ']') {
+                return values;
+            }
+            pos = this.skipWhitespaces(pos + 1);
+        }
+    }
+
+    private Object number(int pos, int end) {
+        boolean integral = true;
+        for (int i = pos; i < end && integral; i++) {
+            byte b = this.buffer.get(i);
+            integral = b != '.' && b != 'e' && b != 'E';
+        }
+        if (!integral) {
+            return Double.valueOf(this.ascii(pos, end));
+        }
+        boolean negative = this.buffer.get(pos) == '-';
+        int digits = end - pos - (negative ? 1 : 0);
+        if (digits > 18) {
+            BigInteger value = new BigInteger(this.ascii(pos, end));
+            return value.bitLength() < 64 ? (Object) value.longValue() : value;
+        }
+        long value = 0;
+        for (int i = negative ? pos + 1 : pos; i < end; i++) {
+            value = value * 10 + (this.buffer.get(i) - '0');
+        }
+        value = negative ? -value : value;
+        if (value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE) {
+            return (int) value;
+        }
+        return value;
+    }
+
+    /**
+     * @return the position following the value starting at the given position.
+     */
+    private int skipValue(int pos) {
+        switch (this.byteAt(pos)) {
+            case '"':
+                return this.skipString(pos);
+            case '{':
+                return this.skipObject(pos);
+            case '[':
+                return this.skipArray(pos);
+            case 't':
+                return this.skipLiteral(pos, "true");
+            case 'f':
+                return this.skipLiteral(pos, "false");
+            case 'n':
+                return this.skipLiteral(pos, "null");
+            default:
+                return this.skipNumber(pos);
+        }
+    }
+
+    private int skipObject(int pos) {
+        this.enter(pos);
+        pos = this.skipWhitespaces(pos + 1);
+        if (this.byteAt(pos) == '}') {
+            this.depth--;
+            return pos + 1;
+        }
+        while (true) {
+            if (this.byteAt(pos) != '"') {
+                throw new MalformedJsonException(pos, "Expected a key");
+            }
+            pos = this.skipWhitespaces(this.skipString(pos));
+            if (this.byteAt(pos) != ':') {
+                throw new MalformedJsonException(pos, "Expected ':'");
+            }
+            pos = this.skipWhitespaces(this.skipValue(this.skipWhitespaces(pos + 1)));
+            byte b = this.byteAt(pos);
+            if (b == '}') {
+                this.depth--;
+                return pos + 1;
+            }
+            if (b != ',') {
+                throw new MalformedJsonException(pos, "Expected ',' or '}'");
+            }
+            pos = this.skipWhitespaces(pos + 1);
+        }
+    }
+
+    private int skipArray(int pos) {
+        this.enter(pos);
+        pos = this.skipWhitespaces(pos + 1);
+        if (this.byteAt(pos) == ']') {
+            this.depth--;
+            return pos + 1;
+        }
+        while (true) {
+            pos = this.skipWhitespaces(this.skipValue(pos));
+            byte b = this.byteAt(pos);
+            if (b == ']') {
+                this.depth--;
+                return pos + 1;
+            }
+            if (b != ',') {
+                throw new MalformedJsonException(pos, "Expected ',' or ']'");
+            }
+            pos = this.skipWhitespaces(pos + 1);
+        }
+    }
+
+    private void enter(int pos) {
+        if (++this.depth > MAX_DEPTH) {
+            throw new MalformedJsonException(pos, "Nesting deeper than " + MAX_DEPTH);
+        }
+    }
+
+    /**
+     * @return the position following the closing quote of the string starting at the given position.
+     */
+    private int skipString(int pos) {
+        int i = pos + 1;
+        while (true) {
+            byte b = this.byteAt(i);
+            if (b == '"') {
+                return i + 1;
+            }
+            if (b == '\\') {
+                byte escaped = this.byteAt(i + 1);
+                if (escaped == 'u') {
+                    for (int j = i + 2; j < i + 6; j++) {
+                        if (Character.digit(this.byteAt(j), 16) < 0) {
+                            throw new MalformedJsonException(j, "Invalid unicode escape");
+                        }
+                    }
+                    i += 6;
+                } else if ("\"\\/bfnrt".indexOf(escaped) >= 0) {
+                    i += 2;
+                } else {
+                    throw new MalformedJsonException(i, "Invalid escape");
+                }
+            } else if (b < 0) {
+                i = this.skipUtf8(i);
+            } else if (b < 0x20) {
+                throw new MalformedJsonException(i, "Unescaped control character");
+            } else {
+                i++;
+            }
+        }
+    }
+
+    /**
+     * @return the position following the multi-byte UTF-8 sequence starting at the given position.
+     * @throws MalformedJsonException if the sequence is truncated, overlong, encodes a surrogate or a code point
+     *         beyond U+10FFFF.
+     */
+    private int skipUtf8(int pos) {
+        int b = this.byteAt(pos) & 0xFF;
+        int n;
+        int lo = 0x80;
+        int hi = 0xBF;
+        if (b >= 0xC2 && b <= 0xDF) {
+            n = 1;
+        } else if (b >= 0xE0 && b <= 0xEF) {
+            n = 2;
+            lo = b == 0xE0 ? 0xA0 : lo;
+            hi = b == 0xED ? 0x9F : hi;
+        } else if (b >= 0xF0 && b <= 0xF4) {
+            n = 3;
+            lo = b == 0xF0 ? 0x90 : lo;
+            hi = b == 0xF4 ? 0x8F : hi;
+        } else {
+            throw new MalformedJsonException(pos, "Invalid UTF-8");
+        }
+        for (int i = pos + 1; i <= pos + n; i++) {
+            int c = this.byteAt(i) & 0xFF;
+            if (c < lo || c > hi) {
+                throw new MalformedJsonException(i, "Invalid UTF-8");
+            }
+            lo = 0x80;
+            hi = 0xBF;
+        }
+        return pos + n + 1;
+    }
+
+    private int skipNumber(int pos) {
+        int i = pos;
+        if (this.peek(i) == '-') {
+            i++;
+        }
+        if (this.peek(i) == '0') {
+            i++;
+        } else {
+            i = this.skipDigits(i);
+        }
+        if (this.peek(i) == '.') {
+            i = this.skipDigits(i + 1);
+        }
+        if (this.peek(i) == 'e' || this.peek(i) == 'E') {
+            i++;
+            if (this.peek(i) == '+' || this.peek(i) == '-') {
+                i++;
+            }
+            i = this.skipDigits(i);
+        }
+        return i;
+    }
+
+    private int skipDigits(int pos) {
+        int i = pos;
+        while (this.peek(i) >= '0' && this.peek(i) <= '9') {
+            i++;
+        }
+        if (i == pos) {
+            throw new MalformedJsonException(pos, "Expected a digit");
+        }
+        return i;
+    }
+
+    private int skipLiteral(int pos, String literal) {
+        for (int i = 0; i < literal.length(); i++) {
+            if (this.byteAt(pos + i) != literal.charAt(i)) {
+                throw new MalformedJsonException(pos, "Expected " + literal);
+            }
+        }
+        return pos + literal.length();
+    }
+
+    private int skipWhitespaces(int pos) {
+        int i = pos;
+        while (i < this.limit) {
+            byte b = this.buffer.get(i);
+            if (b != ' ' && b != '\n' && b != '\r' && b != '\t') {
+                break;
+            }
+            i++;
+        }
+        return i;
+    }
+
+    private byte byteAt(int pos) {
+        if (pos >= this.limit) {
+            throw new MalformedJsonException(pos, "Unexpected end of input");
+        }
+        return this.buffer.get(pos);
+    }
+
+    /**
+     * @return the byte at the given position, or 0 at the end of the input.
+     */
+    private byte peek(int pos) {
+        return pos < this.limit ? this.buffer.get(pos) : 0;
+    }
+
+    private String utf8(int from, int to) {
+        if (this.buffer.hasArray()) {
+            return new String(this.buffer.array(), this.buffer.arrayOffset() + from, to - from, StandardCharsets.UTF_8);
+        }
+        byte[] bytes = new byte[to - from];
+        this.buffer.get(from, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private String ascii(int from, int to) {
+        char[] chars = new char[to - from];
+        for (int i = from; i < to; i++) {
+            chars[i - from] = (char) this.buffer.get(i);
+        }
+        return new String(chars);
+    }
+
+    static final class MalformedJsonException extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+
+        MalformedJsonException(int pos, String message) {
+            super(message + " at " + pos);
+        }
+
+    }
+
+}
@@ -0,0 +1,98 @@
+package org.h5z.fval4j.json;
+
+import static org.h5z.fval4j.data.ValidationResult.invalid;
+import static org.organicdesign.fp.StaticImports.vec;
+
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.h5z.fval4j.Descriptor;
+import org.h5z.fval4j.Core.Described;
+import org.h5z.fval4j.Core.Validator;
+import org.h5z.fval4j.data.ValidationResult;
+
+/**
+ * Validates UTF-8 JSON documents with the validators of maps.
+ *
+ * The document is checked in a single pass which only indexes the members of its top-level object. The schema is
+ * then applied on a read-only map view of this object: the value of a member is read from the bytes only when a
+ * validator looks it up. Values are read as a JSON mapper would read them into a <code>Map&lt;String, Object&gt;</code>
+ * so the schema returns the same errors, at the same paths, as when it is applied on the mapped document.
+ *
+ * The maps returned by the schema are views over the validated bytes: they must not be modified while in use.
+ */
+public final class JsonValidators {
+
+    private JsonValidators() {
+        throw new IllegalAccessError("Cannot be instanciated");
+    }
+
+    /**
+     * Applies the given schema on the JSON object encoded in the given bytes.
+     *
+     * @param <U>     the type of the value returned by the schema
+     * @param <E>     the type of the errors returned by the validator
+     * @param schema  the validator of the top-level object
+     * @param errorFn the function returning the error if the bytes are not a well-formed JSON object
+     *
+     * @return a validator of UTF-8 encoded JSON documents.
+     */
+    public static <U, E> Validator<byte[], U, E> json(Validator<Map<String, Object>, U, E> schema,
+                                                      Function<byte[], E> errorFn) {
+        return new Described<byte[], U, E>(Descriptor.JSON, vec(), vec(errorFn), vec(schema)) {
+            @Override
+            public ValidationResult<E, byte[], U> apply(byte[] bytes) {
+                if (bytes == null) {
+                    return invalid(bytes, errorFn.apply(bytes));
+                }
+                JsonObject document;
+                try {
+                    document = new JsonParser(ByteBuffer.wrap(bytes)).document();
+                } catch (JsonParser.MalformedJsonException e) {
+                    return invalid(bytes, errorFn.apply(bytes));
+                }
+                ValidationResult<E, Map<String, Object>, U> result = schema.apply(document);
+                return new ValidationResult<E, byte[], U>(result._1(), bytes, result._3());
+            }
+        };
+    }
+
+    public static <U, E> Validator<byte[], U, E> json(Validator<Map<String, Object>, U, E> schema,
+                                                      Supplier<E> lazyE) {
+        return json(schema, _b -> lazyE.get());
+    }
+
+    /**
+     * Applies the given schema on the JSON object encoded between the position and the limit of the given buffer.
+     * The position of the buffer is not changed.
+     *
+     * @see #json(Validator, Function)
+     */
+    public static <U, E> Validator<ByteBuffer, U, E> jsonBuffer(Validator<Map<String, Object>, U, E> schema,
+                                                                Function<ByteBuffer, E> errorFn) {
+        return new Described<ByteBuffer, U, E>(Descriptor.JSON, vec(), vec(errorFn), vec(schema)) {
+            @Override
+            public ValidationResult<E, ByteBuffer, U> apply(ByteBuffer buffer) {
+                if (buffer == null) {
+                    return invalid(buffer, errorFn.apply(buffer));
+                }
+                JsonObject document;
+                try {
+                    document = new JsonParser(buffer).document();
+                } catch (JsonParser.MalformedJsonException e) {
+                    return invalid(buffer, errorFn.apply(buffer));
+                }
+                ValidationResult<E, Map<String, Object>, U> result = schema.apply(document);
+                return new ValidationResult<E, ByteBuffer, U>(result._1(), buffer, result._3());
+            }
+        };
+    }
+
+    public static <U, E> Validator<ByteBuffer, U, E> jsonBuffer(Validator<Map<String, Object>, U, E> schema,
+                                                                Supplier<E> lazyE) {
+        return jsonBuffer(schema, _b -> lazyE.get());
+    }
+
+}
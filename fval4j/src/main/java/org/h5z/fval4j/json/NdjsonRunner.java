@@ -0,0 +1,121 @@
+package org.h5z.fval4j.json;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.function.Function;
+
+import org.h5z.fval4j.Trie;
+import org.h5z.fval4j.Core.Validator;
+import org.h5z.fval4j.io.MappedChunks;
+
+/**
+ * Validates the records of a newline delimited JSON file.
+ *
+ * The file is split on line boundaries into chunks which are memory-mapped and validated in parallel, see
+ * {@link MappedChunks}. Records are validated in place, without being copied to the heap, so the memory used does
+ * not depend on the size of the file. Blank lines are ignored.
+ *
+ * A record whose validator throws is reported as invalid, with the error of the failure, and the run goes on with the
+ * next record.
+ */
+public final class NdjsonRunner {
+
+    /**
+     * Receives the result of each record.
+     */
+    @FunctionalInterface
+    public interface Sink<E> {
+
+        /**
+         * @param offset the position of the first byte of the record in the file
+         * @param errors the errors of the record
+         */
+        void accept(long offset, Trie<E> errors);
+
+    }
+
+    private NdjsonRunner() {
+        throw new IllegalAccessError("Cannot be instanciated");
+    }
+
+    /**
+     * Validates the given file with as many workers as available processors.
+     *
+     * @see #run(Path, Validator, Function, Sink, int, long)
+     */
+    public static <E> long run(Path file,
+                               Validator<ByteBuffer, ?, E> validator,
+                               Function<Throwable, E> failed,
+                               Sink<E> sink) throws IOException {
+        return run(file, validator, failed, sink, Runtime.getRuntime().availableProcessors(), MappedChunks.DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Validates each line of the given file with the given validator, e.g. one created with
+     * {@link JsonValidators#jsonBuffer(Validator, java.util.function.Function)}.
+     *
+     * The validator is applied on a buffer positioned on the record, which is only valid during the call: it must
+     * not be kept. The sink is called concurrently by the workers, in no particular order.
+     *
+     * @param file        the file to validate
+     * @param validator   the validator of a record
+     * @param failed      the function returning the error of a record whose validator threw the given exception or
+     *                    error
+     * @param sink        the consumer of the results
+     * @param parallelism the number of workers
+     * @param chunkSize   the approximate number of bytes mapped and validated at once by a worker
+     *
+     * @return the number of records validated.
+     */
+    public static <E> long run(Path file,
+                               Validator<ByteBuffer, ?, E> validator,
+                               Function<Throwable, E> failed,
+                               Sink<E> sink,
+                               int parallelism,
+                               long chunkSize) throws IOException {
+        return MappedChunks.process(file, 0, parallelism, chunkSize, (chunk, offset) -> {
+            ByteBuffer record = chunk.duplicate();
+            int limit = chunk.limit();
+            long count = 0;
+            int start = 0;
+            while (start < limit) {
+                int newline = start;
+                while (newline < limit && chunk.get(newline) != '\n') {
+                    newline++;
+                }
+                int stop = newline > start && chunk.get(newline - 1) == '\r' ? newline - 1 : newline;
+                if (!isBlank(chunk, start, stop)) {
+                    record.limit(stop).position(start);
+                    sink.accept(offset + start, validate(validator, record, failed));
+                    count++;
+                }
+                start = newline + 1;
+            }
+            return count;
+        });
+    }
+
+    /**
+     * Validates a record. The errors of the virtual machine other than a stack overflow, e.g. running out of memory,
+     * are not caused by the record: they abort the run.
+     */
+    private static <E> Trie<E> validate(Validator<ByteBuffer, ?, E> validator, ByteBuffer record, Function<Throwable, E> failed) {
+        try {
+            return validator.apply(record)._1();
+        } catch (RuntimeException | StackOverflowError | AssertionError e) {
+            return Trie.invalid(failed.apply(e));
+        }
+    }
+
+    private static boolean isBlank(ByteBuffer buffer, int from, int to) {
+        for (int i = from; i < to; i++) {
+            byte b = buffer.get(i);
+            if (b != ' ' && b != '\t') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+}
@@ -0,0 +1,159 @@
+package org.h5z.fval4j.validators;
+
+import static org.h5z.fval4j.validators.Indexes.key;
+import static org.organicdesign.fp.StaticImports.map;
+import static org.organicdesign.fp.StaticImports.vec;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.h5z.fval4j.Descriptor;
+import org.h5z.fval4j.Trie;
+import org.h5z.fval4j.Core.Validator;
+import org.h5z.fval4j.data.ValidationResult;
+import org.organicdesign.fp.collections.ImMap;
+import org.organicdesign.fp.collections.MutMap;
+
+/**
+ * Validator of lists validating only the elements which changed since a previous validation.
+ *
+ * {@link #apply(List)} returns the same result as <code>list(validator, Core::everyEl)</code>: the errors of each
+ * element at its index and the values of all the elements. {@link #revalidate(ValidationResult, List)} compares the
+ * list with the one of a previous result: the elements equal to an element of the previous list are not validated
+ * again, their results are moved to their new index.
+ *
+ * The previous list is the one held by the previous result: a list modified in place after its validation is equal
+ * to itself and would be given the stale results of its former elements. Each version must be a new list, e.g. a
+ * persistent one.
+ *
+ * <pre>
+ * IncrementalList&lt;Price, Price, String&gt; prices = IncrementalList.of(price);
+ * ValidationResult&lt;String, List&lt;Price&gt;, List&lt;Price&gt;&gt; result = prices.validate(v1);
+ * result = prices.revalidate(result, v2);
+ * </pre>
+ *
+ * @param <V> the type of the elements
+ * @param <U> the type of the validated elements
+ * @param <E> the type of the errors
+ */
+public final class IncrementalList<V, U, E> implements Validator<List<V>, List<U>, E> {
+
+    private final Validator<V, U, E> validator;
+
+    private IncrementalList(Validator<V, U, E> validator) {
+        this.validator = validator;
+    }
+
+    /**
+     * @param validator the validator of the elements, which must return equal results for equal elements
+     */
+    public static <V, U, E> IncrementalList<V, U, E> of(Validator<V, U, E> validator) {
+        return new IncrementalList<>(validator);
+    }
+
+    @Override
+    public ValidationResult<E, List<V>, List<U>> apply(List<V> xs) {
+        MutMap<String, Trie<E>> children = IncrementalList.<E> emptyChildren().mutable();
+        List<U> values = new ArrayList<>(xs.size());
+        for (int i = 0; i < xs.size(); i++) {
+            ValidationResult<E, V, U> result = this.validator.apply(xs.get(i));
+            children.assoc(key(i), result._1());
+            values.add(result._3());
+        }
+        return new ValidationResult<>(Trie.trie(vec(), children.immutable()), xs, values);
+    }
+
+    /**
+     * Validates the given list reusing the results of the elements of the previous list.
+     *
+     * The common prefix and suffix of both lists are matched with {@link Object#equals(Object)}, the elements in
+     * between are matched with their hash code: the remaining elements, changed or inserted, are validated. The
+     * subtries of the elements which did not move are shared with the previous trie.
+     *
+     * @param previous the result of this validator for the previous list, which must not have been modified since
+     * @param xs       the list to validate
+     *
+     * @return the same result as {@link #apply(List)}.
+     */
+    public ValidationResult<E, List<V>, List<U>> revalidate(ValidationResult<E, List<V>, List<U>> previous, List<V> xs) {
+        List<V> before = previous._2();
+        List<U> beforeValues = previous._3();
+        Map<String, Trie<E>> beforeChildren = previous._1().getChildren();
+        if (before == null || beforeValues == null || !(beforeChildren instanceof ImMap<String, Trie<E>> imChildren)) {
+            return this.apply(xs);
+        }
+
+        int n = xs.size();
+        int m = before.size();
+        int prefix = 0;
+        while (prefix < n && prefix < m && Objects.equals(xs.get(prefix), before.get(prefix))) {
+            prefix++;
+        }
+        int suffix = 0;
+        while (suffix < n - prefix && suffix < m - prefix
+                && Objects.equals(xs.get(n - 1 - suffix), before.get(m - 1 - suffix))) {
+            suffix++;
+        }
+
+        Map<V, ArrayDeque<Integer>> moved = new HashMap<>();
+        for (int i = prefix; i < m - suffix; i++) {
+            moved.computeIfAbsent(before.get(i), _x -> new ArrayDeque<>()).add(i);
+        }
+
+        MutMap<String, Trie<E>> children = imChildren.mutable();
+        List<U> values = new ArrayList<>(n);
+        values.addAll(beforeValues.subList(0, prefix));
+        for (int j = prefix; j < n - suffix; j++) {
+            ArrayDeque<Integer> candidates = moved.get(xs.get(j));
+            Integer i = candidates == null ? null : candidates.poll();
+            if (i == null) {
+                ValidationResult<E, V, U> result = this.validator.apply(xs.get(j));
+                children.assoc(key(j), result._1());
+                values.add(result._3());
+            } else {
+                if (i != j) {
+                    children.assoc(key(j), beforeChildren.get(key(i)));
+                }
+                values.add(beforeValues.get(i));
+            }
+        }
+        for (int j = n - suffix; j < n; j++) {
+            int i = j - n + m;
+            if (i != j) {
+                children.assoc(key(j), beforeChildren.get(key(i)));
+            }
+            values.add(beforeValues.get(i));
+        }
+        for (int k = n; k < m; k++) {
+            children.without(key(k));
+        }
+        return new ValidationResult<>(Trie.trie(vec(), children.immutable()), xs, values);
+    }
+
+    /**
+     * Detects the changed elements: the changed paths are ignored.
+     *
+     * @see #revalidate(ValidationResult, List)
+     */
+    @Override
+    public ValidationResult<E, List<V>, List<U>> revalidate(ValidationResult<E, List<V>, List<U>> previous,
+                                                          List<V> xs,
+                                                          Collection<List<String>> changedPaths) {
+        return this.revalidate(previous, xs);
+    }
+
+    @Override
+    public Descriptor descriptor() {
+        return Descriptor.descriptor(Descriptor.LIST, vec(), vec(this.validator.descriptor()), this);
+    }
+
+    private static <E> ImMap<String, Trie<E>> emptyChildren() {
+        return map();
+    }
+
+}
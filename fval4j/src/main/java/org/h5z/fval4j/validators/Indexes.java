@@ -0,0 +1,42 @@
+package org.h5z.fval4j.validators;
+
+import java.util.Arrays;
+
+/**
+ * Keys of the elements of lists in tries.
+ */
+final class Indexes {
+
+    private static final int MAX_CACHED_KEYS = 1 << 14;
+    private static volatile String[] keys = new String[0];
+
+    private Indexes() {
+        throw new IllegalAccessError("Cannot be instanciated");
+    }
+
+    /**
+     * @return the key of the given index, shared for small indexes.
+     */
+    static String key(int i) {
+        String[] cached = keys;
+        if (i < cached.length) {
+            return cached[i];
+        }
+        if (i >= MAX_CACHED_KEYS) {
+            return String.valueOf(i);
+        }
+        synchronized (Indexes.class) {
+            cached = keys;
+            if (i >= cached.length) {
+                int from = cached.length;
+                cached = Arrays.copyOf(cached, Math.min(MAX_CACHED_KEYS, Math.max(i + 1, 2 * from)));
+                for (int k = from; k < cached.length; k++) {
+                    cached[k] = String.valueOf(k);
+                }
+                keys = cached;
+            }
+            return cached[i];
+        }
+    }
+
+}
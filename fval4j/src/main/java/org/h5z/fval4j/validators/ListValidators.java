@@ -0,0 +1,332 @@
+package org.h5z.fval4j.validators;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.LongFunction;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+import org.h5z.fval4j.Descriptor;
+import org.h5z.fval4j.Trie;
+import org.h5z.fval4j.Core.Described;
+import org.h5z.fval4j.Core.Validator;
+import org.h5z.fval4j.data.ValidationResult;
+
+import static org.h5z.fval4j.Core.*;
+import static org.h5z.fval4j.data.ValidationResult.*;
+import static org.organicdesign.fp.StaticImports.vec;
+
+/**
+ * Validators of lists.
+ *
+ * The <code>distinct</code> validators check that the elements of a list are distinct once mapped by an extractor,
+ * for instance the ids of a list of orders. Each element whose value was already seen at a lower index is reported
+ * at its index, as {@link org.h5z.fval4j.Core#list(Validator, org.organicdesign.fp.function.Fn1)} would, the first
+ * occurrence of a value is not reported. The <code>long</code>, <code>int</code> and {@link String} variants keep
+ * the seen values in open-addressed tables instead of a {@link java.util.HashSet}, without boxing.
+ */
+public final class ListValidators {
+
+    private ListValidators() {
+        throw new IllegalAccessError("Cannot be instanciated");
+    }
+
+    /**
+     * Checks that the values extracted from the elements of a list are distinct with
+     * {@link Object#equals(Object)}.
+     *
+     * @param extractor the function mapping an element to the value which must be unique
+     * @param errorFn   the function returning the error of a duplicated value
+     */
+    public static <V, K, E> Validator<List<V>, List<V>, E> distinct(Function<V, K> extractor, Function<K, E> errorFn) {
+        return new Described<List<V>, List<V>, E>(Descriptor.DISTINCT, vec(), vec(extractor, errorFn), vec()) {
+            @Override
+            public ValidationResult<E, List<V>, List<V>> apply(List<V> xs) {
+                Set<K> seen = new HashSet<>(Math.max(16, xs.size() * 2));
+                Map<String, Trie<E>> duplicates = new HashMap<>();
+                for (int i = 0; i < xs.size(); i++) {
+                    K k = extractor.apply(xs.get(i));
+                    if (!seen.add(k)) {
+                        duplicates.put(Indexes.key(i), Trie.invalid(errorFn.apply(k)));
+                    }
+                }
+                return result(xs, duplicates);
+            }
+        };
+    }
+
+    public static <V, K, E> Validator<List<V>, List<V>, E> distinct(Function<V, K> extractor, Supplier<E> lazyE) {
+        return distinct(extractor, _k -> lazyE.get());
+    }
+
+    /**
+     * Checks that the <code>long</code> values extracted from the elements of a list are distinct.
+     *
+     * @see #distinct(Function, Function)
+     */
+    public static <V, E> Validator<List<V>, List<V>, E> distinctLong(ToLongFunction<V> extractor, LongFunction<E> errorFn) {
+        return new Described<List<V>, List<V>, E>(Descriptor.DISTINCT, vec(), vec(extractor, errorFn), vec()) {
+            @Override
+            public ValidationResult<E, List<V>, List<V>> apply(List<V> xs) {
+                LongSet seen = new LongSet(xs.size());
+                Map<String, Trie<E>> duplicates = new HashMap<>();
+                for (int i = 0; i < xs.size(); i++) {
+                    long k = extractor.applyAsLong(xs.get(i));
+                    if (!seen.add(k)) {
+                        duplicates.put(Indexes.key(i), Trie.invalid(errorFn.apply(k)));
+                    }
+                }
+                return result(xs, duplicates);
+            }
+        };
+    }
+
+    public static <V, E> Validator<List<V>, List<V>, E> distinctLong(ToLongFunction<V> extractor, Supplier<E> lazyE) {
+        return distinctLong(extractor, _k -> lazyE.get());
+    }
+
+    /**
+     * Checks that the <code>int</code> values extracted from the elements of a list are distinct.
+     *
+     * @see #distinct(Function, Function)
+     */
+    public static <V, E> Validator<List<V>, List<V>, E> distinctInt(ToIntFunction<V> extractor, IntFunction<E> errorFn) {
+        return new Described<List<V>, List<V>, E>(Descriptor.DISTINCT, vec(), vec(extractor, errorFn), vec()) {
+            @Override
+            public ValidationResult<E, List<V>, List<V>> apply(List<V> xs) {
+                IntSet seen = new IntSet(xs.size());
+                Map<String, Trie<E>> duplicates = new HashMap<>();
+                for (int i = 0; i < xs.size(); i++) {
+                    int k = extractor.applyAsInt(xs.get(i));
+                    if (!seen.add(k)) {
+                        duplicates.put(Indexes.key(i), Trie.invalid(errorFn.apply(k)));
+                    }
+                }
+                return result(xs, duplicates);
+            }
+        };
+    }
+
+    public static <V, E> Validator<List<V>, List<V>, E> distinctInt(ToIntFunction<V> extractor, Supplier<E> lazyE) {
+        return distinctInt(extractor, _k -> lazyE.get());
+    }
+
+    /**
+     * Checks that the strings extracted from the elements of a list are distinct. The extracted strings must not be
+     * null.
+     *
+     * @see #distinct(Function, Function)
+     */
+    public static <V, E> Validator<List<V>, List<V>, E> distinctString(Function<V, String> extractor, Function<String, E> errorFn) {
+        return new Described<List<V>, List<V>, E>(Descriptor.DISTINCT, vec(), vec(extractor, errorFn), vec()) {
+            @Override
+            public ValidationResult<E, List<V>, List<V>> apply(List<V> xs) {
+                StringSet seen = new StringSet(xs.size());
+                Map<String, Trie<E>> duplicates = new HashMap<>();
+                for (int i = 0; i < xs.size(); i++) {
+                    String k = extractor.apply(xs.get(i));
+                    if (!seen.add(k)) {
+                        duplicates.put(Indexes.key(i), Trie.invalid(errorFn.apply(k)));
+                    }
+                }
+                return result(xs, duplicates);
+            }
+        };
+    }
+
+    public static <V, E> Validator<List<V>, List<V>, E> distinctString(Function<V, String> extractor, Supplier<E> lazyE) {
+        return distinctString(extractor, _k -> lazyE.get());
+    }
+
+    private static <V, E> ValidationResult<E, List<V>, List<V>> result(List<V> xs, Map<String, Trie<E>> duplicates) {
+        if (duplicates.isEmpty()) {
+            return valid(xs, xs);
+        }
+        return new ValidationResult<E, List<V>, List<V>>(Trie.trie(vec(), duplicates), xs, null);
+    }
+
+    /**
+     * @return the power of two capacity of a table holding the given number of values at most half full.
+     */
+    static int capacity(int size) {
+        return Integer.highestOneBit(Math.max(8, size) * 2 - 1) << 1;
+    }
+
+    static int mix(long k) {
+        k ^= k >>> 33;
+        k *= 0xff51afd7ed558ccdL;
+        k ^= k >>> 33;
+        return (int) k;
+    }
+
+    /**
+     * Open-addressed set of <code>long</code> values with linear probing, <code>0</code> marking the empty slots.
+     */
+    static final class LongSet {
+
+        private long[] slots;
+        private int size;
+        private boolean zero;
+
+        LongSet(int expected) {
+            this.slots = new long[capacity(expected)];
+        }
+
+        /**
+         * @return false if the value was already in the set.
+         */
+        boolean add(long k) {
+            if (k == 0) {
+                boolean added = !this.zero;
+                this.zero = true;
+                return added;
+            }
+            int mask = this.slots.length - 1;
+            int i = mix(k) & mask;
+            while (this.slots[i] != 0) {
+                if (this.slots[i] == k) {
+                    return false;
+                }
+                i = (i + 1) & mask;
+            }
+            this.slots[i] = k;
+            if (++this.size * 2 > this.slots.length) {
+                this.grow();
+            }
+            return true;
+        }
+
+        private void grow() {
+            long[] previous = this.slots;
+            this.slots = new long[previous.length * 2];
+            int mask = this.slots.length - 1;
+            for (long k : previous) {
+                if (k != 0) {
+                    int i = mix(k) & mask;
+                    while (this.slots[i] != 0) {
+                        i = (i + 1) & mask;
+                    }
+                    this.slots[i] = k;
+                }
+            }
+        }
+
+    }
+
+    /**
+     * Open-addressed set of <code>int</code> values with linear probing, <code>0</code> marking the empty slots.
+     */
+    static final class IntSet {
+
+        private int[] slots;
+        private int size;
+        private boolean zero;
+
+        IntSet(int expected) {
+            this.slots = new int[capacity(expected)];
+        }
+
+        /**
+         * @return false if the value was already in the set.
+         */
+        boolean add(int k) {
+            if (k == 0) {
+                boolean added = !this.zero;
+                this.zero = true;
+                return added;
+            }
+            int mask = this.slots.length - 1;
+            int i = mix(k) & mask;
+            while (this.slots[i] != 0) {
+                if (this.slots[i] == k) {
+                    return false;
+                }
+                i = (i + 1) & mask;
+            }
+            this.slots[i] = k;
+            if (++this.size * 2 > this.slots.length) {
+                this.grow();
+            }
+            return true;
+        }
+
+        private void grow() {
+            int[] previous = this.slots;
+            this.slots = new int[previous.length * 2];
+            int mask = this.slots.length - 1;
+            for (int k : previous) {
+                if (k != 0) {
+                    int i = mix(k) & mask;
+                    while (this.slots[i] != 0) {
+                        i = (i + 1) & mask;
+                    }
+                    this.slots[i] = k;
+                }
+            }
+        }
+
+    }
+
+    /**
+     * Open-addressed set of strings with linear probing. The hash codes are stored next to the strings so that
+     * {@link String#equals(Object)} is only called on strings with the same hash code.
+     */
+    static final class StringSet {
+
+        private String[] slots;
+        private int[] hashes;
+        private int size;
+
+        StringSet(int expected) {
+            this.slots = new String[capacity(expected)];
+            this.hashes = new int[this.slots.length];
+        }
+
+        /**
+         * @return false if the string was already in the set.
+         */
+        boolean add(String k) {
+            int h = k.hashCode();
+            int mask = this.slots.length - 1;
+            int i = mix(h) & mask;
+            while (this.slots[i] != null) {
+                if (this.hashes[i] == h && this.slots[i].equals(k)) {
+                    return false;
+                }
+                i = (i + 1) & mask;
+            }
+            this.slots[i] = k;
+            this.hashes[i] = h;
+            if (++this.size * 2 > this.slots.length) {
+                this.grow();
+            }
+            return true;
+        }
+
+        private void grow() {
+            String[] previous = this.slots;
+            int[] previousHashes = this.hashes;
+            this.slots = new String[previous.length * 2];
+            this.hashes = new int[this.slots.length];
+            int mask = this.slots.length - 1;
+            for (int j = 0; j < previous.length; j++) {
+                if (previous[j] != null) {
+                    int i = mix(previousHashes[j]) & mask;
+                    while (this.slots[i] != null) {
+                        i = (i + 1) & mask;
+                    }
+                    this.slots[i] = previous[j];
+                    this.hashes[i] = previousHashes[j];
+                }
+            }
+        }
+
+    }
+
+}
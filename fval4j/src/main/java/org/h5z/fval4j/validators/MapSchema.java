@@ -0,0 +1,267 @@
+package org.h5z.fval4j.validators;
+
+import static org.organicdesign.fp.StaticImports.vec;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.h5z.fval4j.Core;
+import org.h5z.fval4j.Descriptor;
+import org.h5z.fval4j.Trie;
+import org.h5z.fval4j.Core.Validator;
+import org.h5z.fval4j.data.ValidationResult;
+
+/**
+ * Validator of maps with a fixed set of keys.
+ *
+ * A schema returns the same errors as <code>all(List.of(value(key, validator, keyFn), ...))</code> but reads the
+ * validated map in a single pass over its entries: the declared keys are dispatched with a table built once, when
+ * the schema is built, and their paths are computed once too. A closed schema also reports the keys which are not
+ * declared.
+ *
+ * <pre>
+ * Validator&lt;Map&lt;String, Object&gt;, Map&lt;String, Object&gt;, String&gt; person = MapSchema.&lt;String, Object, String&gt;builder()
+ *     .key("name", required(string(lengthBetween(3, 16, () -&gt; "length"), () -&gt; "string"), () -&gt; "required"))
+ *     .key("age", optional(integer(gt(17, () -&gt; "adult"), () -&gt; "integer")))
+ *     .closed(k -&gt; "unknown")
+ *     .build();
+ * </pre>
+ *
+ * @param <K> the type of the keys of the validated maps
+ * @param <T> the type of the values of the validated maps
+ * @param <E> the type of the errors
+ */
+public final class MapSchema<K, T, E> implements Validator<Map<K, T>, Map<K, T>, E> {
+
+    private final Object[] keys;
+    private final String[] paths;
+    private final Validator<T, ?, E>[] validators;
+    private final Function<K, E> unknownKeyFn;
+    private final Function<K, String> keyFn;
+
+    /** Declared keys by path, <code>null</code> if several keys have the same path. */
+    private final Map<String, Integer> pathIndexes;
+
+    /** Index of the declared key in each slot, -1 if the slot is empty. */
+    private final int[] slots;
+    private final int[] hashes;
+    private final int multiplier;
+    private final int shift;
+    private final boolean perfect;
+
+    private MapSchema(Builder<K, T, E> builder) {
+        int n = builder.keys.size();
+        this.keys = builder.keys.toArray();
+        this.paths = new String[n];
+        // Generic arrays cannot be created; every element was added by Builder#key as a Validator<T, ?, E>
+        @SuppressWarnings({ "unchecked", "rawtypes" })
+        Validator<T, ?, E>[] validators = builder.validators.toArray(new Validator[n]);
+        this.validators = validators;
+        this.unknownKeyFn = builder.unknownKeyFn;
+        this.keyFn = builder.keyFn;
+        this.hashes = new int[n];
+        Map<String, Integer> pathIndexes = new HashMap<>();
+        for (int i = 0; i < n; i++) {
+            this.paths[i] = this.keyFn.apply(builder.keys.get(i));
+            this.hashes[i] = Objects.hashCode(this.keys[i]);
+            pathIndexes.put(this.paths[i], i);
+        }
+        this.pathIndexes = pathIndexes.size() == n ? pathIndexes : null;
+
+        int bits = Math.max(1, 32 - Integer.numberOfLeadingZeros(Math.max(1, 2 * n - 1)));
+        this.shift = 32 - bits;
+        this.slots = new int[1 << bits];
+        int found = 0;
+        for (int attempt = 0; attempt < 64 && found == 0; attempt++) {
+            int candidate = 0x9E3779B9 + attempt * 0x632BE5AB | 1;
+            if (this.fill(candidate, false)) {
+                found = candidate;
+            }
+        }
+        this.perfect = found != 0;
+        this.multiplier = this.perfect ? found : 0x9E3779B9;
+        this.fill(this.multiplier, true);
+    }
+
+    public static <K, T, E> Builder<K, T, E> builder() {
+        return new Builder<>();
+    }
+
+    /**
+     * Fills the dispatch table with the given multiplier.
+     *
+     * @param probe <code>true</code> to resolve collisions with linear probing
+     *
+     * @return <code>false</code> if there are collisions and <code>probe</code> is <code>false</code>.
+     */
+    private boolean fill(int multiplier, boolean probe) {
+        Arrays.fill(this.slots, -1);
+        int mask = this.slots.length - 1;
+        for (int i = 0; i < this.keys.length; i++) {
+            int slot = (this.hashes[i] * multiplier) >>> this.shift;
+            while (this.slots[slot] >= 0) {
+                if (!probe) {
+                    return false;
+                }
+                slot = (slot + 1) & mask;
+            }
+            this.slots[slot] = i;
+        }
+        return true;
+    }
+
+    /**
+     * @return the index of the given key in the declared keys, -1 if it is not declared.
+     */
+    private int indexOf(Object key) {
+        int hash = Objects.hashCode(key);
+        int mask = this.slots.length - 1;
+        int slot = (hash * this.multiplier) >>> this.shift;
+        while (true) {
+            int i = this.slots[slot];
+            if (i < 0) {
+                return -1;
+            }
+            if (this.hashes[i] == hash && Objects.equals(this.keys[i], key)) {
+                return i;
+            }
+            if (this.perfect) {
+                return -1;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public ValidationResult<E, Map<K, T>, Map<K, T>> apply(Map<K, T> kvs) {
+        Object[] values = new Object[this.keys.length];
+        Map<String, Trie<E>> children = new HashMap<>();
+        for (Map.Entry<K, T> entry : kvs.entrySet()) {
+            int i = this.indexOf(entry.getKey());
+            if (i >= 0) {
+                values[i] = entry.getValue();
+            } else if (this.unknownKeyFn != null) {
+                children.put(
+                    this.keyFn.apply(entry.getKey()),
+                    Trie.invalid(this.unknownKeyFn.apply(entry.getKey())));
+            }
+        }
+        for (int i = 0; i < this.keys.length; i++) {
+            Trie<E> trie = this.validators[i].apply((T) values[i])._1();
+            children.merge(this.paths[i], trie, Trie::merge);
+        }
+        Trie<E> trie = Trie.trie(vec(), children);
+        return new ValidationResult<>(trie, kvs, trie.isValid() ? kvs : null);
+    }
+
+    /**
+     * Reruns the validators of the declared keys whose path changed only. The validated map is validated again if
+     * several declared keys have the same path, or if the schema is closed and an unknown key has the path of a
+     * declared one.
+     */
+    @Override
+    public ValidationResult<E, Map<K, T>, Map<K, T>> revalidate(ValidationResult<E, Map<K, T>, Map<K, T>> previous,
+                                                                Map<K, T> kvs,
+                                                                Collection<List<String>> changedPaths) {
+        if (this.pathIndexes == null) {
+            return this.apply(kvs);
+        }
+        Map<String, Trie<E>> children = new HashMap<>();
+        if (this.unknownKeyFn != null) {
+            for (K key : kvs.keySet()) {
+                if (this.indexOf(key) < 0) {
+                    String path = this.keyFn.apply(key);
+                    if (this.pathIndexes.containsKey(path)) {
+                        return this.apply(kvs);
+                    }
+                    children.put(path, Trie.invalid(this.unknownKeyFn.apply(key)));
+                }
+            }
+        }
+        for (int i = 0; i < this.keys.length; i++) {
+            Collection<List<String>> changed = Core.changedUnder(this.paths[i], changedPaths);
+            Trie<E> trie = previous._1().getChildren().getOrDefault(this.paths[i], Trie.identity());
+            if (changed != null) {
+                trie = revalidate(this.validators[i], trie, kvs.get(this.keys[i]), changed);
+            }
+            children.put(this.paths[i], trie);
+        }
+        Trie<E> trie = Trie.trie(vec(), children);
+        return new ValidationResult<>(trie, kvs, trie.isValid() ? kvs : null);
+    }
+
+    private static <T, U, E> Trie<E> revalidate(Validator<T, U, E> validator, Trie<E> previous, T value,
+                                                Collection<List<String>> changedPaths) {
+        return validator.revalidate(new ValidationResult<>(previous, value, null), value, changedPaths)._1();
+    }
+
+    @Override
+    public Descriptor descriptor() {
+        List<Descriptor> children = new ArrayList<>(this.keys.length);
+        for (int i = 0; i < this.keys.length; i++) {
+            children.add(Descriptor.keyed(this.paths[i], this.validators[i].descriptor(), this));
+        }
+        return Descriptor.descriptor(Descriptor.MAP_SCHEMA, vec(this.unknownKeyFn != null), vec(this.unknownKeyFn, this.keyFn), children, this);
+    }
+
+    public static final class Builder<K, T, E> {
+
+        private final List<K> keys = new ArrayList<>();
+        private final List<Validator<T, ?, E>> validators = new ArrayList<>();
+        private Function<K, E> unknownKeyFn;
+        private Function<K, String> keyFn = Object::toString;
+
+        private Builder() {
+        }
+
+        /**
+         * Declares a key and the validator of its value. The value of an absent key is <code>null</code>.
+         *
+         * @throws IllegalArgumentException if the key is already declared.
+         */
+        public Builder<K, T, E> key(K key, Validator<T, ?, E> validator) {
+            if (this.keys.contains(key)) {
+                throw new IllegalArgumentException("Duplicate key " + key);
+            }
+            this.keys.add(key);
+            this.validators.add(validator);
+            return this;
+        }
+
+        /**
+         * Sets the function returning the path of the errors of a key. Defaults to {@link Object#toString()}.
+         */
+        public Builder<K, T, E> keyFn(Function<K, String> keyFn) {
+            this.keyFn = keyFn;
+            return this;
+        }
+
+        /**
+         * Rejects the keys which are not declared.
+         *
+         * @param errorFn the function returning the error of an unknown key, reported at the path of the key
+         */
+        public Builder<K, T, E> closed(Function<K, E> errorFn) {
+            this.unknownKeyFn = errorFn;
+            return this;
+        }
+
+        public Builder<K, T, E> closed(Supplier<E> lazyE) {
+            return this.closed(_k -> lazyE.get());
+        }
+
+        public MapSchema<K, T, E> build() {
+            return new MapSchema<>(this);
+        }
+
+    }
+
+}
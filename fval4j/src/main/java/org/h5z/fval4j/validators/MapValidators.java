@@ -0,0 +1,137 @@
+package org.h5z.fval4j.validators;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.h5z.fval4j.Descriptor;
+import org.h5z.fval4j.Trie;
+import org.h5z.fval4j.Core.Described;
+import org.h5z.fval4j.Core.Validator;
+import org.h5z.fval4j.data.ValidationResult;
+
+import static org.h5z.fval4j.Core.*;
+import static org.h5z.fval4j.data.ValidationResult.*;
+import static org.organicdesign.fp.StaticImports.vec;
+
+public final class MapValidators {
+
+    /** Size from which the entries of a map are validated in parallel. */
+    public static final int PARALLEL_THRESHOLD = 8192;
+    
+    private MapValidators() {
+        throw new IllegalAccessError("Cannot be instanciated");
+    }
+
+    /**
+     * Validates the value with the specified key. The validator is revalidated with the changed paths as they are:
+     * its errors are reported at the same paths.
+     * 
+     * @param <K>
+     * @param <T>
+     * @param <U>
+     * @param <E>
+     * @param key
+     * @param validator
+     * @return
+     */
+    public static <K, T, U, E> Validator<Map<K, T>, U, E> key(K key, Validator<T, U, E> validator) {
+        return new Described<Map<K, T>, U, E>(Descriptor.KEY, vec(key), vec(validator)) {
+            @Override
+            public ValidationResult<E, Map<K, T>, U> apply(Map<K, T> kvs) {
+                ValidationResult<E, T, U> result = validator.apply(kvs.getOrDefault(key, null));
+                return new ValidationResult<E,Map<K,T>,U>(
+                    result._1(),
+                    kvs,
+                    result._3());
+            }
+
+            @Override
+            public ValidationResult<E, Map<K, T>, U> revalidate(ValidationResult<E, Map<K, T>, U> previous,
+                                                                Map<K, T> kvs,
+                                                                Collection<List<String>> changedPaths) {
+                T value = kvs.getOrDefault(key, null);
+                ValidationResult<E, T, U> result = validator.revalidate(
+                    new ValidationResult<>(previous._1(), value, previous._3()), value, changedPaths);
+                return new ValidationResult<E,Map<K,T>,U>(
+                    result._1(),
+                    kvs,
+                    result._3());
+            }
+
+            @Override
+            protected Validator<?, ?, ?> delegate() {
+                return validator;
+            }
+        };
+    }
+
+    public static <K, T, E> Validator<Map<K, T>, Map<K, T>, E> hasKey(K key, Function<K, E> errorFn) {
+        return new Described<Map<K, T>, Map<K, T>, E>(Descriptor.HAS_KEY, vec(key), vec(errorFn), vec()) {
+            @Override
+            public ValidationResult<E, Map<K, T>, Map<K, T>> apply(Map<K, T> kvs) {
+                if (kvs.containsKey(key)) {
+                    return valid(kvs, kvs);
+                }
+                return invalid(kvs, errorFn.apply(key));
+            }
+        };
+    }
+
+    public static <K, T, E> Validator<Map<K, T>, Map<K, T>, E> hasKey(K key, Supplier<E> lazyE) {
+        return hasKey(key, _k -> lazyE.get());
+    }
+
+    public static <K, T, U, E> Validator<Map<K, T>, U, E> value(
+        K key, Validator<T, U, E> validator, Function<K, String> keyFn) {
+        return key(key, keyed(keyFn.apply(key), validator));
+    }
+
+    public static <K, T, U, E> Validator<Map<K, T>, U, E> kv(K key, Validator<T, U, E> validator) {
+        return value(key, validator, Object::toString);
+    }
+
+    /**
+     * Validates every entry of a map. The errors of the key and of the value of an entry are reported at the path
+     * of its key; the valid entries are not reported in the trie. The entries of the maps of
+     * {@link #PARALLEL_THRESHOLD} entries or more are validated in parallel, each chunk of the entry set collecting
+     * the errors of its entries before the chunks are merged: the validators and the key function must be
+     * thread-safe.
+     *
+     * @param keyValidator   the validator of the keys
+     * @param valueValidator the validator of the values
+     * @param keyFn          the function returning the path of the errors of an entry
+     *
+     * @return the validated map if all of its entries are valid.
+     */
+    public static <K, T, E> Validator<Map<K, T>, Map<K, T>, E> entries(Validator<K, ?, E> keyValidator,
+                                                                     Validator<T, ?, E> valueValidator,
+                                                                     Function<K, String> keyFn) {
+        return new Described<Map<K, T>, Map<K, T>, E>(Descriptor.ENTRIES, vec(), vec(keyFn), vec(keyValidator, valueValidator)) {
+            @Override
+            public ValidationResult<E, Map<K, T>, Map<K, T>> apply(Map<K, T> kvs) {
+                Map<String, Trie<E>> errors = (kvs.size() >= PARALLEL_THRESHOLD ? kvs.entrySet().parallelStream() : kvs.entrySet().stream())
+                    .collect(HashMap::new, (acc, kv) -> {
+                        ValidationResult<E, K, ?> key = keyValidator.apply(kv.getKey());
+                        ValidationResult<E, T, ?> value = valueValidator.apply(kv.getValue());
+                        if (key.isInvalid() || value.isInvalid()) {
+                            acc.merge(keyFn.apply(kv.getKey()), key._1().merge(value._1()), Trie::merge);
+                        }
+                    }, (a, b) -> b.forEach((k, t) -> a.merge(k, t, Trie::merge)));
+                if (errors.isEmpty()) {
+                    return valid(kvs, kvs);
+                }
+                return new ValidationResult<E, Map<K, T>, Map<K, T>>(Trie.trie(vec(), errors), kvs, null);
+            }
+        };
+    }
+
+    public static <K, T, E> Validator<Map<K, T>, Map<K, T>, E> entries(Validator<K, ?, E> keyValidator,
+                                                                     Validator<T, ?, E> valueValidator) {
+        return entries(keyValidator, valueValidator, Object::toString);
+    }
+
+}
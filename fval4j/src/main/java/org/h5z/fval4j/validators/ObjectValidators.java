@@ -0,0 +1,140 @@
+package org.h5z.fval4j.validators;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.h5z.fval4j.Descriptor;
+import org.h5z.fval4j.Core.Described;
+import org.h5z.fval4j.Core.Validator;
+import org.h5z.fval4j.data.ValidationResult;
+
+import static org.h5z.fval4j.data.ValidationResult.invalid;
+import static org.organicdesign.fp.StaticImports.vec;
+
+public final class ObjectValidators {
+    
+    private ObjectValidators() {
+        throw new IllegalAccessError("Cannot be instanciated");
+    }
+
+    public static <T, U, E> Validator<Object, U, E> a(Class<?> clazz,
+                                                      Validator<T, U, E> validator,
+                                                      Function<Object, E> errorFn) {
+        return new Described<Object, U, E>(Descriptor.A, vec(clazz), vec(errorFn), vec(validator)) {
+            @Override
+            public ValidationResult<E, Object, U> apply(Object o) {
+                Class<?> type = o.getClass();
+                if (type == clazz || clazz.isAssignableFrom(type)) {
+                    ValidationResult<E, T, U> apply = validator.apply((T) o);
+                    return new ValidationResult<E,Object,U>(apply._1(), o, apply._3());
+                }
+                return invalid(o, errorFn.apply(o));
+            }
+        };
+    }
+
+    /**
+     * Applies the given validator is the validated object is a string.
+     * 
+     * @param <T>
+     * @param <E>
+     * @param validator
+     * @param errorFn
+     * @return
+     */
+    public static <E> Validator<Object, String, E> string(Validator<String, String, E> validator,
+                                                  Function<Object, E> errorFn) {
+        return a(String.class, validator, errorFn);
+    }
+
+    public static <E> Validator<Object, String, E> string(Validator<String, String, E> validator,
+                                                  Supplier<E> lazyE) {
+        return a(String.class, validator, _v -> lazyE.get());
+    }
+
+    public static <E> Validator<Object, Integer, E> integer(Validator<Integer, Integer, E> validator,
+                                                   Function<Object, E> errorFn) {
+        return a(Integer.class, validator, errorFn);
+    }
+
+    public static <E> Validator<Object, Integer, E> integer(Validator<Integer, Integer, E> validator,
+                                                   Supplier<E> lazyE) {
+        return a(Integer.class, validator, _v -> lazyE.get());
+    }
+
+    public static <K, T, U, E> Validator<Object, Map<K, U>, E> map(Validator<Map<K, T>, Map<K, U>, E> validator,
+                                               Function<Object, E> errorFn) {
+        return a(Map.class, validator, errorFn);
+    }
+
+    public static <K, T, U, E> Validator<Object, Map<K, U>, E> map(Validator<Map<K, T>, Map<K, U>, E> validator,
+                                               Supplier<E> lazyE) {
+        return a(Map.class, validator, _v -> lazyE.get());
+    }
+
+    public static <K, T, U, E> Validator<Object, U, E> nestedMap(Validator<Map<K, T>, U, E> validator,
+                                                    Function<Object, E> errorFn) {
+        return a(Map.class, validator, errorFn);
+    }
+
+    public static <K, T, U, E> Validator<Object, U, E> mapXform(Validator<Map<K, T>, U, E> validator,
+                                               Supplier<E> lazyE) {
+        return a(Map.class, validator, _v -> lazyE.get());
+    }
+
+    /**
+     * Applies the validator of the class of the validated object.
+     *
+     * The validator of a class is the first validator, in the iteration order of the given map, whose class is
+     * assignable from it. It is resolved once per runtime class and cached, so polymorphic values are dispatched
+     * without testing each class in turn.
+     *
+     * @param <U>     the type of the values returned by the validators
+     * @param <E>     the type of the errors
+     * @param cases   the validators by class. Each validator validates instances of its class.
+     * @param errorFn the function returning the error if the object is <code>null</code> or has none of the given
+     *                classes
+     *
+     * @return a validator dispatching on the class of the validated objects.
+     */
+    @SuppressWarnings("unchecked")
+    public static <U, E> Validator<Object, U, E> typeSwitch(Map<Class<?>, ? extends Validator<?, ? extends U, E>> cases,
+                                                            Function<Object, E> errorFn) {
+        List<Class<?>> classes = new ArrayList<>(cases.keySet());
+        List<Validator<Object, U, E>> validators = new ArrayList<>(classes.size());
+        for (Class<?> clazz : classes) {
+            validators.add((Validator<Object, U, E>) cases.get(clazz));
+        }
+        ClassValue<Validator<Object, U, E>> dispatch = new ClassValue<>() {
+            @Override
+            protected Validator<Object, U, E> computeValue(Class<?> type) {
+                for (int i = 0; i < classes.size(); i++) {
+                    if (classes.get(i).isAssignableFrom(type)) {
+                        return validators.get(i);
+                    }
+                }
+                return null;
+            }
+        };
+        return new Described<Object, U, E>(Descriptor.TYPE_SWITCH, classes, vec(errorFn), validators) {
+            @Override
+            public ValidationResult<E, Object, U> apply(Object o) {
+                Validator<Object, U, E> validator = o == null ? null : dispatch.get(o.getClass());
+                if (validator == null) {
+                    return invalid(o, errorFn.apply(o));
+                }
+                ValidationResult<E, Object, U> result = validator.apply(o);
+                return new ValidationResult<E, Object, U>(result._1(), o, result._3());
+            }
+        };
+    }
+
+    public static <U, E> Validator<Object, U, E> typeSwitch(Map<Class<?>, ? extends Validator<?, ? extends U, E>> cases,
+                                                            Supplier<E> lazyE) {
+        return typeSwitch(cases, _v -> lazyE.get());
+    }
+
+}
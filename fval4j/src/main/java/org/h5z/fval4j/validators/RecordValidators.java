@@ -0,0 +1,154 @@
+package org.h5z.fval4j.validators;
+
+import static org.h5z.fval4j.Core.keyed;
+import static org.h5z.fval4j.Core.prop;
+import static org.organicdesign.fp.StaticImports.vec;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.RecordComponent;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.h5z.fval4j.Core;
+import org.h5z.fval4j.Descriptor;
+import org.h5z.fval4j.Core.Described;
+import org.h5z.fval4j.Core.Validator;
+import org.h5z.fval4j.data.ValidationResult;
+
+public final class RecordValidators {
+
+    private static final ClassValue<Map<String, Function<Object, Object>>> ACCESSORS = new ClassValue<>() {
+        @Override
+        protected Map<String, Function<Object, Object>> computeValue(Class<?> clazz) {
+            return accessors(clazz);
+        }
+    };
+
+    private RecordValidators() {
+        throw new IllegalAccessError("Cannot be instanciated");
+    }
+
+    /**
+     * Derives a validator for the given record or bean class. Each rule is applied on the value of the property
+     * with the same name and its result is reported at the name of the property, like
+     * <code>keyed(name, prop(Clazz::name, rule))</code> would.
+     *
+     * The accessors of a class are resolved once and cached: deriving other validators for the same class does not
+     * use reflection anymore.
+     *
+     * @param <T>   the type of values validated
+     * @param <E>   the type of errors returned by the validator
+     * @param clazz a record or a class with getters
+     * @param rules the validators to apply, by property name. The properties are validated in the iteration order
+     *              of the map.
+     *
+     * @return a validator returning the validated value if all the rules succeeded.
+     *
+     * @throws IllegalArgumentException if a rule does not match a property of the class.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T, E> Validator<T, T, E> forClass(Class<T> clazz, Map<String, ? extends Validator<?, ?, E>> rules) {
+        Map<String, Function<Object, Object>> accessors = ACCESSORS.get(clazz);
+        List<Validator<T, Object, E>> validators = new ArrayList<>(rules.size());
+        for (Map.Entry<String, ? extends Validator<?, ?, E>> rule : rules.entrySet()) {
+            Function<Object, Object> accessor = accessors.get(rule.getKey());
+            if (accessor == null) {
+                throw new IllegalArgumentException("%s has no property %s".formatted(clazz.getName(), rule.getKey()));
+            }
+            validators.add(keyed(
+                rule.getKey(),
+                prop((Function<T, Object>) (Function<?, ?>) accessor, (Validator<Object, Object, E>) rule.getValue())));
+        }
+        Validator<T, Object, E> all = Core.all(validators);
+        return new Described<T, T, E>(Descriptor.RECORD, vec(clazz), vec(all)) {
+            @Override
+            public ValidationResult<E, T, T> apply(T t) {
+                ValidationResult<E, T, Object> result = all.apply(t);
+                return new ValidationResult<E, T, T>(result._1(), t, result.isValid() ? t : null);
+            }
+        };
+    }
+
+    private static Map<String, Function<Object, Object>> accessors(Class<?> clazz) {
+        Map<String, Function<Object, Object>> accessors = new HashMap<>();
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(clazz, MethodHandles.lookup());
+            if (clazz.isRecord()) {
+                for (RecordComponent component : clazz.getRecordComponents()) {
+                    accessors.put(component.getName(), accessor(lookup, component.getAccessor()));
+                }
+                return Collections.unmodifiableMap(accessors);
+            }
+            for (Method method : clazz.getMethods()) {
+                String name = propertyName(method);
+                if (name != null) {
+                    accessors.put(name, accessor(lookup, method));
+                }
+            }
+            return Collections.unmodifiableMap(accessors);
+        } catch (IllegalAccessException e) {
+            throw new IllegalArgumentException("Cannot access the properties of " + clazz.getName(), e);
+        }
+    }
+
+    /**
+     * @return the name of the property read by the given getter, <code>null</code> if the method is not a getter.
+     */
+    private static String propertyName(Method method) {
+        if (Modifier.isStatic(method.getModifiers())
+                || method.getParameterCount() != 0
+                || method.getReturnType() == void.class
+                || method.getDeclaringClass() == Object.class) {
+            return null;
+        }
+        String name = method.getName();
+        int prefix = name.startsWith("get")
+            ? 3
+            : name.startsWith("is") && method.getReturnType() == boolean.class ? 2 : 0;
+        if (prefix == 0 || name.length() == prefix) {
+            return null;
+        }
+        return Character.toLowerCase(name.charAt(prefix)) + name.substring(prefix + 1);
+    }
+
+    /**
+     * Spins a {@link Function} calling the given accessor directly. Falls back on invoking a method handle if the
+     * lambda cannot be created.
+     */
+    @SuppressWarnings("unchecked")
+    private static Function<Object, Object> accessor(MethodHandles.Lookup lookup, Method method) throws IllegalAccessException {
+        MethodHandle handle = lookup.unreflect(method);
+        try {
+            CallSite site = LambdaMetafactory.metafactory(
+                lookup,
+                "apply",
+                MethodType.methodType(Function.class),
+                MethodType.methodType(Object.class, Object.class),
+                handle,
+                handle.type().wrap());
+            return (Function<Object, Object>) site.getTarget().invokeExact();
+        } catch (Throwable e) {
+            MethodHandle generic = handle.asType(MethodType.methodType(Object.class, Object.class));
+            return o -> {
+                try {
+                    return generic.invokeExact(o);
+                } catch (RuntimeException | Error t) {
+                    throw t;
+                } catch (Throwable t) {
+                    throw new IllegalStateException(t);
+                }
+            };
+        }
+    }
+
+}
@@ -0,0 +1,145 @@
+package org.h5z.fval4j.validators;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.h5z.fval4j.Descriptor;
+import org.h5z.fval4j.Trie;
+import org.h5z.fval4j.Core.Described;
+import org.h5z.fval4j.Core.Validator;
+import org.h5z.fval4j.data.ValidationResult;
+import org.organicdesign.fp.tuple.Tuple2;
+
+import static org.h5z.fval4j.Core.*;
+import static org.h5z.fval4j.data.ValidationResult.*;
+import static org.organicdesign.fp.StaticImports.tup;
+import static org.organicdesign.fp.StaticImports.vec;
+
+public final class SetValidators {
+
+    /** Size from which the elements of a set are validated in parallel. */
+    public static final int PARALLEL_THRESHOLD = 8192;
+
+    private SetValidators() {
+        throw new IllegalAccessError("Cannot be instantiaed");
+    }
+
+    /**
+     * Validates each element of a set. The errors of an element are reported at its key, the errors of the
+     * elements with the same key are merged. The elements of the sets of {@link #PARALLEL_THRESHOLD} elements or
+     * more are validated in parallel: the validator and the key function must be thread-safe.
+     *
+     * @param validator the validator of the elements
+     * @param keyFn     the function returning the key of an element, called once per element
+     *
+     * @return the set of the validated elements if all of them are valid.
+     */
+    public static <V, U, E> Validator<Set<V>, Set<U>, E> set(Validator<V, U, E> validator, Function<V, String> keyFn) {
+        return new Described<Set<V>, Set<U>, E>(Descriptor.SET, vec(), vec(keyFn), vec(validator)) {
+            @Override
+            public ValidationResult<E, Set<V>, Set<U>> apply(Set<V> s) {
+                List<Tuple2<String, ValidationResult<E, V, U>>> results =
+                    (s.size() >= PARALLEL_THRESHOLD ? s.parallelStream() : s.stream())
+                        .map(v -> tup(keyFn.apply(v), validator.apply(v)))
+                        .toList();
+                Map<String, Trie<E>> children = new HashMap<>();
+                Set<U> values = new LinkedHashSet<>();
+                boolean valid = true;
+                for (Tuple2<String, ValidationResult<E, V, U>> keyed : results) {
+                    ValidationResult<E, V, U> result = keyed._2();
+                    children.merge(keyed._1(), result._1(), Trie::merge);
+                    valid &= result.isValid();
+                    values.add(result._3());
+                }
+                return new ValidationResult<E, Set<V>, Set<U>>(Trie.trie(vec(), children), s, valid ? values : null);
+            }
+        };
+    }
+
+    /**
+     * Validates each element of a set, reporting its errors at the {@link Object#toString()} of the element.
+     *
+     * @see #set(Validator, Function)
+     */
+    public static <V, U, E> Validator<Set<V>, Set<U>, E> set(Validator<V, U, E> validator) {
+        return set(validator, String::valueOf);
+    }
+
+    public static <V, E> Validator<Set<V>, Set<V>, E> sizeBetween(int inclMin, int inclMax, Function<Set<V>, E> errorFn) {
+        return new Described<Set<V>, Set<V>, E>(Descriptor.SIZE_BETWEEN, vec(inclMin, inclMax), vec(errorFn), vec()) {
+            @Override
+            public ValidationResult<E, Set<V>, Set<V>> apply(Set<V> s) {
+                if (s.size() >= inclMin && s.size() <= inclMax) {
+                    return valid(s, s);
+                }
+                return invalid(s, errorFn.apply(s));
+            }
+        };
+    }
+
+    public static <V, E> Validator<Set<V>, Set<V>, E> sizeBetween(int inclMin, int inclMax, Supplier<E> lazyE) {
+        return sizeBetween(inclMin, inclMax, _s -> lazyE.get());
+    }
+
+    /**
+     * Checks that a set contains the given element with {@link Set#contains(Object)}.
+     */
+    public static <V, E> Validator<Set<V>, Set<V>, E> contains(V element, Function<Set<V>, E> errorFn) {
+        return new Described<Set<V>, Set<V>, E>(Descriptor.CONTAINS, vec(element), vec(errorFn), vec()) {
+            @Override
+            public ValidationResult<E, Set<V>, Set<V>> apply(Set<V> s) {
+                if (s.contains(element)) {
+                    return valid(s, s);
+                }
+                return invalid(s, errorFn.apply(s));
+            }
+        };
+    }
+
+    public static <V, E> Validator<Set<V>, Set<V>, E> contains(V element, Supplier<E> lazyE) {
+        return contains(element, _s -> lazyE.get());
+    }
+
+    /**
+     * Checks that the elements of a set are still distinct once mapped by the given function, for instance
+     * emails once lower-cased. The duplicates are found in a single pass.
+     *
+     * @param fn      the function mapping an element to the value which must be unique
+     * @param errorFn the function returning the error of a value shared by several elements, reported once at the
+     *                root of the trie
+     */
+    public static <V, K, E> Validator<Set<V>, Set<V>, E> uniqueBy(Function<V, K> fn, Function<K, E> errorFn) {
+        return new Described<Set<V>, Set<V>, E>(Descriptor.UNIQUE_BY, vec(), vec(fn, errorFn), vec()) {
+            @Override
+            public ValidationResult<E, Set<V>, Set<V>> apply(Set<V> s) {
+                Map<K, Boolean> seen = new HashMap<>(s.size() * 2);
+                List<E> errors = new ArrayList<>();
+                for (V v : s) {
+                    K k = fn.apply(v);
+                    Boolean duplicated = seen.put(k, Boolean.FALSE);
+                    if (duplicated == Boolean.FALSE) {
+                        errors.add(errorFn.apply(k));
+                        seen.put(k, Boolean.TRUE);
+                    } else if (duplicated == Boolean.TRUE) {
+                        seen.put(k, Boolean.TRUE);
+                    }
+                }
+                if (errors.isEmpty()) {
+                    return valid(s, s);
+                }
+                return new ValidationResult<E, Set<V>, Set<V>>(Trie.invalid(errors), s, null);
+            }
+        };
+    }
+
+    public static <V, K, E> Validator<Set<V>, Set<V>, E> uniqueBy(Function<V, K> fn, Supplier<E> lazyE) {
+        return uniqueBy(fn, _k -> lazyE.get());
+    }
+
+}
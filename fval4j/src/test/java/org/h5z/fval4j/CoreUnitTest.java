@@ -0,0 +1,965 @@
+package org.h5z.fval4j;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.h5z.fval4j.Core.all;
+import static org.h5z.fval4j.Core.keyed;
+import static org.h5z.fval4j.Core.list;
+import static org.h5z.fval4j.Core.optional;
+import static org.h5z.fval4j.Core.prop;
+import static org.h5z.fval4j.Core.required;
+import static org.h5z.fval4j.Core.and;
+import static org.h5z.fval4j.Core.switchOn;
+import static org.h5z.fval4j.Trie.trie;
+import static org.h5z.fval4j.data.ValidationResult.invalid;
+import static org.h5z.fval4j.data.ValidationResult.valid;
+import static org.h5z.fval4j.data.ValidationResult.validationResult;
+import static org.h5z.fval4j.Validators.gt;
+import static org.organicdesign.fp.StaticImports.map;
+import static org.organicdesign.fp.StaticImports.tup;
+import static org.organicdesign.fp.StaticImports.vec;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.h5z.fval4j.Core.Validator;
+import org.h5z.fval4j.data.BloomFilter;
+import org.h5z.fval4j.data.BloomFilter.Hasher;
+import org.h5z.fval4j.data.ValidationResult;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.organicdesign.fp.collections.ImList;
+import org.organicdesign.fp.collections.ImMap;
+
+public class CoreUnitTest {
+
+    @Nested
+    @DisplayName("keyed")
+    class KeyedTest { // named KeyedTest to avoid collision with the class Keyed
+
+        Validator<String, String, String> containsA = s -> s.contains("a")
+                ? valid(s, s)
+                : invalid(s, "Does not contains a");
+
+        @Nested
+        @DisplayName("With simple validator")
+        class WithValidator {
+
+            @Test
+            @DisplayName("Returns a keyed validator")
+            void t0() {
+                Validator<String, String, String> keyedContainsA = keyed("x", containsA);
+                ValidationResult<String, String, String> validated = keyedContainsA.validate("");
+
+                assertThat(validated)
+                        .isEqualTo(
+                            validationResult(
+                                trie(vec(), map(
+                                    tup("x", trie(vec("Does not contains a"), map())))),
+                                "",
+                                null));
+            }
+
+        }
+
+        @Nested
+        @DisplayName("With keyed validator")
+        class WithKeyedValidator {
+
+            @Test
+            @DisplayName("Returns a keyed validator")
+            void t0() {
+                var yxContainsA = keyed("y", keyed("x", containsA));
+                ValidationResult<String, String, String> validated = yxContainsA.validate("");
+
+                assertThat(validated)
+                        .isEqualTo(
+                            validationResult(
+                                trie(vec(), map(
+                                    tup("y", trie(vec(), map(
+                                        tup("x", trie(vec("Does not contains a"), map()))))))),
+                                "",
+                                null));
+            }
+
+        }
+
+    }
+
+    @Nested
+    @DisplayName("and")
+    class Sequentially {
+
+        @Test
+        @DisplayName("Returns a valid trie if all validators succeed")
+        void t0() {
+            Validator<Integer, Integer, String> sequentially = and(
+                    keyed("x", gt(0, () -> "Should be gt 0")),
+                    keyed("y", gt(0, () -> "Should be gt 0")));
+
+            ValidationResult<String, Integer, Integer> result = sequentially.apply(1);
+            assertThat(result)
+                    .isEqualTo(
+                        validationResult(
+                            trie(vec(), map(
+                                tup("x", trie(vec(), map())),
+                                tup("y", trie(vec(), map())))),
+                            1,
+                            1));
+        }
+
+        @Test
+        @DisplayName("Returns a trie with only the errors of the first failed validator")
+        void t1() {
+            Validator<Integer, Integer, String> sequentially = and(
+                    keyed("x", gt(2, () -> "Should be gt 2")),
+                    keyed("y", gt(0, () -> "Should be gt 0")));
+
+            ValidationResult<String, Integer, Integer> result = sequentially.apply(1);
+            assertThat(result)
+                    .isEqualTo(
+                        validationResult(
+                            trie(vec(), map(
+                                tup("x", trie(vec("Should be gt 2"), map())))),
+                            1,
+                            null));
+        }
+
+        @Test
+        @DisplayName("Does not apply the validators following the first failed validator")
+        void t2() {
+            AtomicInteger calls = new AtomicInteger();
+            Validator<Integer, Integer, String> counted = i -> {
+                calls.incrementAndGet();
+                return valid(i, i);
+            };
+
+            Validator<Integer, Integer, String> sequentially = and(counted, gt(2, () -> "Should be gt 2"), counted);
+
+            assertAll(
+                () -> assertThat(sequentially.apply(1).getErrors()).containsExactly("Should be gt 2"),
+                () -> assertThat(calls.get()).isEqualTo(1),
+                () -> assertThat(sequentially.apply(3).isValid()).isTrue(),
+                () -> assertThat(calls.get()).isEqualTo(3));
+        }
+
+    }
+
+    @Nested
+    @DisplayName("all")
+    class Every {
+
+        @Test
+        @DisplayName("Returns a valid trie if all validators succeeded")
+        void t0() {
+            Validator<Integer, Integer, String> every = all(
+                    keyed("x", gt(0, () -> "Should be gt 0")),
+                    keyed("y", gt(0, () -> "Should be gt 0")));
+
+            ValidationResult<String, Integer, Integer> result = every.apply(1);
+            assertThat(result)
+                    .isEqualTo( 
+                        validationResult(
+                            trie(vec(), map(
+                                tup("x", trie(vec(), map())),
+                                tup("y", trie(vec(), map())))),
+                            1,
+                            1));
+        }
+
+        @Test
+        @DisplayName("Returns a trie with the errors of all failed validators otherwise.")
+        void t1() {
+            Validator<Integer, Integer, String> every = all(
+                    keyed("a", gt(-1, () -> "Should be gt -1")),
+                    keyed("b", gt(1, () -> "Should be gt 1")),
+                    keyed("c", gt(2, () -> "Should be gt 2")),
+                    keyed("d", gt(3, () -> "Should be gt 3")),
+                    keyed("e", gt(-1, () -> "Should be gt -1")));
+
+            ValidationResult<String, Integer, Integer> result = every.apply(0);
+            assertThat(result)
+                    .isEqualTo(
+                        validationResult(
+                            trie(vec(), map(
+                                tup("a", trie(vec(), map())),
+                                tup("b", trie(vec("Should be gt 1"), map())),
+                                tup("c", trie(vec("Should be gt 2"), map())),
+                                tup("d", trie(vec("Should be gt 3"), map())),
+                                tup("e", trie(vec(), map())))),
+                            0,
+                            null));
+        }
+
+        @Test
+        @DisplayName("Merges the tries of every validator of the fixed-arity overloads")
+        void t2() {
+            Validator<Integer, Integer, String> three = all(
+                    keyed("a", gt(-1, () -> "a")),
+                    keyed("b", gt(-1, () -> "b")),
+                    keyed("c", gt(0, () -> "c")));
+            Validator<Integer, Integer, String> eight = all(
+                    keyed("a", gt(-1, () -> "a")),
+                    keyed("b", gt(-1, () -> "b")),
+                    keyed("c", gt(-1, () -> "c")),
+                    keyed("d", gt(-1, () -> "d")),
+                    keyed("e", gt(-1, () -> "e")),
+                    keyed("f", gt(-1, () -> "f")),
+                    keyed("g", gt(-1, () -> "g")),
+                    keyed("h", gt(-1, () -> "h")),
+                    (a, b, c, d, e, f, g, h) -> a + b + c + d + e + f + g + h);
+
+            assertAll(
+                () -> assertThat(three.apply(0).getErrors("c")).containsExactly("c"),
+                () -> assertThat(eight.apply(1).isValid()).isTrue(),
+                () -> assertThat(eight.apply(1)._3()).isEqualTo(8),
+                () -> assertThat(eight.apply(1)._1().getChildren()).containsOnlyKeys("a", "b", "c", "d", "e", "f", "g", "h"));
+        }
+
+        @Test
+        @DisplayName("Applies every validator even after a failed one")
+        void t3() {
+            AtomicInteger calls = new AtomicInteger();
+            Validator<Integer, Integer, String> counted = i -> {
+                calls.incrementAndGet();
+                return valid(i, i);
+            };
+
+            ValidationResult<String, Integer, Integer> result = all(java.util.List.of(gt(2, () -> "Should be gt 2"), counted, counted)).apply(1);
+
+            assertAll(
+                () -> assertThat(result.getErrors()).containsExactly("Should be gt 2"),
+                () -> assertThat(calls.get()).isEqualTo(2));
+        }
+
+        @Test
+        @DisplayName("Returns the validated value itself if valid with the fixed-arity overloads")
+        void t4() {
+            record Point(Integer x, Integer y) {}
+            Validator<Point, Point, String> point = all(
+                    keyed("x", prop(Point::x, gt(0, () -> "x"))),
+                    keyed("y", prop(Point::y, gt(0, () -> "y"))));
+            Point valid = new Point(1, 1);
+
+            assertAll(
+                () -> assertThat(point.apply(valid)._3()).isSameAs(valid),
+                () -> assertThat(point.apply(new Point(1, 0))._3()).isNull(),
+                () -> assertThat(point.apply(new Point(0, 0)).getErrors("x")).containsExactly("x"),
+                () -> assertThat(point.apply(new Point(0, 0)).getErrors("y")).containsExactly("y"));
+        }
+
+        @Test
+        @DisplayName("Combines the values only if all validators succeeded")
+        void t5() {
+            AtomicInteger calls = new AtomicInteger();
+            Validator<Integer, Integer, String> sum = all(
+                    keyed("a", gt(0, () -> "a")),
+                    keyed("b", gt(1, () -> "b")),
+                    (a, b) -> {
+                        calls.incrementAndGet();
+                        return a + b;
+                    });
+
+            assertAll(
+                () -> assertThat(sum.apply(1)._3()).isNull(),
+                () -> assertThat(sum.apply(1).getErrors("b")).containsExactly("b"),
+                () -> assertThat(calls.get()).isZero(),
+                () -> assertThat(sum.apply(2)._3()).isEqualTo(4),
+                () -> assertThat(calls.get()).isEqualTo(1));
+        }
+
+    }
+
+    @Nested
+    @DisplayName("prop")
+    static class Prop {
+
+        Validator<Integer, Integer, String> gt0 = v -> v > 0 ? valid(v, v) : invalid(v, "gt0");
+        Validator<RootClass, Integer, String> rootValidator = keyed("x",
+                prop(RootClass::getX, keyed("y",
+                        prop(NestedClass::getY, gt0))));
+
+        @Test
+        @DisplayName("Returns a valid trie if the given validator succeeded")
+        void t0() {
+            RootClass a = new RootClass(new NestedClass(1));
+            assertThat(
+                    rootValidator.apply(a))
+                            .isEqualTo(
+                                validationResult(
+                                    trie(vec(), map(tup("x", trie(vec(), map(tup("y", trie(vec(), map()))))))),
+                                    a,
+                                    1));
+        }
+
+        @Test
+        @DisplayName("Returns the errors return by the given validator otherwise")
+        void t1() {
+            RootClass a = new RootClass(new NestedClass(0));
+            assertThat(
+                    rootValidator.apply(a)).isEqualTo(
+                            validationResult(
+                                trie(vec(), map(
+                                    tup("x", trie(vec(), map(
+                                            tup("y", trie(vec("gt0"), map()))))))),
+                                a,
+                                null));
+
+        }
+
+        static class RootClass {
+            private final NestedClass x;
+
+            RootClass(NestedClass x) {
+                this.x = x;
+            }
+
+            public NestedClass getX() {
+                return this.x;
+            }
+        }
+
+        static class NestedClass {
+            private final int y;
+
+            NestedClass(int y) {
+                this.y = y;
+            }
+
+            public int getY() {
+                return this.y;
+            }
+        }
+
+    }
+
+    @Nested
+    @DisplayName("list")
+    class List {
+
+        @Nested
+        @DisplayName("With simple validator")
+        class WithSimpleValidator {
+
+            @Test
+            @DisplayName("Retuns a valid trie if all the elements in the list are valid")
+            void t0() {
+                
+                var listValidator = list(gt(0, () -> "Should be gt 0"), Core::everyEl);
+                var aList = vec(1, 2, 3, 4, 5);
+                assertThat(listValidator.apply(aList))
+                        .isEqualTo(
+                            validationResult(
+                                trie(vec(), map(
+                                    tup("0", trie(vec(), map())),
+                                    tup("1", trie(vec(), map())),
+                                    tup("2", trie(vec(), map())),
+                                    tup("3", trie(vec(), map())),
+                                    tup("4", trie(vec(), map())))),
+                                aList,
+                                aList  
+                        ));
+            }
+
+            @Test
+            @DisplayName("Return a trie with the errors of all failed validators")
+            void t1() {
+                var listValidator = list(gt(0, () -> "Should be gt 0"), Core::everyEl);
+                var aList = vec(0, 0, 0, 0, 0);
+                assertThat(listValidator.apply(aList))
+                        .isEqualTo(
+                            validationResult(
+                                trie(vec(), map(
+                                    tup("0", trie(vec("Should be gt 0"), map())),
+                                    tup("1", trie(vec("Should be gt 0"), map())),
+                                    tup("2", trie(vec("Should be gt 0"), map())),
+                                    tup("3", trie(vec("Should be gt 0"), map())),
+                                    tup("4", trie(vec("Should be gt 0"), map())))),
+                                aList,
+                                vec(null, null, null, null, null)));
+            }
+
+        }
+
+        @Nested
+        @DisplayName("With keyed validator")
+        class WithKeyedValidator {
+
+            Validator<Integer, Integer, String> xValidator = gt(0, () -> "Should be gt 0");
+            Validator<Point, Integer, String> pointValidator = keyed("x", prop(Point::getX, xValidator));
+            Validator<java.util.List<Point>, java.util.List<Integer>, String> listOfPointValidator = list(pointValidator, Core::everyEl);
+
+            @Test
+            @DisplayName("Retuns a valid trie if all the elements in the list are valid")
+            void t0() {
+                @NotNull
+                ImList<Point> points = vec(
+                        new Point(1),
+                        new Point(1),
+                        new Point(1),
+                        new Point(1),
+                        new Point(1));
+                ValidationResult<String, java.util.List<Point>, java.util.List<Integer>> result = listOfPointValidator.apply(points);
+
+                assertThat(result).isEqualTo(
+                    validationResult(
+                        trie(vec(), map(
+                            tup("0", trie(vec(), map(
+                                    tup("x", trie(vec(), map()))))),
+                            tup("1", trie(vec(), map(
+                                    tup("x", trie(vec(), map()))))),
+                            tup("2", trie(vec(), map(
+                                    tup("x", trie(vec(), map()))))),
+                            tup("3", trie(vec(), map(
+                                    tup("x", trie(vec(), map()))))),
+                            tup("4", trie(vec(), map(
+                                    tup("x", trie(vec(), map()))))))),
+                        points,
+                        vec(1, 1, 1, 1, 1)));
+            }
+
+            @Test
+            @DisplayName("Return a trie with the errors of all failed validators")
+            void t1() {
+                @NotNull
+                ImList<Point> points = vec(
+                        new Point(0),
+                        new Point(0),
+                        new Point(0),
+                        new Point(0),
+                        new Point(0));
+                assertThat(listOfPointValidator.apply(points)).isEqualTo(
+                            validationResult(
+                                trie(vec(), map(
+                                    tup("0", trie(vec(), map(
+                                            tup("x", trie(vec("Should be gt 0"), map()))))),
+                                    tup("1", trie(vec(), map(
+                                            tup("x", trie(vec("Should be gt 0"), map()))))),
+                                    tup("2", trie(vec(), map(
+                                            tup("x", trie(vec("Should be gt 0"), map()))))),
+                                    tup("3", trie(vec(), map(
+                                            tup("x", trie(vec("Should be gt 0"), map()))))),
+                                    tup("4", trie(vec(), map(
+                                            tup("x", trie(vec("Should be gt 0"), map()))))))),
+                                points,
+                                vec(null, null, null, null, null)));
+            }
+
+            class Point {
+                private final int x;
+
+                public Point(int x) {
+                    this.x = x;
+                }
+
+                public int getX() {
+                    return this.x;
+                }
+
+            }
+
+        }
+
+    }
+
+    @Nested
+    @DisplayName("required")
+    class Required {
+
+        Validator<Integer, Integer, String> xValidator = gt(0, () -> "Should be gt 0");
+        Validator<Point, Integer, String> pointValidator = required( // the validated object `Point` is required
+                keyed("x", prop(Point::getX, xValidator)),
+                () -> "Required");
+
+        @Test
+        @DisplayName("Returns an invalid trie with the given error if the validated value is null")
+        void t0() {
+            assertThat(pointValidator.validate(null))
+                    .isEqualTo(validationResult(trie(vec("Required"), map()), null, null));
+        }
+
+        @Test
+        @DisplayName("Returns an invalid trie with the errors of the validators if the validated value is not null and invalid")
+        void t1() {
+            Point aPoint = new Point(-1);
+            assertThat(pointValidator.validate(aPoint))
+                    .isEqualTo(
+                        validationResult(
+                            trie(vec(), map(
+                                tup("x", trie(vec("Should be gt 0"), map())))),
+                            aPoint,
+                            null));
+        }
+
+        @Test
+        @DisplayName("Returns an valid trie if the validated value is not null and valid")
+        void t2() {
+            Point aPoint = new Point(1);
+            assertThat(pointValidator.validate(aPoint))
+                    .isEqualTo(
+                        validationResult(
+                            trie(vec(), map(
+                                tup("x", trie(vec(), map())))),
+                            aPoint,
+                            1));
+        }
+
+        class Point {
+            private final Integer x;
+
+            public Point(Integer x) {
+                this.x = x;
+            }
+
+            public int getX() {
+                return this.x;
+            }
+
+        }
+
+    }
+
+    @Nested
+    @DisplayName("Optional")
+    class Optional {
+        
+        Validator<Integer, Integer, String> xValidator = gt(0, () -> "Should be gt 0");
+        Validator<Point, Integer, String> pointValidator = optional( // the validated object `Point` is optional
+                keyed("x", prop(Point::getX, xValidator))
+        );
+
+        @Test
+        @DisplayName("Returns a valid trie if the validated value is null") 
+        void t0() {
+            assertThat(pointValidator.validate(null))
+                    .isEqualTo(
+                        validationResult(trie(vec(), map()), null, null));
+        }
+
+        @Test
+        @DisplayName("Returns a valid trie if the validated value is not null and is valid") 
+        void t1() {
+            Point aPoint = new Point(1);
+            assertThat(pointValidator.validate(aPoint))
+                    .isEqualTo(
+                        validationResult(
+                            trie(vec(), map(
+                                tup("x", trie(vec(), map())))),
+                            aPoint,
+                            1));
+        }
+
+        @Test
+        @DisplayName("Returns a invalid trie if the validated value is not null and is invalid")
+        void t2() {
+            Point aPoint = new Point(-1);
+            assertThat(pointValidator.validate(aPoint))
+                    .isEqualTo(
+                        validationResult(
+                            trie(vec(), map(
+                                tup("x", trie(vec("Should be gt 0"), map())))),
+                            aPoint,
+                            null));
+        }
+
+        class Point {
+            private final int x;
+
+            public Point(int x) {
+                this.x = x;
+            }
+
+            public int getX() {
+                return this.x;
+            }
+
+        }
+
+    }
+
+    @Nested
+    @DisplayName("switchOn")
+    class SwitchOn {
+
+        Validator<Map<String, Object>, Map<String, Object>, String> card = keyed("number", m -> m.get("number") instanceof String
+                ? valid(m, m)
+                : invalid(m, "number"));
+        Validator<Map<String, Object>, Map<String, Object>, String> iban = keyed("iban", m -> m.get("iban") instanceof String
+                ? valid(m, m)
+                : invalid(m, "iban"));
+        Validator<Map<String, Object>, Map<String, Object>, String> validator = switchOn(
+            m -> m.get("type"),
+            Map.of("card", card, "iban", iban),
+            "type",
+            t -> "unknown " + t);
+
+        @Test
+        @DisplayName("Applies the validator of the discriminator")
+        void t0() {
+            Map<String, Object> payment = Map.of("type", "iban", "number", "1234");
+
+            assertThat(validator.validate(payment)).isEqualTo(iban.validate(payment));
+        }
+
+        @Test
+        @DisplayName("Returns the error of an unknown discriminator at the given key")
+        void t1() {
+            assertThat(validator.validate(Map.of("type", "wallet")))
+                    .isEqualTo(
+                        validationResult(
+                            trie(vec(), map(tup("type", trie(vec("unknown wallet"), map())))),
+                            Map.of("type", "wallet"),
+                            null));
+        }
+
+        @Test
+        @DisplayName("Returns the error of an unknown discriminator at the root if the key is empty")
+        void t2() {
+            Validator<Map<String, Object>, Map<String, Object>, String> atRoot = switchOn(
+                m -> m.get("type"), Map.of("iban", iban), "", () -> "unknown");
+
+            assertThat(atRoot.validate(Map.of()).getErrors()).containsExactly("unknown");
+        }
+
+    }
+
+    @Nested
+    @DisplayName("sealed")
+    class SealedTest {
+
+        sealed interface Shape permits Circle, Polygon {}
+        record Circle(int radius) implements Shape {}
+        sealed interface Polygon extends Shape permits Square, Triangle {}
+        record Square(int side) implements Polygon {}
+        record Triangle(int base) implements Polygon {}
+        static sealed class Animal permits Dog {}
+        static final class Dog extends Animal {}
+
+        Validator<Shape, Shape, String> validator = Core.<Shape, Shape, String> sealed(Shape.class, () -> "required")
+            .on(Circle.class, (Circle c) -> c.radius() > 0 ? valid(c, c) : invalid(c, "radius"))
+            .on(Polygon.class, (Polygon p) -> valid(p, p))
+            .on(Square.class, (Square sq) -> sq.side() > 0 ? valid(sq, sq) : invalid(sq, "side"))
+            .build();
+
+        @Test
+        @DisplayName("Applies the validator of the most specific class of the value")
+        void t0() {
+            assertAll(
+                () -> assertThat(validator.validate(new Circle(0)).getErrors()).containsExactly("radius"),
+                () -> assertThat(validator.validate(new Square(0)).getErrors()).containsExactly("side"),
+                () -> assertThat(validator.validate(new Square(1)).isValid()).isTrue(),
+                () -> assertThat(validator.validate(new Triangle(0)).isValid()).isTrue());
+        }
+
+        @Test
+        @DisplayName("Throws if a permitted subclass has no validator")
+        void t1() {
+            assertAll(
+                () -> assertThatThrownBy(() -> Core.<Shape, Shape, String> sealed(Shape.class, () -> "required")
+                        .on(Circle.class, (Circle c) -> valid(c, c))
+                        .on(Square.class, (Square sq) -> valid(sq, sq))
+                        .build())
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("Triangle"),
+                () -> assertThatThrownBy(() -> Core.sealed(Circle.class, () -> "required"))
+                    .isInstanceOf(IllegalArgumentException.class));
+        }
+
+        @Test
+        @DisplayName("Describes the cases")
+        void t2() {
+            Descriptor descriptor = validator.descriptor();
+
+            assertAll(
+                () -> assertThat(descriptor.getKind()).isEqualTo(Descriptor.SEALED),
+                () -> assertThat(descriptor.getParams()).containsExactly(Shape.class, Circle.class, Polygon.class, Square.class),
+                () -> assertThat(descriptor.getChildren()).hasSize(3));
+        }
+
+        @Test
+        @DisplayName("Returns an invalid result for null")
+        void t3() {
+            assertThat(validator.validate(null))
+                .isEqualTo(validationResult(trie(vec("required"), map()), null, null));
+        }
+
+        @Test
+        @DisplayName("Requires a validator for the instances of a concrete sealed class")
+        void t4() {
+            Validator<Animal, Animal, String> animal = Core.<Animal, Animal, String> sealed(Animal.class, () -> "required")
+                .on(Animal.class, (Animal a) -> invalid(a, "animal"))
+                .on(Dog.class, (Dog d) -> valid(d, d))
+                .build();
+
+            assertAll(
+                () -> assertThatThrownBy(() -> Core.<Animal, Animal, String> sealed(Animal.class, () -> "required")
+                        .on(Dog.class, (Dog d) -> valid(d, d))
+                        .build())
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("Animal"),
+                () -> assertThat(animal.validate(new Animal()).getErrors()).containsExactly("animal"),
+                () -> assertThat(animal.validate(new Dog()).isValid()).isTrue());
+        }
+
+    }
+
+    @Nested
+    @DisplayName("any")
+    class AnyTest {
+
+        @Test
+        @DisplayName("Applies long lists of validators without overflowing the stack")
+        void t0() {
+            ImList<Validator<Integer, Integer, String>> validators = vec();
+            for (int i = 0; i < 10_000; i++) {
+                validators = validators.append(gt(-1, () -> "gt"));
+            }
+            Validator<Integer, Integer, String> any = Core.any(validators.append(gt(0, () -> "last")));
+
+            assertAll(
+                () -> assertThat(any.validate(1).isValid()).isTrue(),
+                () -> assertThat(any.validate(0).getErrors()).containsExactly("last"));
+        }
+
+    }
+
+    @Nested
+    @DisplayName("lazy")
+    class LazyTest {
+
+        static final class Category {
+            final String name;
+            final java.util.List<Category> children = new ArrayList<>();
+
+            Category(String name, Category... children) {
+                this.name = name;
+                this.children.addAll(java.util.Arrays.asList(children));
+            }
+        }
+
+        AtomicInteger visits = new AtomicInteger();
+
+        Validator<Category, Category, String> category = Core.lazy(() -> Core.all(
+            keyed("name", prop((Category c) -> c.name, (String n) -> {
+                visits.incrementAndGet();
+                return n.length() >= 3 ? valid(n, n) : invalid(n, "length");
+            })),
+            keyed("children", prop((Category c) -> c.children, list(this.category, Core::everyEl)))));
+
+        @Test
+        @DisplayName("Validates recursive structures")
+        void t0() {
+            Category tree = new Category("root", new Category("ok"), new Category("leaf", new Category("x")));
+
+            ValidationResult<String, Category, Category> result = category.validate(tree);
+
+            assertAll(
+                () -> assertThat(result.isValid()).isFalse(),
+                () -> assertThat(result.getErrors("children", "0", "name")).containsExactly("length"),
+                () -> assertThat(result.getErrors("children", "1", "children", "0", "name")).containsExactly("length"),
+                () -> assertThat(result.getErrors("children", "1", "name")).isEmpty());
+        }
+
+        @Test
+        @DisplayName("Validates shared objects once")
+        void t1() {
+            Category shared = new Category("shared", new Category("leaf"));
+            Category tree = new Category("root", shared, shared, new Category("other", shared));
+
+            ValidationResult<String, Category, Category> result = category.validate(tree);
+
+            assertAll(
+                () -> assertThat(result.isValid()).isTrue(),
+                () -> assertThat(visits.get()).isEqualTo(4));
+        }
+
+        @Test
+        @DisplayName("Stops at cycles")
+        void t2() {
+            Category root = new Category("root");
+            root.children.add(new Category("child", root));
+
+            assertAll(
+                () -> assertThat(category.validate(root).isValid()).isTrue(),
+                () -> assertThat(acyclic.validate(root).getErrors("children", "0", "children", "0"))
+                        .containsExactly("cycle"));
+        }
+
+        Validator<Category, Category, String> acyclic = Core.lazy(() -> Core.all(
+            keyed("name", prop((Category c) -> c.name, (String n) -> valid(n, n))),
+            keyed("children", prop((Category c) -> c.children, list(this.acyclic, Core::everyEl)))),
+            c -> "cycle");
+
+    }
+
+    @Nested
+    @DisplayName("revalidate")
+    class Revalidate {
+
+        AtomicInteger runs = new AtomicInteger();
+
+        Validator<String, String, String> notEmpty(String error) {
+            return s -> {
+                runs.incrementAndGet();
+                return s != null && !s.isEmpty() ? valid(s, s) : invalid(s, error);
+            };
+        }
+
+        Validator<Map<String, Object>, String, String> field(String key) {
+            return keyed(key, prop((Map<String, Object> m) -> (String) m.get(key), notEmpty(key + " empty")));
+        }
+
+        @SuppressWarnings("unchecked")
+        Validator<Map<String, Object>, String, String> validator = Core.all(vec(
+            field("name"),
+            keyed("address", prop(
+                (Map<String, Object> m) -> (Map<String, Object>) m.get("address"),
+                Core.all(vec(field("city"), field("zip")))))));
+
+        Map<String, Object> person(String name, String city, String zip) {
+            return Map.of("name", name, "address", Map.of("city", city, "zip", zip));
+        }
+
+        @Test
+        @DisplayName("Reruns the validators keyed on the changed paths only")
+        void t0() {
+            ValidationResult<String, Map<String, Object>, String> previous = validator.validate(person("", "Li\u00e8ge", "4000"));
+            runs.set(0);
+            Map<String, Object> edited = person("", "", "4000");
+
+            ValidationResult<String, Map<String, Object>, String> result = validator.revalidate(previous, edited, vec(vec("address", "city")));
+
+            assertAll(
+                () -> assertThat(runs.get()).isEqualTo(1),
+                () -> assertThat(result).isEqualTo(validator.validate(edited)),
+                () -> assertThat(result._1().getChildren().get("name")).isSameAs(previous._1().getChildren().get("name")),
+                () -> assertThat(result._1().get("address", "zip").get()).isSameAs(previous._1().get("address", "zip").get()));
+        }
+
+        @Test
+        @DisplayName("Reruns all the validators under a changed path")
+        void t1() {
+            ValidationResult<String, Map<String, Object>, String> previous = validator.validate(person("John", "", ""));
+            runs.set(0);
+            Map<String, Object> edited = person("John", "Namur", "5000");
+
+            ValidationResult<String, Map<String, Object>, String> result = validator.revalidate(previous, edited, vec(vec("address")));
+
+            assertAll(
+                () -> assertThat(runs.get()).isEqualTo(2),
+                () -> assertThat(result).isEqualTo(validator.validate(edited)),
+                () -> assertThat(validator.revalidate(previous, edited, vec(vec()))).isEqualTo(validator.validate(edited)));
+        }
+
+    }
+
+    @Nested
+    @DisplayName("structurallyCached")
+    class StructurallyCachedTest {
+
+        AtomicInteger runs = new AtomicInteger();
+
+        Validator<Map<String, Object>, Map<String, Object>, String> city = Core.structurallyCached(keyed("city", m -> {
+            runs.incrementAndGet();
+            return m.get("city") != null ? valid(m, m) : invalid(m, "required");
+        }));
+
+        @Test
+        @DisplayName("Reuses the results of the persistent collections shared by the versions of a document")
+        void t0() {
+            ImMap<String, Object> v1 = map(tup("name", "John"), tup("address", map(tup("zip", "4000"))));
+            ImMap<String, Object> v2 = v1.assoc("name", "Johnny");
+
+            ValidationResult<String, Map<String, Object>, Map<String, Object>> r1 = city.validate((ImMap<String, Object>) v1.get("address"));
+            ValidationResult<String, Map<String, Object>, Map<String, Object>> r2 = city.validate((ImMap<String, Object>) v2.get("address"));
+
+            assertAll(
+                () -> assertThat(runs.get()).isEqualTo(1),
+                () -> assertThat(r2).isEqualTo(r1),
+                () -> assertThat(r2._2()).isSameAs(v2.get("address")),
+                () -> assertThat(r2.getErrors("city")).containsExactly("required"));
+        }
+
+        @Test
+        @DisplayName("Validates the other values each time")
+        void t1() {
+            Map<String, Object> address = new java.util.HashMap<>();
+
+            city.validate(address);
+            address.put("city", "Li\u00e8ge");
+
+            assertAll(
+                () -> assertThat(city.validate(address).isValid()).isTrue(),
+                () -> assertThat(runs.get()).isEqualTo(2));
+        }
+
+        @Test
+        @DisplayName("Does not keep the validated values referenced by their value")
+        void t2() throws InterruptedException {
+            record Wrapper(Object wrapped) {}
+            Validator<ImList<Integer>, Wrapper, String> wrap = Core.structurallyCached(xs -> valid(new Wrapper(xs), xs));
+            ImList<Integer> xs = vec(1, 2, 3);
+            ValidationResult<String, ImList<Integer>, Wrapper> result = wrap.validate(xs);
+            java.lang.ref.WeakReference<ImList<Integer>> validated = new java.lang.ref.WeakReference<>(xs);
+
+            assertThat(wrap.validate(xs)._3()).isSameAs(result._3());
+
+            xs = null;
+            result = null;
+            for (int i = 0; i < 50 && validated.get() != null; i++) {
+                System.gc();
+                Thread.sleep(10);
+            }
+
+            assertThat(validated.get()).isNull();
+        }
+
+    }
+
+    @Nested
+    @DisplayName("bloomGuarded")
+    class BloomGuardedTest {
+
+        AtomicInteger calls = new AtomicInteger();
+
+        Validator<String, String, String> notTaken = s -> {
+            this.calls.incrementAndGet();
+            return s.equals("alice") ? invalid(s, "taken") : valid(s, s);
+        };
+
+        @Test
+        @DisplayName("Does not call the validator for the values definitely absent from the filter")
+        void t0() {
+            BloomFilter<CharSequence> taken = BloomFilter.of(Hasher.strings(), java.util.List.of("alice", "bob"), 0.001);
+            Validator<String, String, String> validator = Core.bloomGuarded(taken, notTaken);
+
+            assertAll(
+                () -> assertThat(validator.validate("alice").getErrors()).containsExactly("taken"),
+                () -> assertThat(validator.validate("bob").isValid()).isTrue(),
+                () -> assertThat(calls.get()).isEqualTo(2),
+                () -> assertThat(validator.validate("carol")).isEqualTo(valid("carol", "carol")),
+                () -> assertThat(calls.get()).isEqualTo(2));
+        }
+
+        @Test
+        @DisplayName("Reads the current filter")
+        void t1() {
+            AtomicReference<BloomFilter<CharSequence>> filter = new AtomicReference<>(BloomFilter.of(Hasher.strings(), java.util.List.of("bob"), 0.001));
+            Validator<String, String, String> exists = Core.bloomGuarded(filter::get, notTaken, () -> "unknown");
+
+            ValidationResult<String, String, String> before = exists.validate("alice");
+            filter.set(BloomFilter.of(Hasher.strings(), java.util.List.of("alice", "bob"), 0.001));
+
+            assertAll(
+                () -> assertThat(before.getErrors()).containsExactly("unknown"),
+                () -> assertThat(exists.validate("alice").getErrors()).containsExactly("taken"));
+        }
+
+    }
+
+}
@@ -0,0 +1,122 @@
+package org.h5z.fval4j;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.h5z.fval4j.Core.all;
+import static org.h5z.fval4j.Core.keyed;
+import static org.h5z.fval4j.Core.required;
+import static org.h5z.fval4j.Validators.gt;
+import static org.h5z.fval4j.Validators.lengthBetween;
+import static org.h5z.fval4j.data.ValidationResult.valid;
+import static org.h5z.fval4j.validators.MapValidators.kv;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.organicdesign.fp.StaticImports.vec;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.h5z.fval4j.Core.Validator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+public class DescriptorUnitTest {
+
+    @Nested
+    @DisplayName("descriptor")
+    class Describe {
+
+        @Test
+        @DisplayName("Describes a leaf validator with its kind and parameters")
+        void t0() {
+            Descriptor descriptor = lengthBetween(3, 16, () -> "error").descriptor();
+
+            assertAll(
+                () -> assertThat(descriptor.getKind()).isEqualTo(Descriptor.LENGTH_BETWEEN),
+                () -> assertThat(descriptor.getParams()).containsExactly(3, 16),
+                () -> assertThat(descriptor.getChildren()).isEmpty(),
+                () -> assertThat(descriptor.getKey().isSome()).isFalse());
+        }
+
+        @Test
+        @DisplayName("Describes a keyed validator with its key and its child")
+        void t1() {
+            Validator<Integer, Integer, String> gt0 = gt(0, () -> "error");
+            Descriptor descriptor = keyed("x", gt0).descriptor();
+
+            assertAll(
+                () -> assertThat(descriptor.getKind()).isEqualTo(Descriptor.KEYED),
+                () -> assertThat(descriptor.getKey().get()).isEqualTo("x"),
+                () -> assertThat(descriptor.getChildren()).containsExactly(gt0.descriptor()));
+        }
+
+        @Test
+        @DisplayName("Describes validators not created by a factory as opaque")
+        void t2() {
+            Validator<String, String, String> custom = s -> valid(s, s);
+
+            assertThat(custom.descriptor().isOpaque()).isTrue();
+        }
+
+        @Test
+        @DisplayName("Returns equal descriptors for validators created with the same factories, parameters and functions")
+        void t3() {
+            Function<Integer, String> error = v -> "error";
+
+            assertThat(keyed("x", gt(0, error)).descriptor())
+                .isEqualTo(keyed("x", gt(0, error)).descriptor());
+        }
+
+        @Test
+        @DisplayName("Gives access to the described validator")
+        void t4() {
+            Validator<Integer, Integer, String> gt0 = gt(0, () -> "error");
+
+            assertThat(gt0.descriptor().getValidator()).isSameAs(gt0);
+        }
+
+        @Test
+        @DisplayName("Returns different descriptors for validators which behave differently")
+        void t5() {
+            Function<Integer, String> error = v -> "error";
+            Validator<Integer, Integer, String> gt0 = gt(0, error);
+            Validator<String, String, String> custom = s -> valid(s, s);
+
+            assertAll(
+                () -> assertThat(gt(0, error).descriptor()).isNotEqualTo(gt(0, v -> "other").descriptor()),
+                () -> assertThat(Core.<Integer, List<Integer>, Integer, String> list(gt0, Core::everyEl).descriptor())
+                        .isNotEqualTo(Core.<Integer, List<Integer>, Integer, String> list(gt0, vs -> Core.mapValue(Core.and(vs), u -> Collections.singletonList(u))).descriptor()),
+                () -> assertThat(all(vec(gt0, gt0)).descriptor()).isNotEqualTo(all(gt0, gt0).descriptor()),
+                () -> assertThat(all(gt0, gt0, (a, b) -> a).descriptor()).isNotEqualTo(all(gt0, gt0).descriptor()),
+                () -> assertThat(custom.descriptor()).isEqualTo(custom.descriptor()),
+                () -> assertThat(custom.descriptor()).isNotEqualTo(((Validator<String, String, String>) s -> valid(s, s)).descriptor()));
+        }
+
+    }
+
+    @Nested
+    @DisplayName("accept")
+    class Accept {
+
+        @Test
+        @DisplayName("Folds the descriptor bottom-up")
+        void t0() {
+            Validator<Map<String, Object>, Map<String, Object>, String> validator = all(
+                kv("un", required(Validators.<Object, String> identity(), () -> "required")),
+                kv("deux", required(Validators.<Object, String> identity(), () -> "required")));
+
+            List<String> keys = validator.descriptor().accept((descriptor, children) -> {
+                List<String> acc = new ArrayList<>();
+                descriptor.getKey().match(k -> acc.add(k), () -> false);
+                children.forEach(acc::addAll);
+                return acc;
+            });
+
+            assertThat(keys).containsExactly("un", "deux");
+        }
+
+    }
+
+}
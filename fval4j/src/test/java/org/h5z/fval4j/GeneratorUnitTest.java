@@ -0,0 +1,163 @@
+package org.h5z.fval4j;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.h5z.fval4j.Core.all;
+import static org.h5z.fval4j.Core.and;
+import static org.h5z.fval4j.Core.any;
+import static org.h5z.fval4j.Core.generate;
+import static org.h5z.fval4j.Core.keyed;
+import static org.h5z.fval4j.Core.mapValue;
+import static org.h5z.fval4j.Core.optional;
+import static org.h5z.fval4j.Core.prop;
+import static org.h5z.fval4j.Core.required;
+import static org.h5z.fval4j.Validators.gt;
+import static org.h5z.fval4j.Validators.lengthBetween;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.organicdesign.fp.StaticImports.vec;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.h5z.fval4j.Core.Validator;
+import org.h5z.fval4j.data.ValidationResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+public class GeneratorUnitTest {
+
+    record Address(String street, Integer number) {}
+
+    record Person(String name, Address address) {}
+
+    @Nested
+    @DisplayName("generate")
+    class Generate {
+
+        Validator<Person, Person, String> validator = all(
+            keyed("name", prop(Person::name, required(lengthBetween(3, 16, () -> "length"), () -> "required"))),
+            keyed("address", prop(Person::address, required(
+                all(
+                    keyed("street", prop(Address::street, optional(lengthBetween(3, 42, () -> "length")))),
+                    keyed("number", prop(Address::number, required(gt(0, () -> "gt0"), () -> "required")))),
+                () -> "required"))));
+
+        @Test
+        @DisplayName("Returns the same results as the given validator")
+        void t0() {
+            Validator<Person, Person, String> generated = generate(this.validator);
+
+            assertAll(
+                () -> assertThat(generated.validate(new Person(null, null)))
+                        .isEqualTo(this.validator.validate(new Person(null, null))),
+                () -> assertThat(generated.validate(new Person("Jo", new Address("Rue", 0))))
+                        .isEqualTo(this.validator.validate(new Person("Jo", new Address("Rue", 0)))),
+                () -> assertThat(generated.validate(new Person("John", new Address(null, 1))))
+                        .isEqualTo(this.validator.validate(new Person("John", new Address(null, 1)))));
+        }
+
+        @Test
+        @DisplayName("Fuses nested keys into a single path")
+        void t1() {
+            Validator<Integer, Integer, String> nested = keyed("a", keyed("b", keyed("c", gt(0, () -> "gt0"))));
+            Validator<Integer, Integer, String> generated = generate(nested);
+
+            assertAll(
+                () -> assertThat(generated).isInstanceOf(Generator.Path.class),
+                () -> assertThat(generated.validate(0)).isEqualTo(nested.validate(0)),
+                () -> assertThat(generated.descriptor()).isEqualTo(nested.descriptor()));
+        }
+
+        @Test
+        @DisplayName("Flattens nested sequences")
+        void t2() {
+            Validator<Integer, Integer, String> nested = and(
+                and(keyed("a", gt(0, () -> "a")), keyed("b", gt(1, () -> "b"))),
+                and(keyed("c", gt(2, () -> "c"))));
+            Validator<Integer, Integer, String> generated = generate(nested);
+
+            assertAll(
+                () -> assertThat(generated.descriptor().getChildren()).hasSize(3),
+                () -> assertThat(generated.validate(0)).isEqualTo(nested.validate(0)),
+                () -> assertThat(generated.validate(2)).isEqualTo(nested.validate(2)),
+                () -> assertThat(generated.validate(3)).isEqualTo(nested.validate(3)));
+        }
+
+        @Test
+        @DisplayName("Flattens nested any")
+        void t3() {
+            Validator<Integer, Integer, String> nested = any(
+                any(gt(0, () -> "a"), gt(1, () -> "b")),
+                gt(2, () -> "c"));
+            Validator<Integer, Integer, String> generated = generate(nested);
+
+            assertAll(
+                () -> assertThat(generated.descriptor().getChildren()).hasSize(3),
+                () -> assertThat(generated.validate(0)).isEqualTo(nested.validate(0)),
+                () -> assertThat(generated.validate(3)).isEqualTo(nested.validate(3)));
+        }
+
+        @Test
+        @DisplayName("Fuses the keys of the validators of the fixed-arity all")
+        void t4() {
+            Validator<Person, Person, String> generated = generate(this.validator);
+
+            assertAll(
+                () -> assertThat(generated).isNotSameAs(this.validator).isInstanceOf(Core.All.class),
+                () -> assertThat(((Core.All<?, ?, ?>) generated).validators)
+                        .allSatisfy(v -> assertThat(v).isInstanceOf(Generator.Path.class)));
+        }
+
+        @Test
+        @DisplayName("Flattens nested all returning their input")
+        void t5() {
+            Validator<Integer, Integer, String> nested = all(
+                all(keyed("a", gt(0, () -> "a")), keyed("b", gt(1, () -> "b"))),
+                keyed("c", gt(2, () -> "c")));
+            Validator<Integer, Integer, String> generated = generate(nested);
+
+            assertAll(
+                () -> assertThat(generated.descriptor().getChildren()).hasSize(3),
+                () -> assertThat(generated.validate(0)).isEqualTo(nested.validate(0)),
+                () -> assertThat(generated.validate(3)).isEqualTo(nested.validate(3)));
+        }
+
+        @Test
+        @DisplayName("Generates the validators of mapValue")
+        void t6() {
+            Validator<Integer, String, String> mapped = mapValue(keyed("a", keyed("b", gt(0, () -> "a"))), String::valueOf);
+            Validator<Integer, String, String> generated = generate(mapped);
+
+            assertAll(
+                () -> assertThat(((Core.MapValue<?, ?, ?, ?>) generated).validator).isInstanceOf(Generator.Path.class),
+                () -> assertThat(generated.validate(0)).isEqualTo(mapped.validate(0)),
+                () -> assertThat(generated.validate(1)).isEqualTo(mapped.validate(1)));
+        }
+
+        @Test
+        @DisplayName("Revalidates the paths of the changed keys only")
+        void t7() {
+            AtomicInteger runs = new AtomicInteger();
+            Validator<Integer, Integer, String> counted = v -> {
+                runs.incrementAndGet();
+                return v > 0 ? ValidationResult.valid(v, v) : ValidationResult.invalid(v, "positive");
+            };
+            Validator<Integer, Integer, String> nested = all(
+                keyed("a", keyed("x", counted)),
+                keyed("b", keyed("y", counted)));
+            Validator<Integer, Integer, String> generated = generate(nested);
+            ValidationResult<String, Integer, Integer> previous = generated.validate(0);
+            runs.set(0);
+
+            ValidationResult<String, Integer, Integer> result = generated.revalidate(previous, 1, vec(vec("b", "y")));
+
+            assertAll(
+                () -> assertThat(((Core.All<?, ?, ?>) generated).keyed).isTrue(),
+                () -> assertThat(runs.get()).isEqualTo(1),
+                () -> assertThat(result.getErrors("a", "x")).containsExactly("positive"),
+                () -> assertThat(result.getErrors("b", "y")).isEmpty(),
+                () -> assertThat(generated.revalidate(previous, 1, vec(vec("c")))._1()).isEqualTo(previous._1()));
+        }
+
+    }
+
+}
@@ -2,13 +2,21 @@ package org.h5z.fval4j;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.h5z.fval4j.Trie.trie;
+import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.DynamicTest.dynamicTest;
 import static org.organicdesign.fp.StaticImports.map;
 import static org.organicdesign.fp.StaticImports.tup;
 import static org.organicdesign.fp.StaticImports.vec;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
 import java.util.List;
 
+import org.h5z.fval4j.codec.EncodedTrie;
+import org.h5z.fval4j.codec.ErrorCodec;
+import org.h5z.fval4j.codec.TrieCodec;
 import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.DynamicTest;
@@ -230,4 +238,142 @@ public class TrieUnitTest {
 
     }
 
+    @Nested
+    @DisplayName("writeTo")
+    class WriteTo {
+
+        Trie<String> validation = trie(
+                vec("root"),
+                map(tup("x", trie(
+                        vec("a \"quoted\" error"),
+                        map(tup("y\nz", trie(vec("\u00e9\u0001"), map())))))));
+
+        @Test
+        @DisplayName("Writes the trie as nested JSON objects")
+        void t0() throws IOException {
+            StringBuilder json = new StringBuilder();
+            validation.writeTo(json, Trie.ErrorEncoder.strings());
+
+            assertThat(json.toString()).isEqualTo(
+                "{\"errors\":[\"root\"],\"children\":{\"x\":{\"errors\":[\"a \\\"quoted\\\" error\"],"
+                + "\"children\":{\"y\\nz\":{\"errors\":[\"\u00e9\\u0001\"],\"children\":{}}}}}}");
+        }
+
+        @Test
+        @DisplayName("Writes the entries of toMap as a flat JSON object")
+        void t1() throws IOException {
+            StringBuilder json = new StringBuilder();
+            validation.writeFlatTo(json, (e, out) -> out.append(String.valueOf(e.length())));
+
+            assertThat(json.toString()).isEqualTo("{\"\":[4],\"x\":[16],\"x.y\\nz\":[2]}");
+        }
+
+        @Test
+        @DisplayName("Writes UTF-8 to output streams")
+        void t2() throws IOException {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            StringBuilder json = new StringBuilder();
+            validation.writeFlatTo(out, Trie.ErrorEncoder.strings());
+            validation.writeFlatTo(json, Trie.ErrorEncoder.strings());
+
+            assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo(json.toString());
+        }
+
+        @Test
+        @DisplayName("Separates the entries of the errors reported globally")
+        void t3() throws IOException {
+            Trie<String> globally = Core.all(List.of(
+                    Core.globally(Validators.gt(0, () -> "root")),
+                    Core.keyed("x", Validators.gt(0, () -> "x")))).apply(0)._1();
+            StringBuilder json = new StringBuilder();
+            globally.writeFlatTo(json, Trie.ErrorEncoder.strings());
+
+            assertThat(json.toString()).isIn(
+                "{\"\":[],\"\":[\"root\"],\"x\":[\"x\"]}",
+                "{\"\":[],\"x\":[\"x\"],\"\":[\"root\"]}");
+        }
+
+    }
+
+    @Nested
+    @DisplayName("Deep tries")
+    class Deep {
+
+        static final int DEPTH = 10_000;
+
+        Trie<String> deep(String error) {
+            Trie<String> trie = Trie.invalid(error);
+            for (int i = 0; i < DEPTH; i++) {
+                trie = trie(vec(), map(tup("k", trie)));
+            }
+            return trie;
+        }
+
+        List<String> path() {
+            return Collections.nCopies(DEPTH, "k");
+        }
+
+        @Test
+        @DisplayName("Are traversed without overflowing the stack")
+        void t0() {
+            Trie<String> deep = deep("e");
+
+            assertAll(
+                () -> assertThat(deep.isValid()).isFalse(),
+                () -> assertThat(deep.getErrors(path())).containsExactly("e"),
+                () -> assertThat(deep.toMap()).hasSize(DEPTH + 1));
+        }
+
+        @Test
+        @DisplayName("Are merged without overflowing the stack")
+        void t1() {
+            Trie<String> merged = deep("a").merge(deep("b"));
+
+            assertThat(merged.getErrors(path())).containsExactly("a", "b");
+        }
+
+        @Test
+        @DisplayName("Are written without overflowing the stack")
+        void t2() throws IOException {
+            Trie<String> deep = deep("e");
+            StringBuilder nested = new StringBuilder();
+            StringBuilder flat = new StringBuilder();
+            deep.writeTo(nested, Trie.ErrorEncoder.strings());
+            deep.writeFlatTo(flat, Trie.ErrorEncoder.strings());
+            String path = String.join(".", path());
+
+            assertAll(
+                () -> assertThat(nested.toString())
+                        .startsWith("{\"errors\":[],\"children\":{\"k\":{\"errors\":[]")
+                        .endsWith("{\"errors\":[\"e\"],\"children\":{" + "}}".repeat(DEPTH + 1)),
+                () -> assertThat(flat.toString())
+                        .startsWith("{\"\":[],\"k\":[],\"k.k\":[]")
+                        .endsWith(",\"" + path + "\":[\"e\"]}"),
+                () -> assertThat(deep.toString())
+                        .startsWith("{ errors: [], children: [{ k: { errors: []")
+                        .endsWith("{ errors: [e], children: [] }" + " }] }".repeat(DEPTH)));
+        }
+
+        @Test
+        @DisplayName("Are compared without overflowing the stack")
+        void t3() {
+            assertAll(
+                () -> assertThat(deep("e")).isEqualTo(deep("e")),
+                () -> assertThat(deep("e")).isNotEqualTo(deep("f")));
+        }
+
+        @Test
+        @DisplayName("Are encoded and decoded without overflowing the stack")
+        void t4() {
+            TrieCodec<String> codec = new TrieCodec<>(ErrorCodec.strings());
+            Trie<String> deep = deep("e");
+            EncodedTrie<String> encoded = codec.decode(codec.encode(deep));
+
+            assertAll(
+                () -> assertThat(encoded.getErrors(path().toArray(String[]::new))).containsExactly("e"),
+                () -> assertThat(encoded.toTrie()).isEqualTo(deep));
+        }
+
+    }
+
 }
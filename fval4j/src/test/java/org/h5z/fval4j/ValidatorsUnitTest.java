@@ -0,0 +1,142 @@
+package org.h5z.fval4j;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.h5z.fval4j.Validators.in;
+import static org.h5z.fval4j.Validators.required;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Predicate;
+
+import org.h5z.fval4j.Core.Validator;
+import org.h5z.fval4j.data.ValidationResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.organicdesign.fp.collections.PersistentHashSet;
+
+public class ValidatorsUnitTest {
+
+    @Nested
+    @DisplayName("Required")
+    class Required {
+
+        @Test
+        @DisplayName("Should fail if the value is null")
+        public void test() {
+            ValidationResult<String, Object, Object> result = required(() -> "Required").apply(null);
+
+            assertAll(
+                () -> assertThat(result.isInvalid()).isTrue(),
+                () -> assertThat(result.getErrors().size()).isEqualTo(1),
+                () -> assertThat(result.getErrors().get(0)).isEqualTo("Required")
+            );
+        }
+    }
+
+    @Nested
+    @DisplayName("in")
+    class In {
+
+        enum Day { MONDAY, TUESDAY, WEDNESDAY, THURSDAY, FRIDAY, SATURDAY, SUNDAY }
+
+        @Test
+        @DisplayName("Checks enums, integers and strings against their specialized set")
+        void t0() {
+            Validator<Day, Day, String> weekend = in(EnumSet.of(Day.SATURDAY, Day.SUNDAY), () -> "weekday");
+            Validator<Integer, Integer, String> status = in(Set.of(200, 201, 204, 404, -1), () -> "unknown");
+            Set<String> codes = new HashSet<>();
+            for (int i = 0; i < 1000; i++) {
+                codes.add("P" + i);
+            }
+            Validator<String, String, String> code = in(codes, () -> "unknown");
+
+            assertAll(
+                () -> assertThat(weekend.validate(Day.SUNDAY).isValid()).isTrue(),
+                () -> assertThat(weekend.validate(Day.MONDAY).getErrors()).containsExactly("weekday"),
+                () -> assertThat(status.validate(204).isValid()).isTrue(),
+                () -> assertThat(status.validate(-1).isValid()).isTrue(),
+                () -> assertThat(status.validate(203).isValid()).isFalse(),
+                () -> assertThat(status.validate(Integer.MIN_VALUE).isValid()).isFalse(),
+                () -> assertThat(status.validate(100_000).isValid()).isFalse(),
+                () -> assertThat(codes).allMatch(c -> code.validate(new String(c)).isValid()),
+                () -> assertThat(code.validate("P1000").isValid()).isFalse(),
+                () -> assertThat(code.validate("").isValid()).isFalse());
+        }
+
+        @Test
+        @DisplayName("Checks other sets with contains")
+        void t1() {
+            Set<String> caseInsensitive = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+            caseInsensitive.add("a");
+            Set<Object> mixed = new HashSet<>(List.of(1, "1", Day.MONDAY));
+
+            assertAll(
+                () -> assertThat(in(caseInsensitive, () -> "unknown").validate("A").isValid()).isTrue(),
+                () -> assertThat(in(mixed, () -> "unknown").validate("1").isValid()).isTrue(),
+                () -> assertThat(in(mixed, () -> "unknown").validate(2).isValid()).isFalse(),
+                () -> assertThat(in(Set.of(0, 1_000_000), () -> "unknown").validate(1_000_000).isValid()).isTrue());
+        }
+
+        @Test
+        @DisplayName("Builds perfect hash tables of large sets of strings")
+        void t2() {
+            Set<String> codes = new HashSet<>();
+            for (int i = 0; i < 100_000; i++) {
+                codes.add("C" + Integer.toHexString(i * 0x9E3779B9));
+            }
+            Predicate<Object> contains = Membership.of(codes);
+
+            assertAll(
+                () -> assertThat(contains).isInstanceOf(Membership.Strings.class),
+                () -> assertThat(Membership.of(PersistentHashSet.of(codes))).isInstanceOf(Membership.Strings.class),
+                () -> assertThat(codes).allMatch(c -> contains.test(new String(c))),
+                () -> assertThat(contains.test("D0")).isFalse(),
+                () -> assertThat(contains.test(0)).isFalse(),
+                () -> assertThat(Membership.of(Set.of("Aa", "BB")).test("BB")).isTrue());
+        }
+
+        @Test
+        @DisplayName("Copies the mutable standard sets")
+        void t3() {
+            Set<String> strings = new HashSet<>(List.of("a"));
+            Set<Object> mixed = new HashSet<>(List.of(1, "1"));
+            Validator<String, String, String> inStrings = in(strings, () -> "unknown");
+            Validator<Object, Object, String> inMixed = in(mixed, () -> "unknown");
+            strings.add("b");
+            mixed.add(2);
+
+            assertAll(
+                () -> assertThat(inStrings.validate("b").isValid()).isFalse(),
+                () -> assertThat(inMixed.validate(2).isValid()).isFalse(),
+                () -> assertThat(inStrings.descriptor().getParams()).containsExactly(Set.of("a")));
+        }
+
+        @Test
+        @DisplayName("Queries the other sets with their own equality")
+        void t4() {
+            Set<String> sorted = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+            sorted.add("a");
+            Set<String> identities = Collections.newSetFromMap(new IdentityHashMap<>());
+            String a = new String("a");
+            identities.add(a);
+            Validator<String, String, String> inSorted = in(sorted, () -> "unknown");
+            Validator<String, String, String> inIdentities = in(identities, () -> "unknown");
+            sorted.add("b");
+
+            assertAll(
+                () -> assertThat(inSorted.validate("B").isValid()).isTrue(),
+                () -> assertThat(inIdentities.validate(a).isValid()).isTrue(),
+                () -> assertThat(inIdentities.validate(new String("a")).isValid()).isFalse(),
+                () -> assertThat(inSorted.descriptor().getParams().get(0)).isSameAs(sorted));
+        }
+
+    }
+
+}
@@ -0,0 +1,133 @@
+package org.h5z.fval4j.codec;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.organicdesign.fp.StaticImports.map;
+import static org.organicdesign.fp.StaticImports.tup;
+import static org.organicdesign.fp.StaticImports.vec;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import org.h5z.fval4j.Trie;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+public class TrieCodecUnitTest {
+
+    TrieCodec<String> codec = new TrieCodec<>(ErrorCodec.strings());
+
+    Trie<String> address = Trie.trie(vec(), map(
+        tup("street", Trie.invalid("required")),
+        tup("city", Trie.valid("Li\u00e8ge"))));
+
+    Trie<String> person = Trie.trie(vec("person"), map(
+        tup("name", Trie.invalid(vec("length", "blank"))),
+        tup("home", this.address),
+        tup("work", this.address),
+        tup("age", Trie.valid(42))));
+
+    @Nested
+    @DisplayName("encode")
+    class Encode {
+
+        @Test
+        @DisplayName("Decodes the encoded trie")
+        void t0() {
+            assertAll(
+                () -> assertThat(codec.decode(codec.encode(person)).toTrie()).isEqualTo(person),
+                () -> assertThat(codec.decode(codec.encode(Trie.identity())).toTrie()).isEqualTo(Trie.identity()));
+        }
+
+        @Test
+        @DisplayName("Keeps shared nodes shared")
+        void t1() {
+            Trie<String> decoded = codec.decode(codec.encode(person)).toTrie();
+
+            assertThat(decoded.getChildren().get("home")).isSameAs(decoded.getChildren().get("work"));
+        }
+
+        @Test
+        @DisplayName("Writes shared nodes once")
+        void t2() {
+            Trie<String> copies = Trie.trie(vec("person"), map(
+                tup("name", Trie.invalid(vec("length", "blank"))),
+                tup("home", Trie.trie(vec(), map(tup("street", Trie.invalid("required")), tup("city", Trie.valid("Li\u00e8ge"))))),
+                tup("work", Trie.trie(vec(), map(tup("street", Trie.invalid("required")), tup("city", Trie.valid("Li\u00e8ge"))))),
+                tup("age", Trie.valid(42))));
+
+            assertThat(codec.encode(person).length).isLessThan(codec.encode(copies).length);
+        }
+
+    }
+
+    @Nested
+    @DisplayName("EncodedTrie")
+    class Encoded {
+
+        @Test
+        @DisplayName("Reads validity and errors by path")
+        void t0() {
+            EncodedTrie<String> encoded = codec.decode(codec.encode(person));
+
+            assertAll(
+                () -> assertThat(encoded.isValid()).isFalse(),
+                () -> assertThat(encoded.isValid("age")).isTrue(),
+                () -> assertThat(encoded.isValid("home")).isFalse(),
+                () -> assertThat(encoded.isValid("other")).isFalse(),
+                () -> assertThat(encoded.getErrors()).containsExactly("person"),
+                () -> assertThat(encoded.getErrors("name")).containsExactly("length", "blank"),
+                () -> assertThat(encoded.getErrors("work", "street")).containsExactly("required"),
+                () -> assertThat(encoded.getErrors("work", "other")).isEmpty());
+        }
+
+        @Test
+        @DisplayName("Reads consecutive tries from a buffer")
+        void t1() {
+            ByteBuffer buffer = ByteBuffer.allocate(1024);
+            codec.write(person, buffer);
+            codec.write(address, buffer);
+            buffer.flip();
+
+            assertAll(
+                () -> assertThat(codec.read(buffer).toTrie()).isEqualTo(person),
+                () -> assertThat(codec.read(buffer).toTrie()).isEqualTo(address),
+                () -> assertThat(buffer.hasRemaining()).isFalse());
+        }
+
+        @Test
+        @DisplayName("Reads tries written to a data output")
+        void t2() throws IOException {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            DataOutputStream out = new DataOutputStream(bytes);
+            codec.write(person, out);
+            codec.write(address, out);
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+
+            assertAll(
+                () -> assertThat(codec.read(in).toTrie()).isEqualTo(person),
+                () -> assertThat(codec.read(in).toTrie()).isEqualTo(address));
+        }
+
+        @Test
+        @DisplayName("Throws if the bytes are not an encoded trie")
+        void t3() {
+            byte[] bytes = codec.encode(person);
+
+            assertAll(
+                () -> assertThatThrownBy(() -> codec.decode(new byte[] { 42 }))
+                        .isInstanceOf(IllegalArgumentException.class),
+                () -> assertThatThrownBy(() -> codec.decode(Arrays.copyOf(bytes, bytes.length - 1)))
+                        .isInstanceOf(IllegalArgumentException.class));
+        }
+
+    }
+
+}
@@ -0,0 +1,171 @@
+package org.h5z.fval4j.csv;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.h5z.fval4j.DefaultErrors.gt;
+import static org.h5z.fval4j.defaults.CsvValidators.integer;
+import static org.h5z.fval4j.defaults.CsvValidators.lengthBetween;
+import static org.h5z.fval4j.defaults.CsvValidators.matches;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import org.h5z.fval4j.Trie;
+import org.h5z.fval4j.Core.Validator;
+import org.h5z.fval4j.DefaultErrors.ValidationError;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class CsvRunnerUnitTest {
+
+    @TempDir
+    Path dir;
+
+    Path write(String content) throws IOException {
+        return Files.write(this.dir.resolve("rows.csv"), content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static final Function<Throwable, ValidationError> FAILED = e -> ValidationError.error("Failed");
+
+    Map<String, Validator<CharSequence, ?, ValidationError>> columns() {
+        Map<String, Validator<CharSequence, ?, ValidationError>> columns = new LinkedHashMap<>();
+        columns.put("name", lengthBetween(3, 16));
+        columns.put("age", integer(gt(17)));
+        return columns;
+    }
+
+    @Nested
+    @DisplayName("run")
+    class Run {
+
+        @Test
+        @DisplayName("Validates each cell with the validator of its column across chunk boundaries")
+        void t0() throws IOException {
+            StringBuilder content = new StringBuilder("id,name,age\n");
+            for (int i = 0; i < 50; i++) {
+                content.append(i).append(i % 5 == 0 ? ",Jo," : ",John,").append(i % 2 == 0 ? "42" : "x").append('\n');
+            }
+            Path file = write(content.toString());
+            Map<Long, Trie<ValidationError>> results = new ConcurrentHashMap<>();
+
+            long count = CsvRunner.run(file, columns(), () -> ValidationError.error("Malformed"), FAILED, results::put, 3, 17);
+
+            assertAll(
+                () -> assertThat(count).isEqualTo(50),
+                () -> assertThat(results.values().stream().filter(Trie::isValid)).hasSize(20),
+                () -> assertThat(results.get(12L).getErrors("name")).isNotEmpty(),
+                () -> assertThat(results.get(12L).getErrors("age")).isEmpty(),
+                () -> assertThat(results.get(20L).getErrors("age"))
+                        .containsExactly(ValidationError.error("NotAnInteger")));
+        }
+
+        @Test
+        @DisplayName("Reports rows which cannot be parsed or don't have as many cells as the header")
+        void t1() throws IOException {
+            Path file = write("name,age\r\nJohn,42\r\n\"Jo\"hn,42\r\nJohn\r\n");
+            Map<Long, Trie<ValidationError>> results = new ConcurrentHashMap<>();
+
+            CsvRunner.run(file, columns(), () -> ValidationError.error("Malformed"), FAILED, results::put);
+
+            assertAll(
+                () -> assertThat(results).hasSize(3),
+                () -> assertThat(results.get(10L).isValid()).isTrue(),
+                () -> assertThat(results.get(19L).getErrors()).containsExactly(ValidationError.error("Malformed")),
+                () -> assertThat(results.get(30L).getErrors()).containsExactly(ValidationError.error("Malformed")));
+        }
+
+        @Test
+        @DisplayName("Throws if a column is not in the header")
+        void t2() throws IOException {
+            Path file = write("name\nJohn\n");
+
+            assertThatThrownBy(() -> CsvRunner.run(file, columns(), () -> ValidationError.error("Malformed"), FAILED, (o, t) -> {}))
+                .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        @DisplayName("Reports the cells whose validator throws and validates the next rows")
+        void t3() throws IOException {
+            Path file = write("name,age\nJohn,42\nJane,42\nJack,42\n");
+            Validator<CharSequence, CharSequence, ValidationError> throwing = cell -> {
+                if (cell.charAt(2) == 'n') {
+                    throw new IllegalStateException("boom");
+                }
+                return lengthBetween(3, 16).apply(cell);
+            };
+            Map<String, Validator<CharSequence, ?, ValidationError>> columns = columns();
+            columns.put("name", throwing);
+            Map<Long, Trie<ValidationError>> results = new ConcurrentHashMap<>();
+
+            long count = CsvRunner.run(file, columns, () -> ValidationError.error("Malformed"), FAILED, results::put, 3, 8);
+
+            assertAll(
+                () -> assertThat(count).isEqualTo(3),
+                () -> assertThat(results.get(9L).isValid()).isTrue(),
+                () -> assertThat(results.get(17L).getErrors("name")).containsExactly(ValidationError.error("Failed")),
+                () -> assertThat(results.get(17L).getErrors("age")).isEmpty(),
+                () -> assertThat(results.get(25L).isValid()).isTrue());
+        }
+
+    }
+
+    @Nested
+    @DisplayName("CsvParser")
+    class Parser {
+
+        List<List<String>> parse(String csv) {
+            CsvParser parser = new CsvParser(ByteBuffer.wrap(csv.getBytes(StandardCharsets.UTF_8)));
+            List<List<String>> rows = new ArrayList<>();
+            while (parser.next()) {
+                List<String> row = new ArrayList<>();
+                for (int i = 0; i < parser.size(); i++) {
+                    row.add(parser.field(i).toString());
+                }
+                rows.add(row);
+            }
+            return rows;
+        }
+
+        @Test
+        @DisplayName("Splits rows in cells")
+        void t0() {
+            assertThat(this.parse("a,\"b,\"\"c\"\"\",,li\u00e8ge\n\n1,2,3,\r\n"))
+                .containsExactly(List.of("a", "b,\"c\"", "", "li\u00e8ge"), List.of("1", "2", "3", ""));
+        }
+
+        @Test
+        @DisplayName("Returns views over ASCII cells")
+        void t1() {
+            CsvParser parser = new CsvParser(ByteBuffer.wrap("abc,d\u00e9".getBytes(StandardCharsets.UTF_8)));
+            parser.next();
+
+            assertAll(
+                () -> assertThat(parser.field(0)).isInstanceOf(AsciiSequence.class),
+                () -> assertThat(parser.field(0).subSequence(1, 3).toString()).isEqualTo("bc"),
+                () -> assertThat(parser.field(1)).isEqualTo("d\u00e9"));
+        }
+
+        @Test
+        @DisplayName("Finds patterns in views")
+        void t2() {
+            CsvParser parser = new CsvParser(ByteBuffer.wrap("abc-123".getBytes(StandardCharsets.UTF_8)));
+            parser.next();
+
+            assertThat(matches("^[a-z]+-\\d+$").validate(parser.field(0)).isValid()).isTrue();
+        }
+
+    }
+
+}
@@ -0,0 +1,71 @@
+package org.h5z.fval4j.data;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.stream.LongStream;
+
+import org.h5z.fval4j.data.BloomFilter.Hasher;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+public class BloomFilterUnitTest {
+
+    BloomFilter<Long> filter = BloomFilter.create(Hasher.longs(), 10_000, 0.01);
+
+    {
+        LongStream.range(0, 10_000).forEach(i -> this.filter.put(i * 7));
+    }
+
+    @Nested
+    @DisplayName("mightContain")
+    class MightContain {
+
+        @Test
+        @DisplayName("Contains the values put and few others")
+        void t0() {
+            long falsePositives = LongStream.range(0, 10_000).filter(i -> filter.mightContain(i * 7 + 1)).count();
+
+            assertAll(
+                () -> assertThat(LongStream.range(0, 10_000)).allMatch(i -> filter.mightContain(i * 7)),
+                () -> assertThat(falsePositives).isLessThan(300));
+        }
+
+        @Test
+        @DisplayName("Throws if the false positive rate is invalid")
+        void t1() {
+            assertThatThrownBy(() -> BloomFilter.create(Hasher.strings(), 10, 1)).isInstanceOf(IllegalArgumentException.class);
+        }
+
+    }
+
+    @Nested
+    @DisplayName("serialization")
+    class Serialization {
+
+        @Test
+        @DisplayName("Deserializes the filter with its hasher")
+        @SuppressWarnings("unchecked")
+        void t0() throws IOException, ClassNotFoundException {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+                out.writeObject(filter);
+            }
+            BloomFilter<Long> read;
+            try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+                read = (BloomFilter<Long>) in.readObject();
+            }
+
+            assertThat(LongStream.range(0, 20_000)).allMatch(i -> read.mightContain(i) == filter.mightContain(i));
+        }
+
+    }
+
+}
@@ -0,0 +1,90 @@
+package org.h5z.fval4j.io;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.h5z.fval4j.Validators.in;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.h5z.fval4j.DefaultErrors;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class MappedSetsUnitTest {
+
+    @TempDir
+    Path dir;
+
+    @Nested
+    @DisplayName("MappedLongSet")
+    class LongSet {
+
+        @Test
+        @DisplayName("Contains the written values")
+        void t0() throws IOException {
+            Path file = dir.resolve("ids");
+            MappedLongSet.write(file, new long[] { 42, Long.MIN_VALUE, -7, 42, Long.MAX_VALUE, 0 });
+            MappedLongSet set = MappedLongSet.open(file);
+
+            assertAll(
+                () -> assertThat(set.size()).isEqualTo(5),
+                () -> assertThat(set.contains(42)).isTrue(),
+                () -> assertThat(set.contains(Long.MIN_VALUE)).isTrue(),
+                () -> assertThat(set.contains(Long.MAX_VALUE)).isTrue(),
+                () -> assertThat(set.contains(0)).isTrue(),
+                () -> assertThat(set.contains(41)).isFalse(),
+                () -> assertThat(in(set, () -> "unknown").validate(-7L).isValid()).isTrue(),
+                () -> assertThat(in(set, () -> "unknown").validate(7L).getErrors()).containsExactly("unknown"),
+                () -> assertThat(in(set, () -> "unknown").validate(null).getErrors()).containsExactly("unknown"));
+        }
+
+        @Test
+        @DisplayName("Throws if the values are not sorted")
+        void t1() throws IOException {
+            Path file = dir.resolve("unsorted");
+            Files.write(file, new byte[] { 0, 0, 0, 0, 0, 0, 0, 2, 0, 0, 0, 0, 0, 0, 0, 1 });
+
+            assertAll(
+                () -> assertThatThrownBy(() -> MappedLongSet.open(file)).isInstanceOf(IOException.class),
+                () -> assertThatThrownBy(() -> MappedLongSet.open(Files.write(dir.resolve("odd"), new byte[3])))
+                        .isInstanceOf(IOException.class));
+        }
+
+    }
+
+    @Nested
+    @DisplayName("MappedStringSet")
+    class StringSet {
+
+        @Test
+        @DisplayName("Contains the written strings")
+        void t0() throws IOException {
+            Path file = dir.resolve("codes");
+            MappedStringSet.write(file, List.of("4000", "Li\u00e8ge", "", "\ud83d\ude00", "40", "4000", "\uffff", "B-4000"));
+            MappedStringSet set = MappedStringSet.open(file);
+
+            assertAll(
+                () -> assertThat(set.size()).isEqualTo(7),
+                () -> assertThat(List.of("4000", "Li\u00e8ge", "", "\ud83d\ude00", "40", "\uffff", "B-4000")).allMatch(set::contains),
+                () -> assertThat(List.of("400", "40000", "Liege", "\ud83d\ude01", "b-4000")).noneMatch(set::contains),
+                () -> assertThat(DefaultErrors.in(set).validate("4000").isValid()).isTrue(),
+                () -> assertThat(DefaultErrors.in(set).validate("4001").isValid()).isFalse(),
+                () -> assertThat(DefaultErrors.in(set).validate(null).isValid()).isFalse());
+        }
+
+        @Test
+        @DisplayName("Throws if the file is not a set of strings")
+        void t1() {
+            assertThatThrownBy(() -> MappedStringSet.open(Files.write(dir.resolve("codes"), new byte[] { 0, 0, 0, 9, 0, 0, 0, 0 })))
+                    .isInstanceOf(IOException.class);
+        }
+
+    }
+
+}
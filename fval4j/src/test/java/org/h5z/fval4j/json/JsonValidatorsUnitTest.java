@@ -0,0 +1,191 @@
+package org.h5z.fval4j.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.h5z.fval4j.Core.all;
+import static org.h5z.fval4j.DefaultErrors.gt;
+import static org.h5z.fval4j.DefaultErrors.lengthBetween;
+import static org.h5z.fval4j.DefaultErrors.required;
+import static org.h5z.fval4j.defaults.ObjectValidators.integer;
+import static org.h5z.fval4j.defaults.ObjectValidators.nestedMap;
+import static org.h5z.fval4j.defaults.ObjectValidators.string;
+import static org.h5z.fval4j.defaults.JsonValidators.json;
+import static org.h5z.fval4j.defaults.JsonValidators.jsonBuffer;
+import static org.h5z.fval4j.validators.MapValidators.kv;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.h5z.fval4j.Core.Validator;
+import org.h5z.fval4j.DefaultErrors.ValidationError;
+import org.h5z.fval4j.data.ValidationResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+public class JsonValidatorsUnitTest {
+
+    static final Validator<Map<String, Object>, Map<String, Object>, ValidationError> SCHEMA = all(
+        kv("name", required(string(lengthBetween(3, 16)))),
+        kv("age", required(integer(gt(17)))),
+        kv("address", required(nestedMap(
+            kv("city", required(string(lengthBetween(2, 32))))))),
+        (n, a, m) -> null);
+
+    static byte[] utf8(String json) {
+        return json.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Nested
+    @DisplayName("json")
+    class Json {
+
+        @Test
+        @DisplayName("Returns the same errors as the schema applied on the mapped document")
+        void t0() {
+            Map<String, Object> mapped = Map.of("name", "Jo", "age", 3, "address", Map.of("city", "X"));
+            ValidationResult<ValidationError, byte[], Map<String, Object>> result = json(SCHEMA)
+                .validate(utf8("{\"name\": \"Jo\", \"age\": 3, \"address\": {\"city\": \"X\"}}"));
+
+            assertThat(result._1()).isEqualTo(SCHEMA.validate(mapped)._1());
+        }
+
+        @Test
+        @DisplayName("Returns a valid result if the document matches the schema")
+        void t1() {
+            assertThat(json(SCHEMA)
+                .validate(utf8(" {\"name\":\"J\\u00f6hn\",\"age\":42,\"address\":{\"city\":\"Li\\u00e8ge\"},\"tags\":[1,{\"a\":null}]} "))
+                .isValid()).isTrue();
+        }
+
+        @Test
+        @DisplayName("Returns an error if the document is malformed")
+        void t2() {
+            assertAll(
+                () -> assertThat(json(SCHEMA).validate(utf8("{\"name\": \"John\",}")).getErrors())
+                        .containsExactly(ValidationError.error("MalformedJson")),
+                () -> assertThat(json(SCHEMA).validate(utf8("[1, 2]")).getErrors())
+                        .containsExactly(ValidationError.error("MalformedJson")),
+                () -> assertThat(json(SCHEMA).validate(utf8("{\"age\": 01}")).getErrors())
+                        .containsExactly(ValidationError.error("MalformedJson")),
+                () -> assertThat(json(SCHEMA).validate(utf8("{} {}")).getErrors())
+                        .containsExactly(ValidationError.error("MalformedJson")));
+        }
+
+        @Test
+        @DisplayName("Validates the document between the position and the limit of a buffer")
+        void t3() {
+            ByteBuffer buffer = ByteBuffer.wrap(utf8("xx{\"name\":\"John\",\"age\":42,\"address\":{\"city\":\"Liege\"}}yy"));
+            buffer.position(2).limit(buffer.capacity() - 2);
+
+            assertAll(
+                () -> assertThat(jsonBuffer(SCHEMA).validate(buffer).isValid()).isTrue(),
+                () -> assertThat(buffer.position()).isEqualTo(2));
+        }
+
+        @Test
+        @DisplayName("Returns an error if the document is nested too deeply")
+        void t4() {
+            String deep = "{\"name\":\"John\",\"tags\":" + "[".repeat(100_000) + "]".repeat(100_000) + "}";
+            String nested = "{\"name\":\"John\",\"age\":42,\"address\":{\"city\":\"Liege\"},\"tags\":"
+                    + "[".repeat(JsonParser.MAX_DEPTH) + "]".repeat(JsonParser.MAX_DEPTH) + "}";
+
+            assertAll(
+                () -> assertThat(json(SCHEMA).validate(utf8(deep)).getErrors())
+                        .containsExactly(ValidationError.error("MalformedJson")),
+                () -> assertThat(json(SCHEMA).validate(utf8(nested)).isValid()).isTrue());
+        }
+
+    }
+
+    @Nested
+    @DisplayName("JsonObject")
+    class View {
+
+        Map<String, Object> parse(String json) {
+            return new JsonParser(ByteBuffer.wrap(utf8(json))).document();
+        }
+
+        @Test
+        @DisplayName("Reads values as a JSON mapper would")
+        void t0() {
+            Map<String, Object> view = this.parse(
+                "{\"i\":-12,\"l\":12345678901,\"b\":123456789012345678901,\"d\":1.5e2,\"t\":true,\"n\":null,"
+                    + "\"s\":\"a\\\"b\\n\\ud83d\\ude00\",\"a\":[1,\"x\"],\"o\":{\"k\":false}}");
+
+            assertAll(
+                () -> assertThat(view.get("i")).isEqualTo(-12),
+                () -> assertThat(view.get("l")).isEqualTo(12345678901L),
+                () -> assertThat(view.get("b")).isEqualTo(new BigInteger("123456789012345678901")),
+                () -> assertThat(view.get("d")).isEqualTo(150.0),
+                () -> assertThat(view.get("t")).isEqualTo(true),
+                () -> assertThat(view.containsKey("n")).isTrue(),
+                () -> assertThat(view.get("n")).isNull(),
+                () -> assertThat(view.get("s")).isEqualTo("a\"b\n\uD83D\uDE00"),
+                () -> assertThat(view.get("a")).isEqualTo(List.of(1, "x")),
+                () -> assertThat(view.get("o")).isEqualTo(Map.of("k", false)),
+                () -> assertThat(view.containsKey("missing")).isFalse());
+        }
+
+        @Test
+        @DisplayName("Keeps the last value of duplicated keys")
+        void t1() {
+            Map<String, Object> view = this.parse("{\"k\":1,\"k\":2}");
+
+            assertAll(
+                () -> assertThat(view.get("k")).isEqualTo(2),
+                () -> assertThat(view).isEqualTo(Map.of("k", 2)));
+        }
+
+        @Test
+        @DisplayName("Matches escaped and non-ASCII keys")
+        void t2() {
+            Map<String, Object> view = this.parse("{\"\\u0063ity\":1,\"li\u00e8ge\":2}");
+
+            assertAll(
+                () -> assertThat(view.get("city")).isEqualTo(1),
+                () -> assertThat(view.get("li\u00e8ge")).isEqualTo(2));
+        }
+
+        @Test
+        @DisplayName("Indexes the keys of large objects")
+        void t3() {
+            StringBuilder json = new StringBuilder("{\"\\u0063ity\":0");
+            for (int i = 0; i < 100; i++) {
+                json.append(",\"k").append(i).append("\":").append(i);
+            }
+            Map<String, Object> view = this.parse(json.append(",\"k7\":-7}").toString());
+
+            assertAll(
+                () -> assertThat(view.get("city")).isEqualTo(0),
+                () -> assertThat(view.get("k99")).isEqualTo(99),
+                () -> assertThat(view.get("k7")).isEqualTo(-7),
+                () -> assertThat(view.containsKey("k100")).isFalse(),
+                () -> assertThat(view.get(7)).isNull(),
+                () -> assertThat(view).hasSize(101));
+        }
+
+        @Test
+        @DisplayName("Rejects strings which are not well-formed UTF-8")
+        void t4() {
+            byte[][] invalid = {
+                { '{', '"', 'k', '"', ':', '"', (byte) 0xC3, '"', '}' },
+                { '{', '"', 'k', '"', ':', '"', (byte) 0xC0, (byte) 0xAF, '"', '}' },
+                { '{', '"', 'k', '"', ':', '"', (byte) 0xED, (byte) 0xA0, (byte) 0x80, '"', '}' },
+                { '{', '"', 'k', '"', ':', '"', (byte) 0xF4, (byte) 0x90, (byte) 0x80, (byte) 0x80, '"', '}' },
+                { '{', '"', (byte) 0x80, '"', ':', '1', '}' } };
+
+            assertAll(
+                () -> assertThat(Arrays.asList(invalid)).allSatisfy(bytes -> assertThat(json(SCHEMA).validate(bytes).getErrors())
+                        .containsExactly(ValidationError.error("MalformedJson"))),
+                () -> assertThat(this.parse("{\"k\":\"\u00e8\u20ac\uD83D\uDE00\"}").get("k"))
+                        .isEqualTo("\u00e8\u20ac\uD83D\uDE00"));
+        }
+
+    }
+
+}
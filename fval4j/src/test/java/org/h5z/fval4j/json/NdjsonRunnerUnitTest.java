@@ -0,0 +1,113 @@
+package org.h5z.fval4j.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.h5z.fval4j.DefaultErrors.gt;
+import static org.h5z.fval4j.DefaultErrors.required;
+import static org.h5z.fval4j.defaults.JsonValidators.jsonBuffer;
+import static org.h5z.fval4j.defaults.ObjectValidators.integer;
+import static org.h5z.fval4j.validators.MapValidators.kv;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import org.h5z.fval4j.Trie;
+import org.h5z.fval4j.Core.Validator;
+import org.h5z.fval4j.DefaultErrors.ValidationError;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class NdjsonRunnerUnitTest {
+
+    static final Validator<ByteBuffer, Integer, ValidationError> RECORD = jsonBuffer(kv("n", required(integer(gt(0)))));
+
+    static final Function<Throwable, ValidationError> FAILED = e -> ValidationError.error("Failed");
+
+    @TempDir
+    Path dir;
+
+    Path write(String content) throws IOException {
+        return Files.write(this.dir.resolve("records.ndjson"), content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Nested
+    @DisplayName("run")
+    class Run {
+
+        @Test
+        @DisplayName("Validates each record across chunk boundaries")
+        void t0() throws IOException {
+            StringBuilder content = new StringBuilder();
+            for (int i = 0; i < 100; i++) {
+                content.append("{\"n\": ").append(i % 10).append("}\n");
+            }
+            Path file = write(content.toString());
+            Map<Long, Trie<ValidationError>> results = new ConcurrentHashMap<>();
+
+            long count = NdjsonRunner.run(file, RECORD, FAILED, results::put, 4, 23);
+
+            assertAll(
+                () -> assertThat(count).isEqualTo(100),
+                () -> assertThat(results).hasSize(100),
+                () -> assertThat(results.values().stream().filter(t -> !t.isValid())).hasSize(10),
+                () -> assertThat(results.get(0L).isValid()).isFalse(),
+                () -> assertThat(results.get(9L).isValid()).isTrue());
+        }
+
+        @Test
+        @DisplayName("Ignores blank lines and carriage returns")
+        void t1() throws IOException {
+            Path file = write("{\"n\": 1}\r\n\n  \n{\"n\": 0}");
+            Map<Long, Trie<ValidationError>> results = new ConcurrentHashMap<>();
+
+            long count = NdjsonRunner.run(file, RECORD, FAILED, results::put);
+
+            assertAll(
+                () -> assertThat(count).isEqualTo(2),
+                () -> assertThat(results.get(0L).isValid()).isTrue(),
+                () -> assertThat(results.get(14L).getErrors("n")).isNotEmpty());
+        }
+
+        @Test
+        @DisplayName("Reports malformed records")
+        void t2() throws IOException {
+            Path file = write("{\"n\": 1}\n{\"n\": \n");
+            Map<Long, Trie<ValidationError>> results = new ConcurrentHashMap<>();
+
+            NdjsonRunner.run(file, RECORD, FAILED, results::put);
+
+            assertThat(results.get(9L).getErrors()).containsExactly(ValidationError.error("MalformedJson"));
+        }
+
+        @Test
+        @DisplayName("Reports the records whose validator throws and validates the next ones")
+        void t3() throws IOException {
+            Path file = write("{\"n\": 1}\n{\"n\": 2}\n{\"n\": 3}\n");
+            Validator<ByteBuffer, Integer, ValidationError> throwing = b -> {
+                if (b.get(b.position() + 6) == '2') {
+                    throw new IllegalStateException("boom");
+                }
+                return RECORD.apply(b);
+            };
+            Map<Long, Trie<ValidationError>> results = new ConcurrentHashMap<>();
+
+            long count = NdjsonRunner.run(file, throwing, FAILED, results::put, 1, 23);
+
+            assertAll(
+                () -> assertThat(count).isEqualTo(3),
+                () -> assertThat(results.get(0L).isValid()).isTrue(),
+                () -> assertThat(results.get(9L).getErrors()).containsExactly(ValidationError.error("Failed")),
+                () -> assertThat(results.get(18L).isValid()).isTrue());
+        }
+
+    }
+
+}
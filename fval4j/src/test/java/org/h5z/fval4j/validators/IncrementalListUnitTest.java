@@ -0,0 +1,112 @@
+package org.h5z.fval4j.validators;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.h5z.fval4j.Core.list;
+import static org.h5z.fval4j.Validators.gt;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.h5z.fval4j.Core;
+import org.h5z.fval4j.Core.Validator;
+import org.h5z.fval4j.data.ValidationResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+public class IncrementalListUnitTest {
+
+    AtomicInteger runs = new AtomicInteger();
+
+    Validator<Integer, Integer, String> positive = i -> {
+        this.runs.incrementAndGet();
+        return gt(0, () -> "gt0").apply(i);
+    };
+
+    IncrementalList<Integer, Integer, String> validator = IncrementalList.of(this.positive);
+
+    List<Integer> range(int from, int to) {
+        List<Integer> xs = new ArrayList<>();
+        for (int i = from; i < to; i++) {
+            xs.add(i);
+        }
+        return xs;
+    }
+
+    @Nested
+    @DisplayName("validate")
+    class Validate {
+
+        @Test
+        @DisplayName("Returns the same result as list with everyEl")
+        void t0() {
+            Validator<List<Integer>, List<Integer>, String> everyEl = list(positive, Core::everyEl);
+
+            assertAll(
+                () -> assertThat(validator.validate(List.of(1, 0, -1, 2))).isEqualTo(everyEl.validate(List.of(1, 0, -1, 2))),
+                () -> assertThat(validator.validate(List.of())).isEqualTo(everyEl.validate(List.of())));
+        }
+
+    }
+
+    @Nested
+    @DisplayName("revalidate")
+    class Revalidate {
+
+        @Test
+        @DisplayName("Validates only the changed elements")
+        void t0() {
+            List<Integer> before = range(-10, 1000);
+            ValidationResult<String, List<Integer>, List<Integer>> previous = validator.validate(before);
+            List<Integer> after = new ArrayList<>(before);
+            after.set(500, -1);
+            after.set(5, 42);
+            runs.set(0);
+
+            ValidationResult<String, List<Integer>, List<Integer>> result = validator.revalidate(previous, after);
+
+            assertAll(
+                () -> assertThat(runs.get()).isEqualTo(2),
+                () -> assertThat(result).isEqualTo(validator.validate(after)),
+                () -> assertThat(result.getErrors("5")).isEmpty(),
+                () -> assertThat(result.getErrors("500")).containsExactly("gt0"));
+        }
+
+        @Test
+        @DisplayName("Moves the results of shifted elements")
+        void t1() {
+            List<Integer> before = range(-10, 100);
+            ValidationResult<String, List<Integer>, List<Integer>> previous = validator.validate(before);
+            List<Integer> after = new ArrayList<>(before);
+            after.add(50, -100);
+            after.remove(2);
+            after.add(1000);
+            after.remove(Integer.valueOf(-5));
+            runs.set(0);
+
+            ValidationResult<String, List<Integer>, List<Integer>> result = validator.revalidate(previous, after);
+
+            assertAll(
+                () -> assertThat(runs.get()).isEqualTo(2),
+                () -> assertThat(result).isEqualTo(validator.validate(after)));
+        }
+
+        @Test
+        @DisplayName("Drops the results of removed elements")
+        void t2() {
+            ValidationResult<String, List<Integer>, List<Integer>> previous = validator.validate(range(-3, 3));
+            runs.set(0);
+
+            ValidationResult<String, List<Integer>, List<Integer>> result = validator.revalidate(previous, List.of(-2, 1));
+
+            assertAll(
+                () -> assertThat(runs.get()).isZero(),
+                () -> assertThat(result).isEqualTo(validator.validate(List.of(-2, 1))),
+                () -> assertThat(result._1().getChildren()).hasSize(2));
+        }
+
+    }
+
+}
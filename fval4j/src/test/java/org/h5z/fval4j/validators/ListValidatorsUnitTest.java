@@ -0,0 +1,93 @@
+package org.h5z.fval4j.validators;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.h5z.fval4j.validators.ListValidators.distinct;
+import static org.h5z.fval4j.validators.ListValidators.distinctInt;
+import static org.h5z.fval4j.validators.ListValidators.distinctLong;
+import static org.h5z.fval4j.validators.ListValidators.distinctString;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.h5z.fval4j.Core.Validator;
+import org.h5z.fval4j.DefaultErrors.ValidationError;
+import org.h5z.fval4j.data.ValidationResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+public class ListValidatorsUnitTest {
+
+    @Nested
+    @DisplayName("distinct")
+    class Distinct {
+
+        @Test
+        @DisplayName("Reports the duplicates at their index")
+        void t0() {
+            Validator<List<String>, List<String>, String> validator = distinct(String::toLowerCase, k -> "duplicate " + k);
+
+            ValidationResult<String, List<String>, List<String>> result = validator.validate(List.of("a", "b", "A", "c", "a"));
+
+            assertAll(
+                () -> assertThat(result.isValid()).isFalse(),
+                () -> assertThat(result._1().getChildren()).containsOnlyKeys("2", "4"),
+                () -> assertThat(result.getErrors("2")).containsExactly("duplicate a"),
+                () -> assertThat(result.getErrors("4")).containsExactly("duplicate a"),
+                () -> assertThat(result._3()).isNull());
+        }
+
+        @Test
+        @DisplayName("Returns the list itself if its elements are distinct")
+        void t1() {
+            List<String> xs = List.of("a", "b");
+
+            ValidationResult<String, List<String>, List<String>> result = distinct((String s) -> s, () -> "duplicate").validate(xs);
+
+            assertAll(
+                () -> assertThat(result.isValid()).isTrue(),
+                () -> assertThat(result._3()).isSameAs(xs));
+        }
+
+    }
+
+    @Nested
+    @DisplayName("distinctLong, distinctInt and distinctString")
+    class Specialized {
+
+        List<Long> ids = new ArrayList<>();
+
+        {
+            for (long i = -50_000; i < 50_000; i++) {
+                this.ids.add(i * 4_294_967_296L);
+            }
+            this.ids.add(0L);
+            this.ids.add(12 * 4_294_967_296L);
+        }
+
+        @Test
+        @DisplayName("Report the same duplicates as distinct")
+        void t0() {
+            ValidationResult<String, List<Long>, List<Long>> expected = distinct((Long l) -> l, k -> "duplicate " + k).validate(ids);
+
+            assertAll(
+                () -> assertThat(expected._1().getChildren()).containsOnlyKeys("100000", "100001"),
+                () -> assertThat(distinctLong((Long l) -> l, k -> "duplicate " + k).validate(ids)).isEqualTo(expected),
+                () -> assertThat(distinctString((Long l) -> String.valueOf(l), k -> "duplicate " + k).validate(ids)).isEqualTo(expected),
+                () -> assertThat(distinctInt((Long l) -> (int) (l >> 32), k -> "duplicate " + ((long) k << 32)).validate(ids)).isEqualTo(expected));
+        }
+
+        @Test
+        @DisplayName("Return default errors")
+        void t1() {
+            Validator<List<Integer>, List<Integer>, ValidationError> validator = org.h5z.fval4j.defaults.ListValidators.distinctInt((Integer i) -> i);
+
+            assertAll(
+                () -> assertThat(validator.validate(List.of(1, 2, 3)).isValid()).isTrue(),
+                () -> assertThat(validator.validate(List.of(0, 1, 0)).getErrors("2")).containsExactly(ValidationError.error("DuplicateElement", 0)));
+        }
+
+    }
+
+}
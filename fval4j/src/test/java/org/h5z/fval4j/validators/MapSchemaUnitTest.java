@@ -0,0 +1,142 @@
+package org.h5z.fval4j.validators;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.h5z.fval4j.Core.all;
+import static org.h5z.fval4j.Core.optional;
+import static org.h5z.fval4j.Core.required;
+import static org.h5z.fval4j.Validators.gt;
+import static org.h5z.fval4j.Validators.lengthBetween;
+import static org.h5z.fval4j.validators.MapValidators.kv;
+import static org.h5z.fval4j.validators.ObjectValidators.integer;
+import static org.h5z.fval4j.validators.ObjectValidators.string;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.organicdesign.fp.StaticImports.vec;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.h5z.fval4j.Core.Validator;
+import org.h5z.fval4j.Descriptor;
+import org.h5z.fval4j.data.ValidationResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+public class MapSchemaUnitTest {
+
+    static final Validator<Object, String, String> NAME = required(string(lengthBetween(3, 16, () -> "length"), () -> "string"), () -> "required");
+    static final Validator<Object, Integer, String> AGE = optional(integer(gt(17, () -> "adult"), () -> "integer"));
+
+    @Nested
+    @DisplayName("MapSchema")
+    class Schema {
+
+        MapSchema<String, Object, String> schema = MapSchema.<String, Object, String> builder()
+            .key("name", NAME)
+            .key("age", AGE)
+            .build();
+
+        @Test
+        @DisplayName("Returns the same errors as the composition of key validators")
+        void t0() {
+            Validator<Map<String, Object>, Map<String, Object>, String> composed = all(kv("name", NAME), kv("age", AGE));
+
+            assertAll(
+                () -> assertThat(this.schema.validate(Map.of())._1()).isEqualTo(composed.validate(Map.of())._1()),
+                () -> assertThat(this.schema.validate(Map.of("name", "Jo", "age", 3))._1())
+                        .isEqualTo(composed.validate(Map.of("name", "Jo", "age", 3))._1()),
+                () -> assertThat(this.schema.validate(Map.of("name", "John", "age", "x", "other", 1))._1())
+                        .isEqualTo(composed.validate(Map.of("name", "John", "age", "x", "other", 1))._1()));
+        }
+
+        @Test
+        @DisplayName("Returns the validated map if valid")
+        void t1() {
+            Map<String, Object> john = Map.of("name", "John", "age", 42);
+
+            assertThat(this.schema.validate(john)._3()).isSameAs(john);
+        }
+
+        @Test
+        @DisplayName("Reports unknown keys if closed")
+        void t2() {
+            MapSchema<String, Object, String> closed = MapSchema.<String, Object, String> builder()
+                .key("name", NAME)
+                .closed(k -> "unknown " + k)
+                .build();
+
+            assertAll(
+                () -> assertThat(closed.validate(Map.of("name", "John")).isValid()).isTrue(),
+                () -> assertThat(closed.validate(Map.of("name", "John", "age", 42)).getErrors("age"))
+                        .containsExactly("unknown age"));
+        }
+
+        @Test
+        @DisplayName("Dispatches many keys")
+        void t3() {
+            MapSchema.Builder<String, Object, String> builder = MapSchema.builder();
+            Map<String, Object> valid = new HashMap<>();
+            for (int i = 0; i < 200; i++) {
+                builder.key("k" + i, NAME);
+                valid.put("k" + i, "John");
+            }
+            MapSchema<String, Object, String> schema = builder.closed(() -> "unknown").build();
+            Map<String, Object> invalid = new HashMap<>(valid);
+            invalid.put("k42", "Jo");
+            invalid.put("x", "John");
+
+            assertAll(
+                () -> assertThat(schema.validate(valid).isValid()).isTrue(),
+                () -> assertThat(schema.validate(invalid).getErrors("k42")).containsExactly("length"),
+                () -> assertThat(schema.validate(invalid).getErrors("x")).containsExactly("unknown"));
+        }
+
+        @Test
+        @DisplayName("Throws if a key is declared twice")
+        void t4() {
+            assertThatThrownBy(() -> MapSchema.<String, Object, String> builder().key("name", NAME).key("name", AGE))
+                .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        @DisplayName("Describes the declared keys")
+        void t5() {
+            Descriptor descriptor = this.schema.descriptor();
+
+            assertAll(
+                () -> assertThat(descriptor.getKind()).isEqualTo(Descriptor.MAP_SCHEMA),
+                () -> assertThat(descriptor.getChildren()).extracting(d -> d.getKey().get()).containsExactly("name", "age"));
+        }
+
+        @Test
+        @DisplayName("Reruns the validators of the changed keys only")
+        void t6() {
+            AtomicInteger runs = new AtomicInteger();
+            Validator<Object, Object, String> counted = v -> {
+                runs.incrementAndGet();
+                return NAME.apply(v).mapValue(s -> s);
+            };
+            MapSchema<String, Object, String> closed = MapSchema.<String, Object, String> builder()
+                .key("name", counted)
+                .key("city", counted)
+                .closed(k -> "unknown " + k)
+                .build();
+            ValidationResult<String, Map<String, Object>, Map<String, Object>> previous =
+                closed.validate(Map.of("name", "Jo", "city", "Li\u00e8ge"));
+            runs.set(0);
+            Map<String, Object> edited = Map.of("name", "Jo", "city", "", "zip", 4000);
+
+            ValidationResult<String, Map<String, Object>, Map<String, Object>> result =
+                closed.revalidate(previous, edited, vec(vec("city"), vec("zip")));
+
+            assertAll(
+                () -> assertThat(runs.get()).isEqualTo(1),
+                () -> assertThat(result).isEqualTo(closed.validate(edited)),
+                () -> assertThat(result._1().getChildren().get("name")).isSameAs(previous._1().getChildren().get("name")));
+        }
+
+    }
+
+}
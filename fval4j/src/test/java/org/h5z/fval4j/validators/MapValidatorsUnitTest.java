@@ -0,0 +1,119 @@
+package org.h5z.fval4j.validators;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.h5z.fval4j.Core.all;
+import static org.h5z.fval4j.Validators.gt;
+import static org.h5z.fval4j.validators.MapValidators.entries;
+import static org.h5z.fval4j.validators.MapValidators.kv;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.organicdesign.fp.StaticImports.vec;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import org.h5z.fval4j.Core.Validator;
+import org.h5z.fval4j.data.ValidationResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+public class MapValidatorsUnitTest {
+
+    @Nested
+    @DisplayName("entries")
+    class Entries {
+
+        Validator<Map<Integer, Integer>, Map<Integer, Integer>, String> validator =
+            entries(gt(0, () -> "key"), gt(0, () -> "value"));
+
+        @Test
+        @DisplayName("Reports the errors of the key and of the value of each entry at its key")
+        void t0() {
+            Map<Integer, Integer> kvs = Map.of(1, 1, -1, 1, 2, -2, -3, -3);
+
+            ValidationResult<String, Map<Integer, Integer>, Map<Integer, Integer>> result = validator.validate(kvs);
+
+            assertAll(
+                () -> assertThat(result.isValid()).isFalse(),
+                () -> assertThat(result.getErrors("-1")).containsExactly("key"),
+                () -> assertThat(result.getErrors("2")).containsExactly("value"),
+                () -> assertThat(result.getErrors("-3")).containsExactly("key", "value"),
+                () -> assertThat(result._1().getChildren()).hasSize(3),
+                () -> assertThat(result._3()).isNull());
+        }
+
+        @Test
+        @DisplayName("Returns the map itself if all of its entries are valid")
+        void t1() {
+            Map<Integer, Integer> kvs = Map.of(1, 1, 2, 2);
+
+            ValidationResult<String, Map<Integer, Integer>, Map<Integer, Integer>> result = validator.validate(kvs);
+
+            assertAll(
+                () -> assertThat(result.isValid()).isTrue(),
+                () -> assertThat(result._1().getChildren()).isEmpty(),
+                () -> assertThat(result._3()).isSameAs(kvs));
+        }
+
+        @Test
+        @DisplayName("Validates large maps in parallel")
+        void t2() {
+            Map<Integer, Integer> large = new HashMap<>();
+            for (int i = 0; i < 3 * MapValidators.PARALLEL_THRESHOLD; i++) {
+                large.put(i + 1, i % 1000 == 0 ? -i : i);
+            }
+
+            ValidationResult<String, Map<Integer, Integer>, Map<Integer, Integer>> result = validator.validate(large);
+
+            assertAll(
+                () -> assertThat(result._1().getChildren()).hasSize(25),
+                () -> assertThat(result.getErrors("1")).containsExactly("value"),
+                () -> assertThat(result.getErrors("1001")).containsExactly("value"),
+                () -> assertThat(result.getErrors("2")).isEmpty());
+        }
+
+    }
+
+    @Nested
+    @DisplayName("kv")
+    class Kv {
+
+        static final int FIELDS = 2000;
+
+        AtomicInteger runs = new AtomicInteger();
+
+        Validator<Integer, Integer, String> positive = v -> {
+            runs.incrementAndGet();
+            return v > 0 ? ValidationResult.valid(v, v) : ValidationResult.invalid(v, "positive");
+        };
+
+        Validator<Map<String, Integer>, Integer, String> document = all(
+            IntStream.range(0, FIELDS).mapToObj(i -> kv("f" + i, positive)).toList());
+
+        @Test
+        @DisplayName("Reruns the validators of the changed keys only")
+        void t0() {
+            Map<String, Integer> fields = new HashMap<>();
+            for (int i = 0; i < FIELDS; i++) {
+                fields.put("f" + i, i % 10 == 0 ? -1 : 1);
+            }
+            ValidationResult<String, Map<String, Integer>, Integer> previous = document.validate(fields);
+            runs.set(0);
+            Map<String, Integer> edited = new HashMap<>(fields);
+            edited.put("f42", -1);
+
+            ValidationResult<String, Map<String, Integer>, Integer> result =
+                document.revalidate(previous, edited, vec(vec("f42")));
+
+            assertAll(
+                () -> assertThat(runs.get()).isEqualTo(1),
+                () -> assertThat(result).isEqualTo(document.validate(edited)),
+                () -> assertThat(result.getErrors("f42")).containsExactly("positive"),
+                () -> assertThat(result._1().getChildren().get("f0")).isSameAs(previous._1().getChildren().get("f0")));
+        }
+
+    }
+
+}
@@ -0,0 +1,86 @@
+package org.h5z.fval4j.validators;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.h5z.fval4j.Core.any;
+import static org.h5z.fval4j.Validators.gt;
+import static org.h5z.fval4j.Validators.lengthBetween;
+import static org.h5z.fval4j.validators.ObjectValidators.a;
+import static org.h5z.fval4j.validators.ObjectValidators.typeSwitch;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.h5z.fval4j.Core.Validator;
+import org.h5z.fval4j.Descriptor;
+import org.h5z.fval4j.data.ValidationResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+public class ObjectValidatorsUnitTest {
+
+    @Nested
+    @DisplayName("typeSwitch")
+    class TypeSwitch {
+
+        Map<Class<?>, Validator<?, ?, String>> cases() {
+            Map<Class<?>, Validator<?, ?, String>> cases = new LinkedHashMap<>();
+            cases.put(String.class, lengthBetween(3, 16, () -> "length"));
+            cases.put(Integer.class, gt(0, () -> "gt0"));
+            cases.put(List.class, (Validator<List<?>, List<?>, String>) l -> ValidationResult.valid(l, l));
+            return cases;
+        }
+
+        @Test
+        @DisplayName("Applies the validator of the class of the object")
+        void t0() {
+            Validator<Object, Object, String> validator = typeSwitch(this.cases(), () -> "type");
+
+            assertAll(
+                () -> assertThat(validator.validate("John").isValid()).isTrue(),
+                () -> assertThat(validator.validate("Jo").getErrors()).containsExactly("length"),
+                () -> assertThat(validator.validate(0).getErrors()).containsExactly("gt0"),
+                () -> assertThat(validator.validate(1)._3()).isEqualTo(1));
+        }
+
+        @Test
+        @DisplayName("Applies the validator of a supertype of the class of the object")
+        void t1() {
+            Validator<Object, Object, String> validator = typeSwitch(this.cases(), () -> "type");
+
+            assertAll(
+                () -> assertThat(validator.validate(new ArrayList<>()).isValid()).isTrue(),
+                () -> assertThat(validator.validate(List.of(1)).isValid()).isTrue());
+        }
+
+        @Test
+        @DisplayName("Returns the same error as a for unmatched types")
+        void t2() {
+            Validator<Object, Object, String> validator = typeSwitch(this.cases(), o -> "type " + o);
+            Validator<Object, String, String> alternatives = any(
+                a(String.class, lengthBetween(3, 16, () -> "length"), o -> "type " + o),
+                a(Integer.class, lengthBetween(3, 16, () -> "length"), o -> "type " + o));
+
+            assertAll(
+                () -> assertThat(validator.validate(4.2).getErrors())
+                        .isEqualTo(alternatives.validate(4.2).getErrors()),
+                () -> assertThat(validator.validate(null).getErrors()).containsExactly("type null"));
+        }
+
+        @Test
+        @DisplayName("Describes the cases")
+        void t3() {
+            Descriptor descriptor = typeSwitch(this.cases(), () -> "type").descriptor();
+
+            assertAll(
+                () -> assertThat(descriptor.getKind()).isEqualTo(Descriptor.TYPE_SWITCH),
+                () -> assertThat(descriptor.getParams()).containsExactly(String.class, Integer.class, List.class),
+                () -> assertThat(descriptor.getChildren()).hasSize(3));
+        }
+
+    }
+
+}
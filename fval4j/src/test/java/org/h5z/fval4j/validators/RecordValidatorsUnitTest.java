@@ -0,0 +1,124 @@
+package org.h5z.fval4j.validators;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.h5z.fval4j.Core.all;
+import static org.h5z.fval4j.Core.keyed;
+import static org.h5z.fval4j.Core.optional;
+import static org.h5z.fval4j.Core.prop;
+import static org.h5z.fval4j.Core.required;
+import static org.h5z.fval4j.Validators.gt;
+import static org.h5z.fval4j.Validators.lengthBetween;
+import static org.h5z.fval4j.validators.RecordValidators.forClass;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.h5z.fval4j.Core.Validator;
+import org.h5z.fval4j.Descriptor;
+import org.h5z.fval4j.Validators;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+public class RecordValidatorsUnitTest {
+
+    private record Person(String name, int age) {}
+
+    public static final class Bean {
+
+        private final String name;
+        private final boolean active;
+
+        Bean(String name, boolean active) {
+            this.name = name;
+            this.active = active;
+        }
+
+        public String getName() {
+            return this.name;
+        }
+
+        public boolean isActive() {
+            return this.active;
+        }
+
+    }
+
+    @Nested
+    @DisplayName("forClass")
+    class ForClass {
+
+        Map<String, Validator<?, ?, String>> rules() {
+            Map<String, Validator<?, ?, String>> rules = new LinkedHashMap<>();
+            rules.put("name", required(lengthBetween(3, 16, () -> "length"), () -> "required"));
+            rules.put("age", required(gt(17, () -> "adult"), () -> "required"));
+            return rules;
+        }
+
+        @Test
+        @DisplayName("Returns the same results as the equivalent composition")
+        void t0() {
+            Validator<Person, Person, String> derived = forClass(Person.class, this.rules());
+            Validator<Person, Integer, String> manual = all(
+                keyed("name", prop(Person::name, required(lengthBetween(3, 16, () -> "length"), () -> "required"))),
+                keyed("age", prop(Person::age, required(gt(17, () -> "adult"), () -> "required"))),
+                (n, a) -> a);
+
+            assertAll(
+                () -> assertThat(derived.validate(new Person(null, 3))._1())
+                        .isEqualTo(manual.validate(new Person(null, 3))._1()),
+                () -> assertThat(derived.validate(new Person("Jo", 18))._1())
+                        .isEqualTo(manual.validate(new Person("Jo", 18))._1()),
+                () -> assertThat(derived.validate(new Person("John", 18))._1())
+                        .isEqualTo(manual.validate(new Person("John", 18))._1()));
+        }
+
+        @Test
+        @DisplayName("Returns the validated value if valid")
+        void t1() {
+            Person john = new Person("John", 42);
+
+            assertAll(
+                () -> assertThat(forClass(Person.class, this.rules()).validate(john)._3()).isSameAs(john),
+                () -> assertThat(forClass(Person.class, this.rules()).validate(new Person("John", 3))._3()).isNull());
+        }
+
+        @Test
+        @DisplayName("Reads the properties of beans from their getters")
+        void t2() {
+            Map<String, Validator<?, ?, String>> rules = new LinkedHashMap<>();
+            rules.put("name", optional(lengthBetween(3, 16, () -> "length")));
+            rules.put("active", Validators.<Boolean, String> equals(Boolean.TRUE, () -> "inactive"));
+            Validator<Bean, Bean, String> validator = forClass(Bean.class, rules);
+
+            assertAll(
+                () -> assertThat(validator.validate(new Bean("John", true)).isValid()).isTrue(),
+                () -> assertThat(validator.validate(new Bean("Jo", false))._1().getErrors("active"))
+                        .containsExactly("inactive"),
+                () -> assertThat(validator.validate(new Bean("Jo", false))._1().getErrors("name"))
+                        .containsExactly("length"));
+        }
+
+        @Test
+        @DisplayName("Throws if a rule does not match a property")
+        void t3() {
+            assertThatThrownBy(() -> forClass(Person.class, Map.of("email", optional(lengthBetween(3, 16, () -> "length")))))
+                .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        @DisplayName("Describes the derived validator")
+        void t4() {
+            Descriptor descriptor = forClass(Person.class, this.rules()).descriptor();
+
+            assertAll(
+                () -> assertThat(descriptor.getKind()).isEqualTo(Descriptor.RECORD),
+                () -> assertThat(descriptor.getParams()).containsExactly(Person.class),
+                () -> assertThat(descriptor.getChildren().get(0).getChildren()).hasSize(2));
+        }
+
+    }
+
+}
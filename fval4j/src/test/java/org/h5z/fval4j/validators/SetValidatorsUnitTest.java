@@ -0,0 +1,93 @@
+package org.h5z.fval4j.validators;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.h5z.fval4j.Validators.gt;
+import static org.h5z.fval4j.validators.SetValidators.set;
+import static org.h5z.fval4j.validators.SetValidators.sizeBetween;
+import static org.h5z.fval4j.validators.SetValidators.uniqueBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.h5z.fval4j.Core.Validator;
+import org.h5z.fval4j.DefaultErrors.ValidationError;
+import org.h5z.fval4j.data.ValidationResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+public class SetValidatorsUnitTest {
+
+    @Nested
+    @DisplayName("set")
+    class SetTest {
+
+        @Test
+        @DisplayName("Reports the errors of each element at its key")
+        void t0() {
+            Validator<Set<Integer>, Set<Integer>, String> validator = set(gt(0, () -> "gt0"), i -> "n" + i);
+
+            ValidationResult<String, Set<Integer>, Set<Integer>> result = validator.validate(Set.of(1, -1, 2));
+
+            assertAll(
+                () -> assertThat(result.isValid()).isFalse(),
+                () -> assertThat(result.getErrors("n-1")).containsExactly("gt0"),
+                () -> assertThat(result.getErrors("n1")).isEmpty(),
+                () -> assertThat(result._3()).isNull(),
+                () -> assertThat(validator.validate(Set.of(1, 2))._3()).containsExactlyInAnyOrder(1, 2));
+        }
+
+        @Test
+        @DisplayName("Validates large sets in parallel")
+        void t1() {
+            Set<Integer> large = new HashSet<>();
+            for (int i = -10; i < 3 * SetValidators.PARALLEL_THRESHOLD; i++) {
+                large.add(i);
+            }
+
+            ValidationResult<String, Set<Integer>, Set<Integer>> result = set(gt(-1, () -> "gt"), (Integer i) -> i % 1000 + "").validate(large);
+
+            assertAll(
+                () -> assertThat(result._1().getChildren()).hasSize(1010),
+                () -> assertThat(result.getErrors("-5")).containsExactly("gt"),
+                () -> assertThat(result.getErrors("5")).isEmpty());
+        }
+
+    }
+
+    @Nested
+    @DisplayName("sizeBetween")
+    class SizeBetween {
+
+        @Test
+        @DisplayName("Checks the size of the set")
+        void t0() {
+            Validator<Set<Integer>, Set<Integer>, ValidationError> validator = org.h5z.fval4j.defaults.SetValidators.sizeBetween(1, 2);
+
+            assertAll(
+                () -> assertThat(validator.validate(Set.of(1)).isValid()).isTrue(),
+                () -> assertThat(validator.validate(Set.of()).isValid()).isFalse(),
+                () -> assertThat(sizeBetween(1, 2, () -> "size").validate(Set.of(1, 2, 3)).getErrors()).containsExactly("size"));
+        }
+
+    }
+
+    @Nested
+    @DisplayName("uniqueBy")
+    class UniqueBy {
+
+        @Test
+        @DisplayName("Reports each value shared by several elements once")
+        void t0() {
+            Validator<Set<String>, Set<String>, String> validator = uniqueBy(String::toLowerCase, k -> "duplicate " + k);
+
+            assertAll(
+                () -> assertThat(validator.validate(Set.of("a", "b")).isValid()).isTrue(),
+                () -> assertThat(validator.validate(Set.of("a", "A", "b", "B", "bB")).getErrors())
+                        .containsExactlyInAnyOrder("duplicate a", "duplicate b"));
+        }
+
+    }
+
+}